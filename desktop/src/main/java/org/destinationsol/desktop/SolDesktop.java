@@ -7,6 +7,7 @@
 import org.destinationsol.SolApplication;
 import org.destinationsol.SolFileReader;
 import org.destinationsol.game.DebugOptions;
+import org.destinationsol.game.replay.InputLog;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.crashreporter.CrashReporter;
@@ -26,6 +27,7 @@ public class SolDesktop {
     private static Logger logger = LoggerFactory.getLogger(SolDesktop.class);
 
     private static final String NO_CRASH_REPORT = "-noCrashReport";
+    private static final String REPLAY = "-replay";
 
     public static void main(String[] argv) {
         List<String> commandLineArgs = Arrays.asList(argv);
@@ -52,6 +54,25 @@ public static void main(String[] argv) {
             applicationConfig.fullscreen = d.fullscreen;
         }
 
+        String replayFileName = null;
+        int replayArgIdx = commandLineArgs.indexOf(REPLAY);
+        if (replayArgIdx >= 0 && replayArgIdx + 1 < commandLineArgs.size()) {
+            replayFileName = commandLineArgs.get(replayArgIdx + 1);
+            // The simulation depends on the screen proportions, so use the recorded ones. Replays run at full speed
+            try (DataInputStream in = new DataInputStream(new FileInputStream(replayFileName))) {
+                InputLog.Header header = InputLog.Header.read(in);
+                applicationConfig.width = header.width;
+                applicationConfig.height = header.height;
+                applicationConfig.fullscreen = false;
+            } catch (IOException e) {
+                logger.error("Could not read the recorded session " + replayFileName, e);
+                return;
+            }
+            applicationConfig.vSyncEnabled = false;
+            applicationConfig.foregroundFPS = 0;
+            applicationConfig.backgroundFPS = 0;
+        }
+
         applicationConfig.title = "Destination Sol";
         if (DebugOptions.DEV_ROOT_PATH == null) {
             applicationConfig.addIcon("src/main/resources/icon.png", Files.FileType.Internal);
@@ -78,7 +99,7 @@ public static void main(String[] argv) {
             });
         }
 
-        new LwjglApplication(new SolApplication(), applicationConfig);
+        new LwjglApplication(new SolApplication(replayFileName), applicationConfig);
     }
 
     private static class MyReader implements SolFileReader {
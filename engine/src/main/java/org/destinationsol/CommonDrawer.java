@@ -18,7 +18,9 @@
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -27,9 +29,12 @@
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.ui.GlyphLayoutCache;
 import org.destinationsol.ui.UiDrawer;
 
 public class CommonDrawer {
+    private static final int MAX_CACHED_LAYOUTS = 256;
+
     public final float width;
     public final float height;
     public final float dimensionsRatio;
@@ -37,7 +42,7 @@ public class CommonDrawer {
     private final SpriteBatch spriteBatch;
     private final BitmapFont font;
     private final float originalFontHeight;
-    private final GlyphLayout layout;
+    private final GlyphLayoutCache layoutCache;
 
     CommonDrawer() {
         width = Gdx.graphics.getWidth();
@@ -49,13 +54,20 @@ public class CommonDrawer {
 
         originalFontHeight = font.getXHeight();
 
-        layout = new GlyphLayout();
+        layoutCache = new GlyphLayoutCache(font, MAX_CACHED_LAYOUTS);
     }
 
     public void setMatrix(Matrix4 matrix) {
         spriteBatch.setProjectionMatrix(matrix);
     }
 
+    /**
+     * Sets the transform applied to everything drawn from now on, this flushes the batch.
+     */
+    public void setTransform(Matrix4 transform) {
+        spriteBatch.setTransformMatrix(transform);
+    }
+
     public void begin() {
         spriteBatch.begin();
     }
@@ -73,28 +85,49 @@ public void drawString(String s, float x, float y, float fontSize, UiDrawer.Text
             return;
         }
 
-        font.setColor(col);
+        GlyphLayout layout = layOut(s, fontSize, col);
+        font.draw(spriteBatch, layout, alignX(layout, x, align), alignY(layout, y, verticalCentering));
+    }
+
+    /**
+     * @return a cache for text that is drawn the same way every frame, see {@link #cacheString}
+     */
+    public BitmapFontCache newFontCache() {
+        return new BitmapFontCache(font, font.usesIntegerPositions());
+    }
+
+    /**
+     * Puts the vertices of the string into the cache, so that it can be drawn with {@link #drawCachedString} until it
+     * changes. Takes the same parameters as {@link #drawString(String, float, float, float, UiDrawer.TextAlignment, boolean, Color)}.
+     */
+    public void cacheString(BitmapFontCache cache, String s, float x, float y, float fontSize, UiDrawer.TextAlignment align,
+                            boolean verticalCentering, Color col) {
+        GlyphLayout layout = layOut(s, fontSize, col);
+        cache.setText(layout, alignX(layout, x, align), alignY(layout, y, verticalCentering));
+    }
+
+    public void drawCachedString(BitmapFontCache cache) {
+        cache.draw(spriteBatch);
+    }
+
+    private GlyphLayout layOut(String s, float fontSize, Color col) {
         font.getData().setScale(fontSize / originalFontHeight);
-        // http://www.badlogicgames.com/wordpress/?p=3658
-        layout.reset();
-        layout.setText(font, s);
+        return layoutCache.get(s, fontSize, col);
+    }
 
+    private float alignX(GlyphLayout layout, float x, UiDrawer.TextAlignment align) {
         switch (align) {
-            case LEFT:
-                break;
             case CENTER:
-                x -= layout.width / 2;
-                break;
+                return x - layout.width / 2;
             case RIGHT:
-                x -= layout.width;
-                break;
-        }
-
-        if (verticalCentering) {
-            y -= layout.height / 2;
+                return x - layout.width;
+            default:
+                return x;
         }
+    }
 
-        font.draw(spriteBatch, layout, x, y);
+    private float alignY(GlyphLayout layout, float y, boolean verticalCentering) {
+        return verticalCentering ? y - layout.height / 2 : y;
     }
 
     public void draw(TextureRegion tr, float width, float height, float origX, float origY, float x, float y,
@@ -111,13 +144,16 @@ public void draw(TextureRegion tex, Rectangle rect, Color tint) {
         draw(tex, rect.width, rect.height, (float) 0, (float) 0, rect.x, rect.y, (float) 0, tint);
     }
 
+    /**
+     * Draws sprite vertices prepared in advance, in the format used by {@link SpriteBatch}
+     */
+    public void drawVertices(Texture texture, float[] vertices, int offset, int count) {
+        spriteBatch.draw(texture, vertices, offset, count);
+    }
+
     public void drawCircle(TextureRegion tex, Vector2 center, float radius, Color col, float width, float vh) {
-        float relRad = radius / vh;
-        int pointCount = (int) (160 * relRad);
+        int pointCount = getCirclePointCount(radius, vh);
         Vector2 position = SolMath.getVec();
-        if (pointCount < 8) {
-            pointCount = 8;
-        }
         float lineLen = radius * SolMath.PI * 2 / pointCount;
         float angleStep = 360f / pointCount;
         float angleStepH = angleStep / 2;
@@ -130,6 +166,18 @@ public void drawCircle(TextureRegion tex, Vector2 center, float radius, Color co
         SolMath.free(position);
     }
 
+    /**
+     * @return the number of line segments a circle of the given radius is drawn with, at the given view height
+     */
+    public static int getCirclePointCount(float radius, float vh) {
+        float relRad = radius / vh;
+        int pointCount = (int) (160 * relRad);
+        if (pointCount < 8) {
+            pointCount = 8;
+        }
+        return pointCount;
+    }
+
     public void drawLine(TextureRegion tex, float x, float y, float angle, float len, Color col, float width) {
         draw(tex, len, width, 0, width / 2, x, y, angle, col);
     }
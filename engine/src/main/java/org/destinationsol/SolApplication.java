@@ -23,9 +23,14 @@
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
+import org.destinationsol.game.AllocationTracker;
 import org.destinationsol.game.DebugOptions;
 import org.destinationsol.game.SaveManager;
 import org.destinationsol.game.SolGame;
+import org.destinationsol.game.replay.InputLog;
+import org.destinationsol.game.replay.InputRecorder;
+import org.destinationsol.game.replay.InputReplayer;
+import org.destinationsol.game.replay.TickTimings;
 import org.destinationsol.game.sound.OggMusicManager;
 import org.destinationsol.game.sound.OggSoundManager;
 import org.destinationsol.menu.MenuScreens;
@@ -37,8 +42,11 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.SimpleDateFormat;
+import java.util.Date;
 
 public class SolApplication implements ApplicationListener {
     private static final Logger logger = LoggerFactory.getLogger(SolApplication.class);
@@ -64,7 +72,20 @@ public class SolApplication implements ApplicationListener {
     private float timeAccumulator = 0;
     private boolean isMobile;
 
+    private InputRecorder inputRecorder;
+    private final String replayFileName;
+    private InputReplayer inputReplayer;
+    private TickTimings replayTimings;
+
     public SolApplication() {
+        this(null);
+    }
+
+    /**
+     * @param replayFileName A recorded session to replay instead of showing the menu, or null to play normally
+     */
+    public SolApplication(String replayFileName) {
+        this.replayFileName = replayFileName;
         // Initiate Box2D to make sure natives are loaded early enough
         Box2D.init();
     }
@@ -94,6 +115,10 @@ public void create() {
         menuScreens = new MenuScreens(layouts, isMobile(), uiDrawer.r, options);
 
         inputManager.setScreen(this, menuScreens.main);
+
+        if (replayFileName != null) {
+            startReplay();
+        }
     }
 
     @Override
@@ -101,6 +126,11 @@ public void resize(int newWidth, int newHeight) {
     }
 
     public void render() {
+        if (replayTimings != null) {
+            replayTick();
+            return;
+        }
+
         timeAccumulator += Gdx.graphics.getDeltaTime();
 
         while (timeAccumulator > Const.REAL_TIME_STEP) {
@@ -147,7 +177,9 @@ private void update() {
             DebugCollector.debug("Fps", Gdx.graphics.getFramesPerSecond());
         }
 
-        inputManager.update(this);
+        if (inputReplayer == null) {
+            inputManager.update(this);
+        }
 
         if (solGame != null) {
             solGame.update();
@@ -195,6 +227,13 @@ public void play(boolean tut, String shipName, boolean isNewGame) {
         } else {
             beforeLoadGame();
         }
+        SolRandom.setRandomSeed(System.nanoTime());
+        // Loaded games depend on the save files, so only new ones can be replayed
+        if (isNewGame && DebugOptions.RECORD_INPUTS) {
+            String fileName = SaveManager.getResourcePath("session-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + InputLog.FILE_EXTENSION);
+            InputLog.Header header = InputLog.Header.capture(options, shipName, tut, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+            inputRecorder = new InputRecorder(fileName, header);
+        }
 
         solGame = new SolGame(this, shipName, tut, isNewGame, commonDrawer);
         inputManager.setScreen(this, solGame.getScreens().mainScreen);
@@ -212,9 +251,11 @@ public MenuScreens getMenuScreens() {
     public void dispose() {
         commonDrawer.dispose();
 
-        if (solGame != null) {
+        // A replay must not overwrite the player's saves
+        if (solGame != null && replayFileName == null) {
             solGame.onGameEnd();
         }
+        stopRecording();
 
         inputManager.dispose();
     }
@@ -230,9 +271,103 @@ public SolLayouts getLayouts() {
     public void finishGame() {
         solGame.onGameEnd();
         solGame = null;
+        stopRecording();
         inputManager.setScreen(this, menuScreens.main);
     }
 
+    /**
+     * @return the recorder of the current session, null if it isn't recorded
+     */
+    public InputRecorder getInputRecorder() {
+        return inputRecorder;
+    }
+
+    public InputReplayer getInputReplayer() {
+        return inputReplayer;
+    }
+
+    private void stopRecording() {
+        if (inputRecorder != null) {
+            inputRecorder.close();
+            inputRecorder = null;
+        }
+    }
+
+    private void startReplay() {
+        InputReplayer replayer;
+        try {
+            replayer = new InputReplayer(replayFileName);
+        } catch (IOException e) {
+            logger.error("Could not read the recorded session " + replayFileName + ", " + e.getMessage());
+            Gdx.app.exit();
+            return;
+        }
+        replayTimings = new TickTimings();
+        logger.info("Replaying " + replayFileName);
+        startReplayedGame(replayer);
+    }
+
+    /**
+     * Starts a new game whose hero is steered by a recorded session. Outside of the replay mode its ticks are up to
+     * the caller, which runs {@link InputReplayer#startTick(SolGame)} before every {@link SolGame#update()}.
+     */
+    public void startReplayedGame(InputReplayer replayer) {
+        if (solGame != null) {
+            throw new AssertionError("Starting a new game with unfinished current one");
+        }
+
+        inputReplayer = replayer;
+        InputLog.Header header = replayer.getHeader();
+        header.apply(options);
+        solGame = new SolGame(this, header.shipName, header.tutorial, true, commonDrawer);
+    }
+
+    /**
+     * Ends a game started by {@link #startReplayedGame(InputReplayer)}, without overwriting the player's saves.
+     */
+    public void finishReplayedGame() {
+        solGame.dispose();
+        solGame = null;
+        inputReplayer = null;
+        inputManager.setScreen(this, menuScreens.main);
+    }
+
+    /**
+     * Runs a single recorded tick, as fast as possible and without drawing anything.
+     */
+    private void replayTick() {
+        if (inputReplayer.isFinished()) {
+            return;
+        }
+        try {
+            if (!inputReplayer.startTick(solGame)) {
+                finishReplay();
+                return;
+            }
+        } catch (IOException e) {
+            logger.error("Could not read the recorded session " + replayFileName + ", " + e.getMessage());
+            finishReplay();
+            return;
+        }
+        long startBytes = AllocationTracker.getAllocatedBytes();
+        long start = System.nanoTime();
+        update();
+        long nanos = System.nanoTime() - start;
+        long allocatedBytes = startBytes < 0 ? -1 : AllocationTracker.getAllocatedBytes() - startBytes;
+        replayTimings.add(nanos, allocatedBytes);
+    }
+
+    private void finishReplay() {
+        String fileName = replayFileName + ".timings.csv";
+        try {
+            replayTimings.write(fileName);
+        } catch (IOException e) {
+            logger.error("Could not write the tick timings, " + e.getMessage());
+        }
+        logger.info("Replay finished: " + replayTimings.getSummary() + ", tick timings written to " + fileName);
+        Gdx.app.exit();
+    }
+
     public boolean isMobile() {
         return DebugOptions.EMULATE_MOBILE || isMobile;
     }
@@ -271,6 +406,11 @@ private void beforeLoadGame() {
 
             logger.info("Got seed: " + String.valueOf(seed));
 
+            // The player has confirmed this on the new game screen, the save is from now on for the current generator
+            if (SaveManager.isWorldFromOlderGenerator()) {
+                logger.warn("Continuing a world saved with an older generator, the seed makes a different galaxy");
+            }
+
             SolRandom.setSeed(seed);
         }
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.common;
+
+/**
+ * Table driven trigonometry in degrees, for the per object updates that don't need {@link Math} precision. The tables
+ * are interpolated linearly, which keeps them small and the error bounded:
+ * <ul>
+ * <li>{@link #sin(float)} and {@link #cos(float)} are off by at most {@link #SIN_MAX_ERROR} from {@link Math#sin(double)}
+ * of the same angle, where the libGDX tables can be off by 2e-4,</li>
+ * <li>{@link #atan2(float, float)} is off by at most {@link #ATAN2_MAX_ERROR} degrees from {@link Math#atan2(double, double)}.</li>
+ * </ul>
+ * The results only depend on the arguments, so they are the same on every machine and the functions are safe to call
+ * from any thread.
+ */
+public class FastMath {
+    /**
+     * The largest difference between {@link #sin(float)} or {@link #cos(float)} and the exact sin or cos of the float
+     * angle. Angles beyond a couple of turns are reduced to one turn first, exactly, so the bound holds for any finite
+     * angle, like the ever growing one of a spinning sprite.
+     */
+    public static final float SIN_MAX_ERROR = 1e-6f;
+    /**
+     * The largest difference in degrees between {@link #atan2(float, float)} and the exact value, most of it is the
+     * rounding of the result to a float.
+     */
+    public static final float ATAN2_MAX_ERROR = 2e-5f;
+
+    private static final int SIN_COUNT = 4096;
+    private static final int SIN_MASK = SIN_COUNT - 1;
+    private static final float DEG_TO_SIN_INDEX = SIN_COUNT / 360f;
+    private static final int ATAN_COUNT = 1024;
+
+    // one more entry than steps, so that the interpolation never needs to wrap
+    private static final float[] SIN = new float[SIN_COUNT + 1];
+    private static final float[] ATAN = new float[ATAN_COUNT + 1];
+
+    static {
+        for (int i = 0; i <= SIN_COUNT; i++) {
+            SIN[i] = (float) Math.sin(i * 2 * Math.PI / SIN_COUNT);
+        }
+        for (int i = 0; i <= ATAN_COUNT; i++) {
+            ATAN[i] = (float) Math.toDegrees(Math.atan((double) i / ATAN_COUNT));
+        }
+    }
+
+    private FastMath() {
+    }
+
+    /**
+     * @return sin of an angle in degrees, see {@link #SIN_MAX_ERROR}
+     */
+    public static float sin(float degrees) {
+        float index = toSinIndex(degrees);
+        int floor = (int) index;
+        if (index < floor) {
+            floor--;
+        }
+        return interpolateSin(floor & SIN_MASK, index - floor);
+    }
+
+    /**
+     * @return cos of an angle in degrees, see {@link #SIN_MAX_ERROR}
+     */
+    public static float cos(float degrees) {
+        float index = toSinIndex(degrees);
+        int floor = (int) index;
+        if (index < floor) {
+            floor--;
+        }
+        // cos is sin a quarter turn ahead, which is a whole number of table steps
+        return interpolateSin((floor + SIN_COUNT / 4) & SIN_MASK, index - floor);
+    }
+
+    private static float toSinIndex(float degrees) {
+        if (720 < degrees || degrees < -720) {
+            // the remainder is exact, while the rounding of a large index would grow with the angle and its int cast
+            // would saturate; infinities and NaN give NaN
+            degrees %= 360;
+        }
+        return degrees * DEG_TO_SIN_INDEX;
+    }
+
+    private static float interpolateSin(int index, float fraction) {
+        float from = SIN[index];
+        return from + (SIN[index + 1] - from) * fraction;
+    }
+
+    /**
+     * @return the angle of the vector (x, y) in degrees, from -180 to 180, see {@link #ATAN2_MAX_ERROR}. 0 for the zero
+     * vector, like {@link Math#atan2(double, double)}
+     */
+    public static float atan2(float y, float x) {
+        float absX = x < 0 ? -x : x;
+        float absY = y < 0 ? -y : y;
+        boolean steep = absX < absY;
+        float ratio = steep ? absX / absY : absY / absX;
+        if (ratio != ratio) {
+            // the zero vector gives 0 / 0, NaN gets through as NaN
+            return x == 0 && y == 0 ? 0 : Float.NaN;
+        }
+        float index = ratio * ATAN_COUNT;
+        int floor = (int) index;
+        float from = ATAN[floor];
+        float angle = floor == ATAN_COUNT ? from : from + (ATAN[floor + 1] - from) * (index - floor);
+        if (steep) {
+            angle = 90 - angle;
+        }
+        if (x < 0) {
+            angle = 180 - angle;
+        }
+        return y < 0 ? -angle : angle;
+    }
+
+    /**
+     * Rotates the first count points by an angle in degrees around the origin, in place.
+     */
+    public static void rotate(float[] xs, float[] ys, int count, float degrees) {
+        float cos = cos(degrees);
+        float sin = sin(degrees);
+        for (int i = 0; i < count; i++) {
+            float x = xs[i];
+            float y = ys[i];
+            xs[i] = x * cos - y * sin;
+            ys[i] = x * sin + y * cos;
+        }
+    }
+
+    /**
+     * Writes the angles of the first count vectors (xs[i], ys[i]) to angles, see {@link #atan2(float, float)}.
+     */
+    public static void atan2(float[] ys, float[] xs, float[] angles, int count) {
+        for (int i = 0; i < count; i++) {
+            angles[i] = atan2(ys[i], xs[i]);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.common;
+
+import java.util.List;
+
+/**
+ * A small, splittable random generator (SplitMix64) for the parts of the world generation that need their own
+ * reproducible sequence of numbers, see {@link SolRandom#stream(SolRandom.Domain, long)}.
+ * <p>
+ * The whole state is a single long, so a stream can be reset to a new seed instead of allocating a new one.
+ * Not thread safe, but independent streams can be used from different threads.
+ */
+public class RandomStream {
+    static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    public RandomStream(long seed) {
+        state = seed;
+    }
+
+    public void reset(long seed) {
+        state = seed;
+    }
+
+    /**
+     * Creates a new stream, independent of this one and of the ones split from it before.
+     */
+    public RandomStream split() {
+        return new RandomStream(nextLong());
+    }
+
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix(state);
+    }
+
+    /**
+     * Returns a random float v such that 0 <= v < 1
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * Returns a random int v such that 0 <= v < bound
+     *
+     * @param bound The upper bound (exclusive), must be positive.
+     */
+    public int nextInt(int bound) {
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * Returns a random float v such that -minMax <= v < minMax
+     */
+    public float randomFloat(float minMax) {
+        return randomFloat(-minMax, minMax);
+    }
+
+    /**
+     * Returns a random float v such that min <= v < max
+     */
+    public float randomFloat(float min, float max) {
+        return nextFloat() * (max - min) + min;
+    }
+
+    /**
+     * Returns a random int v such that 0 <= v < max
+     */
+    public int randomInt(int max) {
+        return nextInt(max);
+    }
+
+    /**
+     * Returns a random int v such that min <= v < max
+     */
+    public int randomInt(int min, int max) {
+        return nextInt(max - min) + min;
+    }
+
+    public <T> T randomElement(List<T> list) {
+        return list.get(nextInt(list.size()));
+    }
+
+    /**
+     * Returns a random boolean value with unequal probabilities.
+     *
+     * @param value the probability of returning true.
+     */
+    public boolean test(float value) {
+        return nextFloat() < value;
+    }
+
+    /**
+     * Scrambles the bits of the value, so that close values give unrelated results.
+     */
+    static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -173,17 +173,17 @@ public static Vector2 getVec() {
     }
 
     /**
-     * @return approximate cos of a degrees
+     * @return approximate cos of a degrees, see {@link FastMath#SIN_MAX_ERROR}
      */
     public static float cos(float a) {
-        return MathUtils.cosDeg(a);
+        return FastMath.cos(a);
     }
 
     /**
-     * @return approximate sin of a degrees
+     * @return approximate sin of a degrees, see {@link FastMath#SIN_MAX_ERROR}
      */
     public static float sin(float a) {
-        return MathUtils.sinDeg(a);
+        return FastMath.sin(a);
     }
 
     /**
@@ -226,7 +226,8 @@ public static void toRel(Vector2 position, Vector2 relPos, float baseAngle, Vect
     }
 
     /**
-     * rotates a vector to an angle. if not precise, works faster, but the actual angle might slightly differ from the given one
+     * rotates a vector to an angle. if not precise, works faster, but the actual angle might slightly differ from the given one.
+     * The precise version goes through {@link Math}, the fast one through the {@link FastMath} tables.
      */
     public static void rotate(Vector2 v, float angle, boolean precise) {
         if (precise) {
@@ -287,7 +288,8 @@ public static float angle(Vector2 from, Vector2 to, boolean precise) {
     }
 
     /**
-     * @return angle of a vector. if not precise, approximation is returned.
+     * @return angle of a vector. if not precise, approximation is returned, see {@link FastMath#ATAN2_MAX_ERROR}.
+     * The precise angle is from 0 to 360, the approximation from -180 to 180.
      * (1, 0) is right and 0 degrees
      * (0, 1) is down and 90 degrees
      * (-1, 0) is left and 180 degrees
@@ -297,7 +299,7 @@ public static float angle(Vector2 v, boolean precise) {
         if (precise) {
             return v.angle();
         } else {
-            return MathUtils.atan2(v.y, v.x) * radDeg;
+            return FastMath.atan2(v.y, v.x);
         }
     }
 
@@ -4,13 +4,25 @@
 import java.util.Random;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
 
 public class SolRandom {
+    /**
+     * The version of the world generation, saved with the world seed. A seed only regenerates the same world with the
+     * same version: version 1, the seeded random drawn in generation order, is no longer available, so a world saved
+     * with it is a different galaxy when the game is continued. The new game screen asks the player before continuing
+     * such a save.
+     */
+    public static final int WORLD_GENERATOR_VERSION = 2;
+
     // Seeded random is for deterministic processes
     private static long seed;
     private static Random seededRandom = new Random(seed);
     
-    private static Random random = new Random();
+    // Unseeded random is for everything else. It can still be reset from a known seed on every tick, so that a
+    // recorded session plays out the same way when replayed
+    private static long randomSeed = System.nanoTime();
+    private static Random random = new Random(randomSeed);
     
     /**
      * Returns a seeded random float v such that -minMax <= v < minMax
@@ -161,6 +173,57 @@ public static void setSeed(long seed) {
         seededRandom = new Random(seed);
     }
 
+    /**
+     * Sets the seed the unseeded random starts from and is reset from on every tick, see {@link #startTick(long)}.
+     */
+    public static void setRandomSeed(long seed) {
+        randomSeed = seed;
+        random.setSeed(seed);
+    }
+
+    public static long getRandomSeed() {
+        return randomSeed;
+    }
+
+    /**
+     * Resets the unseeded random to a state depending only on the random seed and the tick. The random numbers drawn
+     * during a tick then don't depend on how many were drawn between the ticks, e.g. by the frames drawn in between.
+     *
+     * @param tick The number of the game tick that starts
+     */
+    public static void startTick(long tick) {
+        random.setSeed(RandomStream.mix(randomSeed + tick * RandomStream.GOLDEN_GAMMA));
+    }
+
+    /**
+     * Creates a random stream for a part of the world, see {@link #streamSeed(Domain, long)}.
+     */
+    public static RandomStream stream(Domain domain, long key) {
+        return new RandomStream(streamSeed(domain, key));
+    }
+
+    /**
+     * Returns the seed of the random stream for a part of the world. It depends only on the world seed, the domain
+     * and the key, so the part is generated the same no matter when or in which order the parts are generated.
+     * <p>
+     * The world seed of a game saved before the streams, when the whole world was drawn from one seeded random in
+     * generation order, makes a different galaxy now, see {@link #WORLD_GENERATOR_VERSION}.
+     *
+     * @param domain What is being generated
+     * @param key Which one of them, e.g. an index or {@link #positionKey(Vector2)}
+     */
+    public static long streamSeed(Domain domain, long key) {
+        long domainSeed = RandomStream.mix(seed + domain.id * RandomStream.GOLDEN_GAMMA);
+        return RandomStream.mix(domainSeed + key * RandomStream.GOLDEN_GAMMA);
+    }
+
+    /**
+     * A stream key for something identified by its (generated, thus reproducible) position.
+     */
+    public static long positionKey(Vector2 position) {
+        return ((long) Float.floatToIntBits(position.x) << 32) | (Float.floatToIntBits(position.y) & 0xFFFFFFFFL);
+    }
+
     /**
      * Gets the seed currently in use
      *
@@ -188,4 +251,23 @@ public static boolean seededTest(float value) {
         return seededRandomFloat(0, 1) < value;
     }
 
+    /**
+     * The parts of the world generation that have their own random streams.
+     */
+    public enum Domain {
+        SYSTEMS(1),
+        GALAXY_FILLER(2),
+        MAZE(3),
+        GROUND(4),
+        CHUNK(5),
+        CHUNK_BACKGROUND(6),
+        PLANET(7);
+
+        // Kept explicit, so that reordering the domains doesn't change the generated worlds
+        private final long id;
+
+        Domain(long id) {
+            this.id = id;
+        }
+    }
 }
@@ -21,12 +21,10 @@
 import org.destinationsol.assets.json.Json;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.AbilityCommonConfigs;
-import org.destinationsol.game.GameColors;
 import org.destinationsol.game.item.Engine;
 import org.destinationsol.game.item.ItemManager;
 import org.destinationsol.game.particle.DSParticleEmitter;
 import org.destinationsol.game.particle.EffectConfig;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.ship.AbilityConfig;
 import org.destinationsol.game.ship.EmWave;
 import org.destinationsol.game.ship.KnockBack;
@@ -103,8 +101,8 @@ private HullConfig read(String shipName) {
 
         readProperties(json.getJsonValue(), configData);
 
-        configData.tex = Assets.getAtlasRegion(shipName);
-        configData.icon = Assets.getAtlasRegion(shipName + "Icon");
+        configData.tex = itemManager.getConfigRegistry().getAtlasRegion(shipName);
+        configData.icon = itemManager.getConfigRegistry().getAtlasRegion(shipName + "Icon");
 
         validateEngineConfig(configData);
 
@@ -138,7 +136,7 @@ private void parseParticleEmitterSlots(JsonValue containerNode, HullConfig.Data
             float angleOffset = particleEmitterSlotNode.getFloat("angleOffset", 0f);
             boolean hasLight = particleEmitterSlotNode.getBoolean("hasLight", false);
             JsonValue particleNode = particleEmitterSlotNode.get("particle");
-            EffectConfig effectConfig = EffectConfig.load(particleNode, new EffectTypes(), new GameColors());
+            EffectConfig effectConfig = EffectConfig.load(particleNode, itemManager.getConfigRegistry());
 
             configData.particleEmitters.add(new DSParticleEmitter(position, trigger, angleOffset, hasLight, effectConfig));
         }
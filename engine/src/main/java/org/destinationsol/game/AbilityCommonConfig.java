@@ -19,7 +19,6 @@
 import org.destinationsol.assets.audio.OggSound;
 import org.destinationsol.assets.audio.PlayableSound;
 import org.destinationsol.game.particle.EffectConfig;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.sound.OggSoundManager;
 
 public class AbilityCommonConfig {
@@ -31,8 +30,8 @@ public AbilityCommonConfig(EffectConfig effect, PlayableSound activatedSound) {
         this.activatedSound = activatedSound;
     }
 
-    public static AbilityCommonConfig load(JsonValue node, EffectTypes types, GameColors cols, OggSoundManager soundManager) {
-        EffectConfig ec = EffectConfig.load(node.get("effect"), types, cols);
+    public static AbilityCommonConfig load(JsonValue node, ConfigRegistry configRegistry, OggSoundManager soundManager) {
+        EffectConfig ec = EffectConfig.load(node.get("effect"), configRegistry);
         OggSound activatedSound = soundManager.getSound(node.getString("activatedSound"));
         return new AbilityCommonConfig(ec, activatedSound);
     }
@@ -18,7 +18,6 @@
 import com.badlogic.gdx.utils.JsonValue;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.json.Json;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.sound.OggSoundManager;
 
 public class AbilityCommonConfigs {
@@ -28,15 +27,15 @@ public class AbilityCommonConfigs {
     public final AbilityCommonConfig knockBack;
     public final AbilityCommonConfig sloMo;
 
-    public AbilityCommonConfigs(EffectTypes effectTypes, GameColors cols, OggSoundManager soundManager) {
+    public AbilityCommonConfigs(ConfigRegistry configRegistry, OggSoundManager soundManager) {
         Json json = Assets.getJson("core:abilitiesConfig");
         JsonValue rootNode = json.getJsonValue();
 
-        teleport = AbilityCommonConfig.load(rootNode.get("teleport"), effectTypes, cols, soundManager);
-        emWave = AbilityCommonConfig.load(rootNode.get("emWave"), effectTypes, cols, soundManager);
-        unShield = AbilityCommonConfig.load(rootNode.get("unShield"), effectTypes, cols, soundManager);
-        knockBack = AbilityCommonConfig.load(rootNode.get("knockBack"), effectTypes, cols, soundManager);
-        sloMo = AbilityCommonConfig.load(rootNode.get("sloMo"), effectTypes, cols, soundManager);
+        teleport = AbilityCommonConfig.load(rootNode.get("teleport"), configRegistry, soundManager);
+        emWave = AbilityCommonConfig.load(rootNode.get("emWave"), configRegistry, soundManager);
+        unShield = AbilityCommonConfig.load(rootNode.get("unShield"), configRegistry, soundManager);
+        knockBack = AbilityCommonConfig.load(rootNode.get("knockBack"), configRegistry, soundManager);
+        sloMo = AbilityCommonConfig.load(rootNode.get("sloMo"), configRegistry, soundManager);
 
         json.dispose();
     }
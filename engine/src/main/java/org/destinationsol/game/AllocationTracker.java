@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import org.destinationsol.ui.DebugCollector;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes the game thread allocates in every part of the update and the drawing, using the JVM's per-thread
+ * allocation counter. Only counts when {@link DebugOptions#ALLOC_INFO} is set and the JVM has the counter, otherwise
+ * the calls do nothing.
+ * <p>
+ * Usage: {@link #begin()} before the first part, then {@link #mark(Section)} right after each part.
+ */
+public class AllocationTracker {
+    public enum Section {
+        PLANETS("Planets"),
+        GALAXY("Galaxy filler"),
+        CAMERA("Camera"),
+        CHUNKS("Chunks"),
+        MOUNT_DETECT("Mount detect"),
+        OBJECTS("Objects"),
+        SHIP_SNAPSHOT("Ship snapshot"),
+        PARTICLES("Particles"),
+        MAP("Map"),
+        SOUND("Sound"),
+        BEACON("Beacon"),
+        TUTORIAL("Tutorial"),
+        DRAW_BACKGROUND("Draw background"),
+        DRAW_VISIBILITY("Draw visibility"),
+        DRAW_LEVELS("Draw levels");
+
+        private final String displayName;
+
+        Section(String displayName) {
+            this.displayName = displayName;
+        }
+    }
+
+    private final long[] sectionBytes;
+    private long lastMark;
+    private boolean counting;
+
+    public AllocationTracker() {
+        sectionBytes = new long[Section.values().length];
+    }
+
+    /**
+     * @return true if the JVM can count the allocated bytes per thread
+     */
+    public static boolean isSupported() {
+        return ThreadCounter.BEAN != null;
+    }
+
+    /**
+     * @return the bytes allocated by the current thread since it started, or -1 if that is not known
+     */
+    public static long getAllocatedBytes() {
+        if (ThreadCounter.BEAN == null) {
+            return -1;
+        }
+        return ThreadCounter.BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public void begin() {
+        counting = DebugOptions.ALLOC_INFO && isSupported();
+        if (counting) {
+            lastMark = getAllocatedBytes();
+        }
+    }
+
+    /**
+     * Attributes the bytes allocated since the previous mark (or {@link #begin()}) to the section.
+     */
+    public void mark(Section section) {
+        if (!counting) {
+            return;
+        }
+        long now = getAllocatedBytes();
+        sectionBytes[section.ordinal()] = now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * @return the bytes allocated in the section the last time it ran
+     */
+    public long getBytes(Section section) {
+        return sectionBytes[section.ordinal()];
+    }
+
+    /**
+     * Shows the last measurements in the debug overlay, the drawing ones are from the previous frame.
+     */
+    public void debug() {
+        if (!counting) {
+            return;
+        }
+        long total = 0;
+        for (Section section : Section.values()) {
+            long bytes = sectionBytes[section.ordinal()];
+            total += bytes;
+            DebugCollector.debug("Alloc " + section.displayName, bytes + " B");
+        }
+        DebugCollector.debug("Alloc total", total + " B");
+    }
+
+    /**
+     * Keeps the com.sun.management classes from being loaded where they don't exist.
+     */
+    private static class ThreadCounter {
+        private static final com.sun.management.ThreadMXBean BEAN = findBean();
+
+        private static com.sun.management.ThreadMXBean findBean() {
+            try {
+                java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+                    return null;
+                }
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (!sunBean.isThreadAllocatedMemorySupported()) {
+                    return null;
+                }
+                sunBean.setThreadAllocatedMemoryEnabled(true);
+                return sunBean;
+            } catch (LinkageError | UnsupportedOperationException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -27,6 +27,7 @@
 import org.destinationsol.game.drawables.RectSprite;
 import org.destinationsol.game.input.Pilot;
 import org.destinationsol.game.planet.PlanetBind;
+import org.destinationsol.game.replay.InputRecorder;
 import org.destinationsol.game.ship.FarShip;
 import org.destinationsol.game.ship.SolShip;
 
@@ -114,46 +115,26 @@ private boolean maybeUpdateTargetPos(SolGame game) {
         return true;
     }
 
+    /**
+     * Follows the target pilot when its ship changes between near and far.
+     */
     private void updateTarget(SolGame game) {
         if (targetPilot == null) {
             return;
         }
-        ObjectManager om = game.getObjectManager();
-        List<SolObject> objs = om.getObjects();
-        List<FarShip> farShips = om.getFarShips();
-        if (target != null) {
-            if (objs.contains(target)) {
-                return;
-            }
-            target = null;
-            for (FarShip ship : farShips) {
-                if (ship.getPilot() != targetPilot) {
-                    continue;
-                }
-                farTarget = ship;
-                return;
-            }
+        ShipSnapshot snapshot = game.getShipSnapshot();
+        int i = snapshot.findShip(targetPilot);
+        if (i < 0) {
             applyAction(Action.MOVE);
             return;
         }
-        if (farTarget == null) {
-            throw new AssertionError();
-        }
-        if (om.getFarShips().contains(farTarget)) {
-            return;
-        }
-        farTarget = null;
-        for (SolObject o : objs) {
-            if ((o instanceof SolShip)) {
-                SolShip ship = (SolShip) o;
-                if (ship.getPilot() != targetPilot) {
-                    continue;
-                }
-                target = ship;
-                return;
-            }
+        if (snapshot.getKind(i) == ShipSnapshot.SHIP) {
+            target = (SolShip) snapshot.getShip(i);
+            farTarget = null;
+        } else {
+            target = null;
+            farTarget = (FarShip) snapshot.getShip(i);
         }
-        applyAction(Action.MOVE);
     }
 
     private void updateD(SolGame game) {
@@ -233,6 +214,10 @@ public Action processMouse(SolGame game, Vector2 position, boolean clicked, bool
         }
 
         if (clicked) {
+            InputRecorder inputRecorder = game.getCmp().getInputRecorder();
+            if (inputRecorder != null) {
+                inputRecorder.recordBeaconClick(position, onMap);
+            }
             applyAction(action);
             getPos0().set(position);
             clickTime = game.getTime();
@@ -254,39 +239,31 @@ private void applyAction(Action action) {
     }
 
     private Pilot findPilotInPos(SolGame game, Vector2 position, boolean onMap, boolean clicked) {
-        ObjectManager objectManager = game.getObjectManager();
+        ShipSnapshot snapshot = game.getShipSnapshot();
         Hero hero = game.getHero();
         float iconRad = onMap ? game.getMapDrawer().getIconRadius(game.getCam()) : 0;
-        for (SolObject o : objectManager.getObjects()) {
-            if (o == hero.getShipUnchecked() || !(o instanceof SolShip)) {
+        for (int i = 0, count = snapshot.getShipCount(); i < count; i++) {
+            byte kind = snapshot.getKind(i);
+            if (kind == ShipSnapshot.TRANSCENDENT || snapshot.getShip(i) == hero.getShipUnchecked()) {
                 continue;
             }
-            SolShip s = (SolShip) o;
-            Pilot pilot = s.getPilot();
+            Pilot pilot = snapshot.getPilot(i);
             if (onMap && pilot.getMapHint() == null) {
                 continue;
             }
-            float dst = o.getPosition().dst(position);
-            float rad = iconRad == 0 ? s.getHull().config.getSize() : iconRad;
-            if (dst < rad) {
-                if (clicked) {
-                    targetPilot = pilot;
-                    target = s;
-                }
-                return pilot;
-            }
-        }
-        for (FarShip s : objectManager.getFarShips()) {
-            Pilot pilot = s.getPilot();
-            if (onMap && pilot.getMapHint() == null) {
-                continue;
+            float dst = position.dst(snapshot.getShipX(i), snapshot.getShipY(i));
+            float rad = iconRad;
+            if (rad == 0) {
+                rad = kind == ShipSnapshot.SHIP ? snapshot.getSize(i) : snapshot.getApproxRadius(i);
             }
-            float dst = s.getPosition().dst(position);
-            float rad = iconRad == 0 ? s.getHullConfig().getApproxRadius() : iconRad;
             if (dst < rad) {
                 if (clicked) {
                     targetPilot = pilot;
-                    farTarget = s;
+                    if (kind == ShipSnapshot.SHIP) {
+                        target = (SolShip) snapshot.getShip(i);
+                    } else {
+                        farTarget = (FarShip) snapshot.getShip(i);
+                    }
                 }
                 return pilot;
             }
@@ -22,6 +22,7 @@
 import com.badlogic.gdx.physics.box2d.CircleShape;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
 import com.badlogic.gdx.utils.JsonValue;
 import org.destinationsol.Const;
 import org.destinationsol.assets.Assets;
@@ -40,15 +41,23 @@
 
 /**
  * Creates a Model that is used for collision testing from the given json file.
+ * <p>
+ * The geometry of every rigid body is flattened into plain float arrays when it is read, so attaching fixtures
+ * to a new body only scales these arrays. Shapes for the scales a body is requested at repeatedly (the size of a hull
+ * or a star port) are additionally kept prebuilt, so spawning another such object does not rebuild them at all.
  */
 public class CollisionMeshLoader {
+    /**
+     * How many prebuilt shape sets to keep for a single rigid body.
+     */
+    private static final int MAX_CACHED_SCALES = 4;
     private final Model model = new Model();
 
     // Reusable stuff
-    private final List<Vector2> vectorPool = new ArrayList<>();
     private final PolygonShape polygonShape  = new PolygonShape();
     private final CircleShape circleShape = new CircleShape();
     private final Vector2 vec = new Vector2();
+    private float[] scaledVertices = new float[16];
 
     public CollisionMeshLoader() { }
 
@@ -95,40 +104,105 @@ public boolean attachFixture(Body body, String name, FixtureDef fd, float scale)
             return false;
         }
 
-        Vector2 origin = vec.set(rbModel.origin).scl(scale);
-
-        for (PolygonModel polygon : rbModel.polygons) {
-            Vector2[] points = polygon.tmpArray;
-
-            int pointCount = points.length;
-            for (int i = 0; i < pointCount; i++) {
-                Vector2 origPoint = polygon.vertices.get(pointCount - i - 1);
-                points[i] = newVec(origPoint).scl(scale);
-                points[i].sub(origin);
+        Shape[] shapes = getCachedShapes(rbModel, scale);
+        if (shapes != null) {
+            for (Shape shape : shapes) {
+                fd.shape = shape;
+                body.createFixture(fd);
             }
+            return true;
+        }
 
-            polygonShape.set(points);
+        for (float[] vertices : rbModel.polygonVertices) {
+            polygonShape.set(scaleVertices(vertices, scale), 0, vertices.length);
             fd.shape = polygonShape;
             body.createFixture(fd);
+        }
+
+        float[] circles = rbModel.circleData;
+        for (int i = 0; i < circles.length; i += 3) {
+            circleShape.setPosition(vec.set(circles[i], circles[i + 1]).scl(scale));
+            circleShape.setRadius(circles[i + 2] * scale);
+            fd.shape = circleShape;
+            body.createFixture(fd);
+        }
 
-            for (Vector2 point : points) {
-                free(point);
+        return true;
+    }
+
+    /**
+     * Returns the prebuilt shapes of the rigid body at the given scale, or null if they are not cached.
+     * <p>
+     * Shapes are only built the second time in a row a scale is asked for, so bodies spawned at random sizes
+     * (asteroids, shards) don't churn the cache.
+     */
+    private Shape[] getCachedShapes(RigidBodyModel rbModel, float scale) {
+        for (int i = 0; i < rbModel.cachedCount; i++) {
+            if (rbModel.cachedScales[i] == scale) {
+                return rbModel.cachedShapes[i];
             }
         }
+        if (rbModel.lastMissedScale != scale) {
+            rbModel.lastMissedScale = scale;
+            return null;
+        }
 
-        for (CircleModel circle : rbModel.circles) {
-            Vector2 center = newVec(circle.center).scl(scale).sub(origin);
-            float radius = circle.radius * scale;
+        int slot;
+        if (rbModel.cachedCount < MAX_CACHED_SCALES) {
+            slot = rbModel.cachedCount++;
+        } else {
+            slot = rbModel.nextEvicted;
+            rbModel.nextEvicted = (slot + 1) % MAX_CACHED_SCALES;
+            for (Shape shape : rbModel.cachedShapes[slot]) {
+                shape.dispose();
+            }
+        }
+        rbModel.cachedScales[slot] = scale;
+        rbModel.cachedShapes[slot] = createShapes(rbModel, scale);
+        return rbModel.cachedShapes[slot];
+    }
 
-            circleShape.setPosition(center);
-            circleShape.setRadius(radius);
-            fd.shape = circleShape;
-            body.createFixture(fd);
+    private Shape[] createShapes(RigidBodyModel rbModel, float scale) {
+        float[] circles = rbModel.circleData;
+        Shape[] shapes = new Shape[rbModel.polygonVertices.length + circles.length / 3];
+        int shapeIdx = 0;
+        for (float[] vertices : rbModel.polygonVertices) {
+            PolygonShape shape = new PolygonShape();
+            shape.set(scaleVertices(vertices, scale), 0, vertices.length);
+            shapes[shapeIdx++] = shape;
+        }
+        for (int i = 0; i < circles.length; i += 3) {
+            CircleShape shape = new CircleShape();
+            shape.setPosition(vec.set(circles[i], circles[i + 1]).scl(scale));
+            shape.setRadius(circles[i + 2] * scale);
+            shapes[shapeIdx++] = shape;
+        }
+        return shapes;
+    }
 
-            free(center);
+    /**
+     * @return a reused array with the first vertices.length elements holding the scaled vertices
+     */
+    private float[] scaleVertices(float[] vertices, float scale) {
+        if (scaledVertices.length < vertices.length) {
+            scaledVertices = new float[vertices.length];
+        }
+        for (int i = 0; i < vertices.length; i++) {
+            scaledVertices[i] = vertices[i] * scale;
         }
+        return scaledVertices;
+    }
 
-        return true;
+    /**
+     * Frees the native Box2D shapes kept for building bodies. The bodies made from them have their own copies and stay
+     * valid, but the loader can't build bodies anymore.
+     */
+    public void dispose() {
+        for (RigidBodyModel rbModel : model.rigidBodies.values()) {
+            rbModel.disposeCachedShapes();
+        }
+        polygonShape.dispose();
+        circleShape.dispose();
     }
 
     /**
@@ -191,8 +265,6 @@ private void readRigidBody(JsonValue rbNode, String shipName) {
                 polygonModel.vertices.add(new Vector2(x, y));
             }
 
-            // Why do we need this? Investigate.
-            polygonModel.tmpArray = new Vector2[polygonModel.vertices.size()];
         }
 
         // Shapes
@@ -209,9 +281,6 @@ private void readRigidBody(JsonValue rbNode, String shipName) {
                 float y = 1 - vertexNode.get("y").asFloat();
                 shapeModel.vertices.add(new Vector2(x, y));
             }
-
-            // Why do we need this? Investigate.
-            shapeModel.tmpArray = new Vector2[shapeModel.vertices.size()];
         }
 
         // Circles
@@ -224,19 +293,12 @@ private void readRigidBody(JsonValue rbNode, String shipName) {
             circleModel.radius = circleNode.getFloat("r");
         }
 
+        rbModel.precompute();
         model.rigidBodies.put(rbModel.name, rbModel);
     }
 
-    private Vector2 newVec(Vector2 v) {
-        Vector2 res = vectorPool.isEmpty() ? new Vector2() : vectorPool.remove(0);
-        if (v != null) {
-            res.set(v);
-        }
-        return res;
-    }
-
-    private void free(Vector2 v) {
-        vectorPool.add(v);
+    public boolean hasRigidBody(String name) {
+        return model.rigidBodies.containsKey(name);
     }
 
     /**
@@ -321,11 +383,55 @@ public static class RigidBodyModel {
         public final List<PolygonModel> shapes = new ArrayList<>();
         public final List<CircleModel> circles = new ArrayList<>();
         public String name;
+
+        // Unit scale geometry relative to the origin, computed once the model is read
+        private float[][] polygonVertices;
+        private float[] circleData;
+
+        private final float[] cachedScales = new float[MAX_CACHED_SCALES];
+        private final Shape[][] cachedShapes = new Shape[MAX_CACHED_SCALES][];
+        private int cachedCount;
+        private int nextEvicted;
+        private float lastMissedScale = Float.NaN;
+
+        private void precompute() {
+            polygonVertices = new float[polygons.size()][];
+            for (int i = 0; i < polygonVertices.length; i++) {
+                List<Vector2> vertices = polygons.get(i).vertices;
+                int pointCount = vertices.size();
+                float[] data = new float[pointCount * 2];
+                // reversed, flipping y has changed their winding
+                for (int j = 0; j < pointCount; j++) {
+                    Vector2 vertex = vertices.get(pointCount - j - 1);
+                    data[j * 2] = vertex.x - origin.x;
+                    data[j * 2 + 1] = vertex.y - origin.y;
+                }
+                polygonVertices[i] = data;
+            }
+
+            circleData = new float[circles.size() * 3];
+            for (int i = 0; i < circles.size(); i++) {
+                CircleModel circle = circles.get(i);
+                circleData[i * 3] = circle.center.x - origin.x;
+                circleData[i * 3 + 1] = circle.center.y - origin.y;
+                circleData[i * 3 + 2] = circle.radius;
+            }
+        }
+
+        private void disposeCachedShapes() {
+            for (int i = 0; i < cachedCount; i++) {
+                for (Shape shape : cachedShapes[i]) {
+                    shape.dispose();
+                }
+                cachedShapes[i] = null;
+            }
+            cachedCount = 0;
+            nextEvicted = 0;
+        }
     }
 
     public static class PolygonModel {
         public final List<Vector2> vertices = new ArrayList<>();
-        private Vector2[] tmpArray; // Used to avoid allocation in attachFixture()
     }
 
     public static class CircleModel {
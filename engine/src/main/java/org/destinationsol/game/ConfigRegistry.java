@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import org.destinationsol.assets.Assets;
+import org.destinationsol.game.item.Engine;
+import org.destinationsol.game.item.ItemManager;
+import org.destinationsol.game.particle.EffectConfig;
+import org.destinationsol.game.particle.EffectTypes;
+import org.destinationsol.game.ship.hulls.HullConfig;
+import org.destinationsol.game.sound.OggSoundManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the config objects that many hulls, items and planets refer to, so that each of them is loaded only once per game.
+ * The same effect used by the engines of twenty hulls is a single {@link EffectConfig}, with a single copy of the particle
+ * emitter and of the texture region.
+ * <p>
+ * The returned objects are shared and must not be changed. Texture regions that are flipped after loading, like the planet
+ * tiles, have to be loaded with {@link Assets} directly.
+ */
+public class ConfigRegistry {
+    private final OggSoundManager soundManager;
+    private final GameColors gameColors;
+    private final EffectTypes effectTypes;
+    private final Map<String, TextureAtlas.AtlasRegion> atlasRegions;
+    private final Map<EffectKey, EffectConfig> effectConfigs;
+    private final Map<String, Engine.Config> engineConfigs;
+    private final Map<HullConfig, Map<String, StrengthProfile>> shipConfigStrengths;
+    private int effectConfigLoads;
+
+    public ConfigRegistry(OggSoundManager soundManager) {
+        this.soundManager = soundManager;
+        gameColors = new GameColors();
+        effectTypes = new EffectTypes();
+        atlasRegions = new HashMap<>();
+        effectConfigs = new HashMap<>();
+        engineConfigs = new HashMap<>();
+        shipConfigStrengths = new HashMap<>();
+    }
+
+    public GameColors getGameColors() {
+        return gameColors;
+    }
+
+    public EffectTypes getEffectTypes() {
+        return effectTypes;
+    }
+
+    public TextureAtlas.AtlasRegion getAtlasRegion(String name) {
+        return atlasRegions.computeIfAbsent(name, Assets::getAtlasRegion);
+    }
+
+    /**
+     * @param tint a color name from the colors config or a color definition, see {@link GameColors#load(String)}
+     */
+    public EffectConfig getEffectConfig(String effectFile, float size, String texName, boolean floatsUp, String tint) {
+        effectConfigLoads++;
+        EffectKey key = new EffectKey(effectFile, size, texName, floatsUp, tint);
+        return effectConfigs.computeIfAbsent(key, k -> new EffectConfig(effectTypes.forName(effectFile), size,
+                getAtlasRegion(texName + "Particle"), floatsUp, gameColors.load(tint)));
+    }
+
+    public Engine.Config getEngineConfig(String engineName) {
+        return engineConfigs.computeIfAbsent(engineName, name -> Engine.Config.load(name, soundManager, this));
+    }
+
+    /**
+     * The same ships are listed by many planets, systems and mazes, so the strength of each hull and item spec is
+     * only estimated once.
+     */
+    public StrengthProfile getShipConfigStrength(HullConfig hull, String items, ItemManager itemManager) {
+        Map<String, StrengthProfile> strengths = shipConfigStrengths.computeIfAbsent(hull, h -> new HashMap<>());
+        return strengths.computeIfAbsent(items, i -> HardnessCalc.calcShipConfStrength(hull, i, itemManager));
+    }
+
+    /**
+     * @return the number of effect configs requested, including the ones already loaded
+     */
+    public int getEffectConfigLoads() {
+        return effectConfigLoads;
+    }
+
+    public int getEffectConfigCount() {
+        return effectConfigs.size();
+    }
+
+    public int getAtlasRegionCount() {
+        return atlasRegions.size();
+    }
+
+    private static class EffectKey {
+        private final String effectFile;
+        private final float size;
+        private final String texName;
+        private final boolean floatsUp;
+        private final String tint;
+
+        EffectKey(String effectFile, float size, String texName, boolean floatsUp, String tint) {
+            this.effectFile = effectFile;
+            this.size = size;
+            this.texName = texName;
+            this.floatsUp = floatsUp;
+            this.tint = tint;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(effectFile, size, texName, floatsUp, tint);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof EffectKey)) {
+                return false;
+            }
+            EffectKey other = (EffectKey) o;
+            return size == other.size && floatsUp == other.floatsUp && effectFile.equals(other.effectFile)
+                    && texName.equals(other.texName) && tint.equals(other.tint);
+        }
+    }
+}
@@ -52,6 +52,12 @@ public class DebugOptions {
     public static boolean OBJ_INFO = false;
     public static boolean SOUND_INFO = false;
     public static boolean TEX_INFO = false;
+    public static boolean PHYSICS_INFO = false;
+    public static boolean ALLOC_INFO = false;
+
+    // Simulation
+    public static float PHYSICS_LOD_DIST = 1.2f;
+    public static boolean RECORD_INPUTS = false;
 
     public static MissingResourceAction MISSING_SOUND_ACTION;
     public static MissingResourceAction MISSING_TEXTURE_ACTION;
@@ -82,6 +88,10 @@ public static void read(SolFileReader reader) {
         OBJ_INFO = r.getBoolean("objInfo", OBJ_INFO);
         SOUND_INFO = r.getBoolean("soundInfo", SOUND_INFO);
         TEX_INFO = r.getBoolean("texInfo", TEX_INFO);
+        PHYSICS_INFO = r.getBoolean("physicsInfo", PHYSICS_INFO);
+        ALLOC_INFO = r.getBoolean("allocInfo", ALLOC_INFO);
+        PHYSICS_LOD_DIST = r.getFloat("physicsLodDist", PHYSICS_LOD_DIST);
+        RECORD_INPUTS = r.getBoolean("recordInputs", RECORD_INPUTS);
         MISSING_SOUND_ACTION = MissingResourceAction.forName(r.getString("missingSoundAction", MissingResourceAction.IGNORE.name));
         MISSING_TEXTURE_ACTION = MissingResourceAction.forName(r.getString("missingTextureAction", MissingResourceAction.IGNORE.name));
         MISSING_PHYSICS_ACTION = MissingResourceAction.forName(r.getString("missingPhysicsAction", MissingResourceAction.IGNORE.name));
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.Const;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.game.asteroid.FarAsteroid;
+import org.destinationsol.game.maze.MazeTile;
+import org.destinationsol.game.maze.MazeTileObject;
+import org.destinationsol.game.planet.FarTileObject;
+import org.destinationsol.game.planet.Planet;
+import org.destinationsol.game.planet.Tile;
+import org.destinationsol.game.planet.TileObjBuilder;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the far objects that come in large numbers - planet tiles, maze tiles and asteroids - as columns of primitives
+ * instead of one {@link FarObject} each, about 50 bytes per object. The {@link SolObject} is only built again when the
+ * camera gets close.
+ * <p>
+ * The meaning of some columns depends on the type: for planet tiles the angle is relative to the planet and the param is
+ * the distance from the planet center, for asteroids the param is the rotation speed and for maze tiles it is 1 when
+ * the tile is flipped.
+ */
+public class FarObjectStore {
+    public static final byte PLANET_TILE = 0;
+    public static final byte MAZE_TILE = 1;
+    public static final byte ASTEROID = 2;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final TileObjBuilder tileObjBuilder;
+    private final MazeTileObject.Builder mazeTileBuilder;
+    private int size;
+    private byte[] types;
+    private float[] xs;
+    private float[] ys;
+    private float[] speedXs;
+    private float[] speedYs;
+    private float[] angles;
+    private float[] radii;
+    private float[] sizes;
+    private float[] params;
+    private float[] delays;
+    // Tile, MazeTile or the asteroid texture
+    private Object[] shapes;
+    // the Planet of a planet tile, the RemoveController of an asteroid
+    private Object[] owners;
+
+    public FarObjectStore() {
+        tileObjBuilder = new TileObjBuilder();
+        mazeTileBuilder = new MazeTileObject.Builder();
+        types = new byte[INITIAL_CAPACITY];
+        xs = new float[INITIAL_CAPACITY];
+        ys = new float[INITIAL_CAPACITY];
+        speedXs = new float[INITIAL_CAPACITY];
+        speedYs = new float[INITIAL_CAPACITY];
+        angles = new float[INITIAL_CAPACITY];
+        radii = new float[INITIAL_CAPACITY];
+        sizes = new float[INITIAL_CAPACITY];
+        params = new float[INITIAL_CAPACITY];
+        delays = new float[INITIAL_CAPACITY];
+        shapes = new Object[INITIAL_CAPACITY];
+        owners = new Object[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Stores the far object in the columns if it is of a type kept here.
+     *
+     * @return false if the object should be kept as it is
+     */
+    public boolean add(FarObject fo) {
+        if (fo instanceof FarTileObject) {
+            FarTileObject tile = (FarTileObject) fo;
+            Planet planet = tile.getPlanet();
+            int i = append(PLANET_TILE, 0, 0, tile.getToPlanetAngle(), tile.getRadius(), tile.getSz(), tile.getDist(), tile.getTile(), planet);
+            setPlanetTilePosition(i, planet);
+            return true;
+        }
+        if (fo instanceof MazeTileObject.MyFar) {
+            MazeTileObject.MyFar tile = (MazeTileObject.MyFar) fo;
+            Vector2 position = tile.getPosition();
+            append(MAZE_TILE, position.x, position.y, tile.getAngle(), tile.getRadius(), 0, tile.isFlipped() ? 1 : 0, tile.getTile(), null);
+            return true;
+        }
+        if (fo instanceof FarAsteroid) {
+            FarAsteroid asteroid = (FarAsteroid) fo;
+            Vector2 position = asteroid.getPosition();
+            int i = append(ASTEROID, position.x, position.y, asteroid.getAngle(), asteroid.getRadius(), asteroid.getSize(), asteroid.getRotationSpeed(),
+                    asteroid.getTexture(), asteroid.getRemoveController());
+            speedXs[i] = asteroid.getSpeed().x;
+            speedYs[i] = asteroid.getSpeed().y;
+            return true;
+        }
+        return false;
+    }
+
+    private int append(byte type, float x, float y, float angle, float radius, float objSize, float param, Object shape, Object owner) {
+        if (size == types.length) {
+            grow();
+        }
+        int i = size++;
+        types[i] = type;
+        xs[i] = x;
+        ys[i] = y;
+        speedXs[i] = 0;
+        speedYs[i] = 0;
+        angles[i] = angle;
+        radii[i] = radius;
+        sizes[i] = objSize;
+        params[i] = param;
+        delays[i] = 0;
+        shapes[i] = shape;
+        owners[i] = owner;
+        return i;
+    }
+
+    private void grow() {
+        int capacity = types.length * 2;
+        types = Arrays.copyOf(types, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        speedXs = Arrays.copyOf(speedXs, capacity);
+        speedYs = Arrays.copyOf(speedYs, capacity);
+        angles = Arrays.copyOf(angles, capacity);
+        radii = Arrays.copyOf(radii, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        params = Arrays.copyOf(params, capacity);
+        delays = Arrays.copyOf(delays, capacity);
+        shapes = Arrays.copyOf(shapes, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    /**
+     * Moves the tiles of the nearest planet along with it, drops the removed asteroids and rebuilds the objects the camera
+     * got close to. The delays work like the ones of {@link FarObjData}.
+     *
+     * @param nearObjs receives the rebuilt objects
+     */
+    public void update(SolGame game, Planet nearestPlanet, Vector2 camPos, float farEndDist, float timeStep, List<SolObject> nearObjs) {
+        int i = 0;
+        while (i < size) {
+            byte type = types[i];
+            if (type == PLANET_TILE && owners[i] == nearestPlanet) {
+                setPlanetTilePosition(i, nearestPlanet);
+            } else if (type == ASTEROID && shouldRemove(i)) {
+                removeAt(i);
+                continue;
+            }
+            if (delays[i] > 0) {
+                delays[i] -= timeStep;
+                i++;
+                continue;
+            }
+            float dx = xs[i] - camPos.x;
+            float dy = ys[i] - camPos.y;
+            float dst = (float) Math.sqrt(dx * dx + dy * dy) - radii[i];
+            if (dst < farEndDist) {
+                nearObjs.add(toObject(game, i));
+                removeAt(i);
+                continue;
+            }
+            delays[i] = (dst - farEndDist) / (2 * Const.MAX_MOVE_SPD);
+            i++;
+        }
+    }
+
+    private boolean shouldRemove(int i) {
+        RemoveController removeController = (RemoveController) owners[i];
+        if (removeController == null) {
+            return false;
+        }
+        Vector2 position = SolMath.getVec(xs[i], ys[i]);
+        boolean remove = removeController.shouldRemove(position);
+        SolMath.free(position);
+        return remove;
+    }
+
+    private void setPlanetTilePosition(int i, Planet planet) {
+        float angle = planet.getAngle() + angles[i];
+        float dist = params[i];
+        Vector2 planetPos = planet.getPosition();
+        xs[i] = planetPos.x + SolMath.cos(angle) * dist;
+        ys[i] = planetPos.y + SolMath.sin(angle) * dist;
+    }
+
+    private SolObject toObject(SolGame game, int i) {
+        switch (types[i]) {
+            case PLANET_TILE:
+                return tileObjBuilder.build(game, sizes[i], angles[i], params[i], (Tile) shapes[i], (Planet) owners[i]);
+            case MAZE_TILE:
+                return mazeTileBuilder.build(game, (MazeTile) shapes[i], new Vector2(xs[i], ys[i]), angles[i], params[i] != 0);
+            case ASTEROID:
+                return game.getAsteroidBuilder().build(game, new Vector2(xs[i], ys[i]), (TextureAtlas.AtlasRegion) shapes[i], sizes[i], angles[i],
+                        params[i], new Vector2(speedXs[i], speedYs[i]), (RemoveController) owners[i]);
+            default:
+                throw new AssertionError("Unknown far object type " + types[i]);
+        }
+    }
+
+    /**
+     * Moves the last object into the freed slot, the order of the objects is not kept.
+     */
+    private void removeAt(int i) {
+        int last = --size;
+        types[i] = types[last];
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        speedXs[i] = speedXs[last];
+        speedYs[i] = speedYs[last];
+        angles[i] = angles[last];
+        radii[i] = radii[last];
+        sizes[i] = sizes[last];
+        params[i] = params[last];
+        delays[i] = delays[last];
+        shapes[i] = shapes[last];
+        owners[i] = owners[last];
+        shapes[last] = null;
+        owners[last] = null;
+    }
+
+    public void resetDelays() {
+        Arrays.fill(delays, 0, size, 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public byte getType(int i) {
+        return types[i];
+    }
+
+    public float getX(int i) {
+        return xs[i];
+    }
+
+    public float getY(int i) {
+        return ys[i];
+    }
+
+    public float getRadius(int i) {
+        return radii[i];
+    }
+
+    /**
+     * @return the angle the object is drawn at
+     */
+    public float getAngle(int i) {
+        if (types[i] == PLANET_TILE) {
+            return ((Planet) owners[i]).getAngle() + angles[i] + 90;
+        }
+        return angles[i];
+    }
+
+    public float getSize(int i) {
+        return sizes[i];
+    }
+
+    public Object getShape(int i) {
+        return shapes[i];
+    }
+
+    public Object getOwner(int i) {
+        return owners[i];
+    }
+}
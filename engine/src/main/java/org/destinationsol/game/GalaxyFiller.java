@@ -21,6 +21,7 @@
 import org.destinationsol.Const;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.json.Json;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.files.HullConfigManager;
@@ -42,11 +43,18 @@
 import org.destinationsol.game.ship.hulls.HullConfig;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public class GalaxyFiller {
     private static final float STATION_CONSUME_SECTOR = 45f;
+    private static final float POPULATE_DIST = Const.CAM_VIEW_DIST_JOURNEY * 2;
+    private static final float RELEASE_DIST = POPULATE_DIST + Const.SUN_RADIUS;
     private Vector2 mainStationPos = new Vector2();
     private HullConfig mainStationHc;
+    private ShipConfig mainStationConfig;
+    private SystemContent[] systemContents = new SystemContent[0];
+    private final Vector2 camPosition = new Vector2();
+    private final RandomStream random = new RandomStream(0);
 
     private Vector2 getPosForStation(SolSystem sys, boolean mainStation, ConsumedAngles angles) {
         Planet planet;
@@ -56,11 +64,11 @@ private Vector2 getPosForStation(SolSystem sys, boolean mainStation, ConsumedAng
             planet = planets.get(planets.size() - 2);
             angleToSun = planet.getAngleInSystem() + 20 * SolMath.toInt(planet.getRotationSpeedInSystem() > 0);
         } else {
-            int planetIndex = SolRandom.seededRandomInt(planets.size() - 1);
+            int planetIndex = random.randomInt(planets.size() - 1);
             planet = planets.get(planetIndex);
             angleToSun = 0;
             for (int i = 0; i < 10; i++) {
-                angleToSun = SolRandom.seededRandomFloat(180);
+                angleToSun = random.randomFloat(180);
                 if (!angles.isConsumed(angleToSun, STATION_CONSUME_SECTOR)) {
                     break;
                 }
@@ -74,52 +82,67 @@ private Vector2 getPosForStation(SolSystem sys, boolean mainStation, ConsumedAng
         return stationPos;
     }
 
-    private FarShip build(SolGame game, ShipConfig config, Faction faction, boolean mainStation, SolSystem system,
+    private FarShip build(SolGame game, ShipConfig config, Faction faction, boolean mainStation, SystemContent content,
                           ConsumedAngles angles) {
         HullConfig hullConf = config.hull;
+        Vector2 position;
+        if (hullConf.getType() == HullConfig.Type.STATION) {
+            position = getPosForStation(content.system, mainStation, angles);
+        } else {
+            position = getEmptySpace(game, content.system);
+        }
+        float angle = mainStation ? 0 : random.randomFloat(180);
+        ShipRecord record = new ShipRecord(content, config, faction, position, angle);
+        content.ships.add(record);
+        FarShip ship = build(game, record);
+        ShipConfig guardConf = config.guard;
+        if (guardConf != null) {
+            ConsumedAngles consumedAngles = new ConsumedAngles();
+            for (int i = 0; i < guardConf.density; i++) {
+                float guardianAngle = 0;
+                for (int j = 0; j < 5; j++) {
+                    guardianAngle = random.randomFloat(180);
+                    if (!consumedAngles.isConsumed(guardianAngle, guardConf.hull.getApproxRadius())) {
+                        consumedAngles.add(guardianAngle, guardConf.hull.getApproxRadius());
+                        break;
+                    }
+                }
+                ShipRecord guard = new ShipRecord(content, guardConf, faction, null, guardianAngle);
+                record.guards.add(guard);
+                createGuard(game, ship, guard);
+            }
+        }
+        return ship;
+    }
+
+    private FarShip build(SolGame game, ShipRecord record) {
+        SolSystem system = record.content.system;
+        HullConfig hullConf = record.config.hull;
+        Vector2 position = new Vector2(record.position);
 
         MoveDestProvider destProvider;
-        Vector2 position;
         float detectionDist = Const.AI_DET_DIST;
         TradeConfig tradeConfig = null;
         if (hullConf.getType() == HullConfig.Type.STATION) {
-            position = getPosForStation(system, mainStation, angles);
             destProvider = new NoDestProvider();
             tradeConfig = system.getConfig().tradeConfig;
         } else {
-            position = getEmptySpace(game, system);
             boolean isBig = hullConf.getType() == HullConfig.Type.BIG;
             destProvider = new ExplorerDestProvider(position, !isBig, hullConf, system);
             if (isBig) {
-                if (faction == Faction.LAANI) {
+                if (record.faction == Faction.LAANI) {
                     tradeConfig = system.getConfig().tradeConfig;
                 }
             } else {
                 detectionDist *= 1.5;
             }
         }
-        Pilot pilot = new AiPilot(destProvider, true, faction, true, "something", detectionDist);
-        float angle = mainStation ? 0 : SolRandom.seededRandomFloat(180);
+        Pilot pilot = new AiPilot(destProvider, true, record.faction, true, "something", detectionDist);
         boolean hasRepairer;
-        hasRepairer = faction == Faction.LAANI;
-        int money = config.money;
-        FarShip ship = game.getShipBuilder().buildNewFar(game, position, null, angle, 0, pilot, config.items, hullConf, null, hasRepairer, money, tradeConfig, true);
+        hasRepairer = record.faction == Faction.LAANI;
+        int money = record.config.money;
+        FarShip ship = game.getShipBuilder().buildNewFar(game, position, null, record.angle, 0, pilot, record.config.items, hullConf, record, hasRepairer, money, tradeConfig, true);
         game.getObjectManager().addFarObjNow(ship);
-        ShipConfig guardConf = config.guard;
-        if (guardConf != null) {
-            ConsumedAngles consumedAngles = new ConsumedAngles();
-            for (int i = 0; i < guardConf.density; i++) {
-                float guardianAngle = 0;
-                for (int j = 0; j < 5; j++) {
-                    guardianAngle = SolRandom.randomFloat(180);
-                    if (!consumedAngles.isConsumed(guardianAngle, guardConf.hull.getApproxRadius())) {
-                        consumedAngles.add(guardianAngle, guardConf.hull.getApproxRadius());
-                        break;
-                    }
-                }
-                createGuard(game, ship, guardConf, faction, guardianAngle);
-            }
-        }
         return ship;
     }
     
@@ -132,12 +155,16 @@ public JsonValue getRootNode(Json json) {
     	}
     }
 
+    /**
+     * Prepares the galaxy content. Only the star ports are created right away, together with the stations and ships of
+     * the first system, where the player starts. The other systems get theirs when the camera gets close, see
+     * {@link #update(SolGame)}.
+     */
     public void fill(SolGame game, HullConfigManager hullConfigManager, ItemManager itemManager) {
         if (DebugOptions.NO_OBJS) {
             return;
         }
         createStarPorts(game);
-        ArrayList<SolSystem> systems = game.getPlanetManager().getSystems();
         
         String shipName = game.getShipName();
         String moduleName = shipName.split(":")[0];
@@ -145,33 +172,92 @@ public void fill(SolGame game, HullConfigManager hullConfigManager, ItemManager
         Json json = Assets.getJson(moduleName + ":startingStation");
         JsonValue rootNode = getRootNode(json);
 
-        ShipConfig mainStationCfg = ShipConfig.load(hullConfigManager, rootNode, itemManager);
+        mainStationConfig = ShipConfig.load(hullConfigManager, rootNode, itemManager);
 
         json.dispose();
 
+        ArrayList<SolSystem> systems = game.getPlanetManager().getSystems();
+        systemContents = new SystemContent[systems.size()];
+        populate(game, 0);
+    }
+
+    /**
+     * Creates the stations and ships of the systems the camera got close to and releases the ones of the systems it
+     * left, see {@link SystemContent}.
+     */
+    public void update(SolGame game) {
+        if (DebugOptions.NO_OBJS) {
+            return;
+        }
+        camPosition.set(game.getCam().getPosition());
+        ArrayList<SolSystem> systems = game.getPlanetManager().getSystems();
+        for (int systemIdx = 0; systemIdx < systems.size(); systemIdx++) {
+            SolSystem system = systems.get(systemIdx);
+            float dst = system.getPosition().dst(camPosition) - system.getRadius();
+            SystemContent content = systemContents[systemIdx];
+            boolean populated = content != null && !content.released;
+            if (!populated && dst < POPULATE_DIST) {
+                populate(game, systemIdx);
+            } else if (populated && RELEASE_DIST < dst) {
+                content.released = true;
+            }
+        }
+    }
+
+    private void populate(SolGame game, int systemIdx) {
+        SystemContent content = systemContents[systemIdx];
+        if (content != null) {
+            content.released = false;
+            restore(game, content);
+            return;
+        }
+        SolSystem system = game.getPlanetManager().getSystems().get(systemIdx);
+        SysConfig sysConfig = system.getConfig();
+        content = new SystemContent(system);
+        systemContents[systemIdx] = content;
         ConsumedAngles angles = new ConsumedAngles();
-        FarShip mainStation = build(game, mainStationCfg, Faction.LAANI, true, systems.get(0), angles);
-        mainStationPos.set(mainStation.getPosition());
-        mainStationHc = mainStation.getHullConfig();
 
-        for (SolSystem system : systems) {
-            SysConfig sysConfig = system.getConfig();
+        // every system is filled from its own stream, the main station from another one
+        if (systemIdx == 0) {
+            random.reset(SolRandom.streamSeed(SolRandom.Domain.GALAXY_FILLER, 0));
+            FarShip mainStation = build(game, mainStationConfig, Faction.LAANI, true, content, angles);
+            mainStationPos.set(mainStation.getPosition());
+            mainStationHc = mainStation.getHullConfig();
+        }
+        random.reset(SolRandom.streamSeed(SolRandom.Domain.GALAXY_FILLER, systemIdx + 1));
 
-            for (ShipConfig shipConfig : sysConfig.constAllies) {
-                int count = (int) (shipConfig.density);
-                for (int i = 0; i < count; i++) {
-                    build(game, shipConfig, Faction.LAANI, false, system, angles);
-                }
+        for (ShipConfig shipConfig : sysConfig.constAllies) {
+            int count = (int) (shipConfig.density);
+            for (int i = 0; i < count; i++) {
+                build(game, shipConfig, Faction.LAANI, false, content, angles);
+            }
+        }
+
+        for (ShipConfig shipConfig : sysConfig.constEnemies) {
+            int count = (int) (shipConfig.density);
+            for (int i = 0; i < count; i++) {
+                build(game, shipConfig, Faction.EHAR, false, content, angles);
             }
+        }
+    }
 
-            for (ShipConfig shipConfig : sysConfig.constEnemies) {
-                int count = (int) (shipConfig.density);
-                for (int i = 0; i < count; i++) {
-                    build(game, shipConfig, Faction.EHAR, false, system, angles);
+    /**
+     * Rebuilds the released stations and ships of a system. The ones still around and the destroyed ones are left out,
+     * and so are the guards of a ship that is not rebuilt, they have nothing to guard.
+     */
+    private void restore(SolGame game, SystemContent content) {
+        for (ShipRecord record : content.ships) {
+            if (!record.released) {
+                continue;
+            }
+            record.released = false;
+            FarShip ship = build(game, record);
+            for (ShipRecord guard : record.guards) {
+                if (guard.released) {
+                    guard.released = false;
+                    createGuard(game, ship, guard);
                 }
             }
-
-            angles = new ConsumedAngles();
         }
     }
 
@@ -227,13 +313,14 @@ private void link(SolGame game, Planet firstPlanet, Planet secondPlanet) {
         game.getObjectManager().addFarObjNow(starPort);
     }
 
-    private void createGuard(SolGame game, FarShip target, ShipConfig guardConfig, Faction faction, float guardRelAngle) {
-        Guardian dp = new Guardian(game, guardConfig.hull, target.getPilot(), target.getPosition(), target.getHullConfig(), guardRelAngle);
-        Pilot pilot = new AiPilot(dp, true, faction, false, null, Const.AI_DET_DIST);
-        boolean hasRepairer = faction == Faction.LAANI;
+    private void createGuard(SolGame game, FarShip target, ShipRecord guard) {
+        ShipConfig guardConfig = guard.config;
+        Guardian dp = new Guardian(game, guardConfig.hull, target.getPilot(), target.getPosition(), target.getHullConfig(), guard.angle);
+        Pilot pilot = new AiPilot(dp, true, guard.faction, false, null, Const.AI_DET_DIST);
+        boolean hasRepairer = guard.faction == Faction.LAANI;
         int money = guardConfig.money;
-        FarShip enemy = game.getShipBuilder().buildNewFar(game, dp.getDestination(), null, guardRelAngle, 0, pilot, guardConfig.items,
-                guardConfig.hull, null, hasRepairer, money, null, true);
+        FarShip enemy = game.getShipBuilder().buildNewFar(game, dp.getDestination(), null, guard.angle, 0, pilot, guardConfig.items,
+                guardConfig.hull, guard, hasRepairer, money, null, true);
         game.getObjectManager().addFarObjNow(enemy);
     }
 
@@ -243,7 +330,7 @@ private Vector2 getEmptySpace(SolGame game, SolSystem system) {
         float systemRadius = system.getConfig().hard ? system.getRadius() : system.getInnerRadius();
 
         for (int i = 0; i < 100; i++) {
-            SolMath.fromAl(result, SolRandom.seededRandomFloat(180), SolRandom.seededRandomFloat(systemRadius));
+            SolMath.fromAl(result, random.randomFloat(180), random.randomFloat(systemRadius));
             result.add(systemPosition);
             if (game.isPlaceEmpty(result, true)) {
                 return result;
@@ -288,4 +375,53 @@ public Vector2 getMainStationPosition() {
         return mainStationPos;
     }
 
+    /**
+     * The stations and ships of a system. They are created the first time the camera gets close to the system. Once the
+     * camera has left it, they are released, each when it is out of the camera's sight too, as a ship may have followed
+     * the camera. When the camera comes back, the released ones are rebuilt where they were created, the destroyed ones
+     * stay destroyed.
+     */
+    private static class SystemContent {
+        private final SolSystem system;
+        private final List<ShipRecord> ships = new ArrayList<>();
+        private boolean released;
+
+        SystemContent(SolSystem system) {
+            this.system = system;
+        }
+    }
+
+    /**
+     * A station or ship of a system, and the controller that removes it when it is released.
+     */
+    private class ShipRecord implements RemoveController {
+        private final SystemContent content;
+        private final ShipConfig config;
+        private final Faction faction;
+        // the position the ship was created at, null for guards, which are placed next to their target
+        private final Vector2 position;
+        private final float angle;
+        private final List<ShipRecord> guards = new ArrayList<>();
+        // removed by the release, rather than destroyed or still around
+        private boolean released;
+
+        ShipRecord(SystemContent content, ShipConfig config, Faction faction, Vector2 position, float angle) {
+            this.content = content;
+            this.config = config;
+            this.faction = faction;
+            this.position = position;
+            this.angle = angle;
+        }
+
+        @Override
+        public boolean shouldRemove(Vector2 shipPosition) {
+            // far beyond the view distance and the presence radius of any ship, nothing is removed in sight
+            if (!content.released || shipPosition.dst(camPosition) < RELEASE_DIST) {
+                return false;
+            }
+            released = true;
+            return true;
+        }
+    }
+
 }
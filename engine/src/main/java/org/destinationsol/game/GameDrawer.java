@@ -16,12 +16,14 @@
 package org.destinationsol.game;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.CommonDrawer;
 import org.destinationsol.assets.Assets;
+import org.destinationsol.game.drawables.SpriteVertexCache;
 
 public class GameDrawer {
 
@@ -29,12 +31,15 @@ public class GameDrawer {
     public final TextureAtlas.AtlasRegion debugWhiteTexture;
     private final CommonDrawer myDrawer;
 
+    private final Matrix4 myIdentity;
+
     private boolean myCurrAdditive;
 
     public GameDrawer(CommonDrawer commonDrawer) {
         myDrawer = commonDrawer;
         r = myDrawer.dimensionsRatio;
         debugWhiteTexture = Assets.getAtlasRegion("engine:uiWhiteTex");
+        myIdentity = new Matrix4();
     }
 
     public void begin() {
@@ -76,9 +81,48 @@ public void drawLine(TextureRegion tex, Vector2 p1, Vector2 p2, Color col, float
         myDrawer.drawLine(tex, p1, p2, col, width, precise);
     }
 
-    public void draw(ParticleEmitter emitter, TextureAtlas.AtlasRegion tex, boolean additive) {
+    /**
+     * Draws sprites of the texture from prepared vertices, 20 floats for each sprite, laid out as in
+     * {@link com.badlogic.gdx.graphics.g2d.SpriteBatch#draw(Texture, float[], int, int)}.
+     */
+    public void draw(Texture texture, float[] vertices, int count, boolean additive) {
+        maybeChangeAdditive(additive);
+        myDrawer.getSpriteBatch().draw(texture, vertices, 0, count);
+    }
+
+    public void draw(SpriteVertexCache vertexCache) {
+        maybeChangeAdditive(false);
+        vertexCache.draw(myDrawer);
+    }
+
+    /**
+     * Draws the cached sprites scaled by scale and moved by the offset, see {@link SpriteVertexCache#draw(CommonDrawer, float, float, float)}
+     */
+    public void draw(SpriteVertexCache vertexCache, float offsetX, float offsetY, float scale, boolean additive) {
         maybeChangeAdditive(additive);
-        emitter.draw(myDrawer.getSpriteBatch());
+        vertexCache.draw(myDrawer, offsetX, offsetY, scale);
+    }
+
+    /**
+     * Draws the cached sprites turned around their centers, scaled by scale and moved by the offset, see
+     * {@link SpriteVertexCache#draw(CommonDrawer, float, float, float, float)}
+     */
+    public void draw(SpriteVertexCache vertexCache, float offsetX, float offsetY, float scale, float spriteRotation,
+                     boolean additive) {
+        maybeChangeAdditive(additive);
+        vertexCache.draw(myDrawer, offsetX, offsetY, scale, spriteRotation);
+    }
+
+    /**
+     * Moves and rotates what is drawn next, until {@link #resetTransform()}. Each call flushes the batch, so use it for
+     * large groups of sprites that share one frame, like the ground of a planet.
+     */
+    public void setTransform(Matrix4 transform) {
+        myDrawer.setTransform(transform);
+    }
+
+    public void resetTransform() {
+        myDrawer.setTransform(myIdentity);
     }
 
     public void drawCircle(TextureRegion tex, Vector2 center, float radius, Color col, float width, float vh) {
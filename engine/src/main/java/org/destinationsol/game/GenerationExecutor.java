@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the pure parts of world generation - layouts, tile choices, placements - on a background thread, so that they
+ * are ready by the time the camera gets close. The tasks must not touch the game objects, the physics world or the
+ * shared random, their results are turned into objects on the main thread.
+ */
+public class GenerationExecutor {
+    private final ExecutorService executor;
+
+    public GenerationExecutor() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "world-generation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * Waits for the task if it is not done yet, which only happens when the camera got close faster than expected.
+     *
+     * @return the result of the task
+     */
+    public static <T> T join(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for world generation", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("World generation failed", e.getCause());
+        }
+    }
+
+    public void dispose() {
+        executor.shutdownNow();
+    }
+}
@@ -30,7 +30,6 @@
 import org.destinationsol.game.ship.FarShip;
 import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.game.ship.hulls.GunSlot;
-import org.destinationsol.game.ship.hulls.Hull;
 import org.destinationsol.game.ship.hulls.HullConfig;
 
 import java.util.Iterator;
@@ -106,9 +105,17 @@ private static float getItemCfgDps(ItemConfig ic, boolean fixed) {
         return dps / ic.examples.size() * ic.chance;
     }
 
-    public static float getShipConfDps(ShipConfig sc, ItemManager itemManager) {
-        final List<ItemConfig> parsedItems = itemManager.parseItems(sc.items);
-        final List<GunSlot> unusedGunSlots = sc.hull.getGunSlotList();
+    /**
+     * Estimates a ship built from a config. Use {@link ConfigRegistry#getShipConfigStrength(HullConfig, String, ItemManager)},
+     * which keeps the result for each hull and item spec.
+     */
+    public static StrengthProfile calcShipConfStrength(HullConfig hull, String items, ItemManager itemManager) {
+        List<ItemConfig> parsedItems = itemManager.parseItems(items);
+        return new StrengthProfile(getShipConfDps(hull, parsedItems), getShipCfgDmgCap(hull, parsedItems));
+    }
+
+    private static float getShipConfDps(HullConfig hull, List<ItemConfig> parsedItems) {
+        final List<GunSlot> unusedGunSlots = hull.getGunSlotList();
 
         float dps = 0;
         Iterator<ItemConfig> itemConfigIterator = parsedItems.iterator();
@@ -137,8 +144,7 @@ public static float getShipConfDps(ShipConfig sc, ItemManager itemManager) {
         return dps;
     }
 
-    public static float getShipCfgDmgCap(ShipConfig shipConfig, ItemManager itemManager) {
-        List<ItemConfig> parsed = itemManager.parseItems(shipConfig.items);
+    private static float getShipCfgDmgCap(HullConfig hull, List<ItemConfig> parsed) {
         float meanShieldLife = 0;
         float meanArmorPercentage = 0;
         for (ItemConfig itemConfig : parsed) {
@@ -158,7 +164,7 @@ public static float getShipCfgDmgCap(ShipConfig shipConfig, ItemManager itemMana
                 meanArmorPercentage *= itemConfig.chance;
             }
         }
-        return shipConfig.hull.getMaxLife() / (1 - meanArmorPercentage) + meanShieldLife * SHIELD_MUL;
+        return hull.getMaxLife() / (1 - meanArmorPercentage) + meanShieldLife * SHIELD_MUL;
     }
 
     private static float getShipConfListDps(List<ShipConfig> ships) {
@@ -206,20 +212,26 @@ private static float getGunDps(Gun g) {
     }
 
     public static float getShipDps(SolShip s) {
-        Hull h = s.getHull();
-        return getGunDps(h.getGun(false)) + getGunDps(h.getGun(true));
+        return s.getStrength().dps;
     }
 
     public static float getFarShipDps(FarShip s) {
-        return getGunDps(s.getGun(false)) + getGunDps(s.getGun(true));
+        return s.getStrength().dps;
     }
 
     public static float getShipDmgCap(SolShip s) {
-        return getDmgCap(s.getHull().config, s.getArmor(), s.getShield());
+        return s.getStrength().dmgCap;
     }
 
     public static float getFarShipDmgCap(FarShip s) {
-        return getDmgCap(s.getHullConfig(), s.getArmor(), s.getShield());
+        return s.getStrength().dmgCap;
+    }
+
+    /**
+     * Estimates a ship with the given loadout. Ships keep the result, see {@link SolShip#getStrength()}.
+     */
+    public static StrengthProfile calcShipStrength(HullConfig hull, Gun gun1, Gun gun2, Armor armor, Shield shield) {
+        return new StrengthProfile(getGunDps(gun1) + getGunDps(gun2), getDmgCap(hull, armor, shield));
     }
 
     private static float getDmgCap(HullConfig hull, Armor armor, Shield shield) {
@@ -15,6 +15,7 @@
  */
 package org.destinationsol.game;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
@@ -24,17 +25,17 @@
 import org.destinationsol.common.Nullable;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.drawables.SpriteVertexCache;
+import org.destinationsol.game.input.Pilot;
 import org.destinationsol.game.maze.Maze;
 import org.destinationsol.game.maze.MazeBuilder;
-import org.destinationsol.game.planet.FarTileObject;
 import org.destinationsol.game.planet.Planet;
+import org.destinationsol.game.planet.PlanetManager;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SurfaceDirection;
 import org.destinationsol.game.planet.SystemBelt;
 import org.destinationsol.game.planet.Tile;
 import org.destinationsol.game.planet.TileObject;
-import org.destinationsol.game.ship.FarShip;
-import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.ui.UiDrawer;
 
 import java.util.ArrayList;
@@ -52,6 +53,7 @@ public class MapDrawer {
     private static final float MIN_ICON_RAD_PX = 16f;
     private static final float MAX_SKULL_TIME = .75f;
     private static final float MAX_AREA_SKULL_TIME = 3;
+    private static final float STATIC_LAYER_ZOOM_THRESHOLD = 1.25f;
     private final TextureAtlas.AtlasRegion atmosphereTexture;
     private final TextureAtlas.AtlasRegion planetTexture;
     private final TextureAtlas.AtlasRegion planetCoreTexture;
@@ -72,6 +74,10 @@ public class MapDrawer {
     private final Color areaWarningColor;
     private final Color areaWarningBackgroundColor;
     private final float iconRadius;
+    private final SpriteVertexCache staticLayer;
+    private float staticLayerZoom;
+    private int staticLayerSystemCount;
+    private int staticLayerMazeCount;
     private boolean isToggled;
     private float zoom;
     private float skullTime;
@@ -85,6 +91,8 @@ public class MapDrawer {
         areaWarningColor = new Color(SolColor.WHITE);
         areaWarningBackgroundColor = new Color(SolColor.UI_WARN);
 
+        staticLayer = new SpriteVertexCache();
+
         warnAreaBackground = Assets.getAtlasRegion("engine:mapObjects/warnBg");
         atmosphereTexture = Assets.getAtlasRegion("engine:mapObjects/atm");
         planetTexture = Assets.getAtlasRegion("engine:mapObjects/planet");
@@ -126,6 +134,8 @@ public void draw(GameDrawer drawer, SolGame game) {
 
         drawer.updateMatrix(game);
         game.getGridDrawer().draw(drawer, game, GRID_SZ, lineTexture);
+        maybeRebuildStaticLayer(game);
+        drawer.draw(staticLayer);
         drawPlanets(drawer, game, viewDist, np, camPos, heroDmgCap, camAngle);
         drawMazes(drawer, game, viewDist, np, camPos, heroDmgCap, camAngle);
         drawStarNodes(drawer, game, viewDist, camPos, starNodeW);
@@ -134,6 +144,54 @@ public void draw(GameDrawer drawer, SolGame game) {
         drawIcons(drawer, game, iconSz, viewDist, factionManager, hero, camPos, heroDmgCap);
     }
 
+    /**
+     * System borders, stars, belts and mazes never move, so they are kept as ready vertices.
+     * Only the line widths and circle precision depend on the zoom, so the layer is rebuilt when the zoom changes enough.
+     */
+    private void maybeRebuildStaticLayer(SolGame game) {
+        PlanetManager planetManager = game.getPlanetManager();
+        ArrayList<SolSystem> systems = planetManager.getSystems();
+        ArrayList<Maze> mazes = planetManager.getMazes();
+        float zoomRatio = zoom / staticLayerZoom;
+        if (!staticLayer.isEmpty() && systems.size() == staticLayerSystemCount && mazes.size() == staticLayerMazeCount
+                && 1 / STATIC_LAYER_ZOOM_THRESHOLD < zoomRatio && zoomRatio < STATIC_LAYER_ZOOM_THRESHOLD) {
+            return;
+        }
+        staticLayer.clear();
+        staticLayerZoom = zoom;
+        staticLayerSystemCount = systems.size();
+        staticLayerMazeCount = mazes.size();
+
+        float vh = game.getCam().getViewHeight(zoom);
+        float circleWidth = vh / Gdx.graphics.getHeight() * 6;
+        for (SolSystem sys : systems) {
+            staticLayer.addCircle(lineTexture, sys.getPosition(), sys.getRadius(), SolColor.UI_MED, circleWidth, vh);
+        }
+        Vector2 beltIconPos = SolMath.getVec();
+        for (SolSystem sys : systems) {
+            Vector2 sysPos = sys.getPosition();
+            float rad = Const.SUN_RADIUS;
+            staticLayer.add(starTexture, 2 * rad, 2 * rad, rad, rad, sysPos.x, sysPos.y, 0, SolColor.WHITE);
+            for (SystemBelt belt : sys.getBelts()) {
+                float beltRad = belt.getRadius();
+                float halfWidth = belt.getHalfWidth();
+                int beltIconCount = (int) (.12f * beltRad);
+                for (int i = 0; i < beltIconCount; i++) {
+                    float angle = 360f * i / beltIconCount;
+                    SolMath.fromAl(beltIconPos, angle, beltRad);
+                    beltIconPos.add(sysPos);
+                    staticLayer.add(beltTexture, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, beltIconPos.x, beltIconPos.y, angle * 3, SolColor.WHITE);
+                }
+            }
+        }
+        SolMath.free(beltIconPos);
+        for (Maze maze : mazes) {
+            Vector2 mazePos = maze.getPos();
+            float rad = maze.getRadius() - MazeBuilder.BORDER;
+            staticLayer.add(mazeTexture, 2 * rad, 2 * rad, rad, rad, mazePos.x, mazePos.y, 45, SolColor.WHITE);
+        }
+    }
+
     public float getIconRadius(SolCam cam) {
         return cam.getViewHeight(zoom) * iconRadius;
     }
@@ -148,7 +206,6 @@ private void drawMazes(GameDrawer drawer, SolGame game, float viewDist, Planet n
             if (viewDist < camPos.dst(mazePos) - rad) {
                 continue;
             }
-            drawer.draw(mazeTexture, 2 * rad, 2 * rad, rad, rad, mazePos.x, mazePos.y, 45, SolColor.WHITE);
             if (HardnessCalc.isDangerous(heroDmgCap, maze.getDps())) {
                 drawAreaDanger(drawer, outerRad, mazePos, 1, camAngle);
             }
@@ -159,38 +216,19 @@ private void drawMazes(GameDrawer drawer, SolGame game, float viewDist, Planet n
     private void drawPlanets(GameDrawer drawer, SolGame game, float viewDist, Planet np, Vector2 camPos, float heroDmgCap,
                              float camAngle) {
         ArrayList<SolSystem> systems = game.getPlanetManager().getSystems();
-        SolCam cam = game.getCam();
-        float circleWidth = cam.getRealLineWidth() * 6;
-        float vh = cam.getViewHeight(zoom);
-        for (SolSystem sys : systems) {
-            drawer.drawCircle(lineTexture, sys.getPosition(), sys.getRadius(), SolColor.UI_MED, circleWidth, vh);
-        }
         for (SolSystem sys : systems) {
-            float dangerRad = HardnessCalc.isDangerous(heroDmgCap, sys.getDps()) ? sys.getRadius() : 0;
             Vector2 sysPos = sys.getPosition();
-            float rad = Const.SUN_RADIUS;
-            if (camPos.dst(sysPos) - rad < viewDist) {
-                drawer.draw(starTexture, 2 * rad, 2 * rad, rad, rad, sysPos.x, sysPos.y, 0, SolColor.WHITE);
+            if (viewDist < camPos.dst(sysPos) - sys.getRadius()) {
+                continue;
             }
-
-            Vector2 beltIconPos = SolMath.getVec();
+            float dangerRad = HardnessCalc.isDangerous(heroDmgCap, sys.getDps()) ? sys.getRadius() : 0;
             ArrayList<SystemBelt> belts = sys.getBelts();
             for (SystemBelt belt : belts) {
-                float beltRad = belt.getRadius();
-                float halfWidth = belt.getHalfWidth();
-                int beltIconCount = (int) (.12f * beltRad);
-                for (int i = 0; i < beltIconCount; i++) {
-                    float angle = 360f * i / beltIconCount;
-                    SolMath.fromAl(beltIconPos, angle, beltRad);
-                    beltIconPos.add(sysPos);
-                    drawer.draw(beltTexture, 2 * halfWidth, 2 * halfWidth, halfWidth, halfWidth, beltIconPos.x, beltIconPos.y, angle * 3, SolColor.WHITE);
-                }
-                float outerRad = beltRad + halfWidth;
+                float outerRad = belt.getRadius() + belt.getHalfWidth();
                 if (dangerRad < outerRad && HardnessCalc.isDangerous(heroDmgCap, belt.getDps())) {
                     dangerRad = outerRad;
                 }
             }
-            SolMath.free(beltIconPos);
             if (dangerRad < sys.getInnerRadius() && HardnessCalc.isDangerous(heroDmgCap, sys.getInnerDps())) {
                 dangerRad = sys.getInnerRadius();
             }
@@ -241,51 +279,33 @@ private void drawAreaDanger(GameDrawer drawer, float rad, Vector2 position, floa
 
     private void drawIcons(GameDrawer drawer, SolGame game, float iconSz, float viewDist, FactionManager factionManager,
                            Hero hero, Vector2 camPos, float heroDmgCap) {
-        List<SolObject> objs = game.getObjectManager().getObjects();
-        for (SolObject o : objs) {
-            Vector2 oPos = o.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
+        ShipSnapshot snapshot = game.getShipSnapshot();
+        Vector2 position = SolMath.getVec();
+        for (int i = 0, count = snapshot.getShipCount(); i < count; i++) {
+            position.set(snapshot.getShipX(i), snapshot.getShipY(i));
+            if (viewDist < camPos.dst(position)) {
                 continue;
             }
-            if ((o instanceof SolShip)) {
-                SolShip ship = (SolShip) o;
-                String hint = ship.getPilot().getMapHint();
-                if (hint == null && !DebugOptions.DETAILED_MAP) {
+            Pilot pilot = snapshot.getPilot(i);
+            if (snapshot.getKind(i) == ShipSnapshot.TRANSCENDENT) {
+                // Fix for when the player is in hyper. Hero is null and replaced in ObjMan with a StarPort.Transcendent
+                if (!pilot.isPlayer()) {
                     continue;
                 }
-                drawObjIcon(iconSz, oPos, ship.getAngle(), factionManager, hero, ship.getPilot().getFaction(), heroDmgCap, o, ship.getHull().config.getIcon(), drawer);
-            }
-            if ((o instanceof StarPort)) {
-                StarPort sp = (StarPort) o;
-                drawStarPortIcon(drawer, iconSz, sp.getFromPlanet(), sp.getToPlanet());
-            }
-            // Fix for when the player is in hyper. Hero is null and replaced in ObjMan with a StarPort.Transcendent
-            if ((o instanceof StarPort.Transcendent)) {
-                StarPort.Transcendent t = (StarPort.Transcendent) o;
-                if (t.getShip().getPilot().isPlayer()) {
-                    FarShip ship = game.getHero().getTranscendentHero().getShip();
-                    drawObjIcon(iconSz, oPos, t.getAngle(), factionManager, hero, ship.getPilot().getFaction(), heroDmgCap, o, ship.getHullConfig().getIcon(), drawer);
-                }
-
+            } else if (pilot.getMapHint() == null && !DebugOptions.DETAILED_MAP) {
+                continue;
             }
+            drawObjIcon(iconSz, position, snapshot.getShipAngle(i), factionManager, hero, snapshot.getFaction(i), heroDmgCap,
+                    snapshot.getDps(i), snapshot.getIcon(i), drawer);
         }
+        SolMath.free(position);
 
-        List<FarShip> farShips = game.getObjectManager().getFarShips();
-        for (FarShip ship : farShips) {
-            Vector2 oPos = ship.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
-                continue;
-            }
-            String hint = ship.getPilot().getMapHint();
-            if (hint == null && !DebugOptions.DETAILED_MAP) {
+        for (int i = 0, count = snapshot.getPortCount(); i < count; i++) {
+            // ports are drawn at their desired position, which may lie up to a port size away from the actual one
+            if (viewDist + StarPort.SIZE < camPos.dst(snapshot.getPortX(i), snapshot.getPortY(i))) {
                 continue;
             }
-            drawObjIcon(iconSz, oPos, ship.getAngle(), factionManager, hero, ship.getPilot().getFaction(), heroDmgCap, ship, ship.getHullConfig().getIcon(), drawer);
-        }
-
-        List<StarPort.FarStarPort> farPorts = game.getObjectManager().getFarPorts();
-        for (StarPort.FarStarPort sp : farPorts) {
-            drawStarPortIcon(drawer, iconSz, sp.getFrom(), sp.getTo());
+            drawStarPortIcon(drawer, iconSz, snapshot.getFromPlanet(i), snapshot.getToPlanet(i));
         }
         BeaconHandler bh = game.getBeaconHandler();
         BeaconHandler.Action bhAction = bh.getCurrAction();
@@ -306,33 +326,21 @@ private void drawIcons(GameDrawer drawer, SolGame game, float iconSz, float view
     public void drawStarPortIcon(GameDrawer drawer, float iconSz, Planet from, Planet to) {
         float angle = SolMath.angle(from.getPosition(), to.getPosition());
         Vector2 position = StarPort.getDesiredPosition(from, to, false);
-        drawObjIcon(iconSz, position, angle, null, null, null, -1, null, starPortTexture, drawer);
+        drawObjIcon(iconSz, position, angle, null, null, null, -1, 0, starPortTexture, drawer);
         SolMath.free(position);
     }
 
     private void drawStarNodes(GameDrawer drawer, SolGame game, float viewDist, Vector2 camPos, float starNodeW) {
-        List<SolObject> objs = game.getObjectManager().getObjects();
-        for (SolObject o : objs) {
-            if (!(o instanceof StarPort)) {
+        ShipSnapshot snapshot = game.getShipSnapshot();
+        for (int i = 0, count = snapshot.getPortCount(); i < count; i++) {
+            // a far secondary port leads back along the node of its primary one, near ports draw their node either way
+            if (!snapshot.isNearPort(i) && snapshot.isSecondaryPort(i)) {
                 continue;
             }
-            Vector2 oPos = o.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
+            if (viewDist < camPos.dst(snapshot.getPortX(i), snapshot.getPortY(i))) {
                 continue;
             }
-            StarPort sp = (StarPort) o;
-            drawStarNode(drawer, sp.getFromPlanet(), sp.getToPlanet(), starNodeW);
-        }
-
-        List<StarPort.FarStarPort> farPorts = game.getObjectManager().getFarPorts();
-        for (StarPort.FarStarPort sp : farPorts) {
-            Vector2 oPos = sp.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
-                continue;
-            }
-            if (!sp.isSecondary()) {
-                drawStarNode(drawer, sp.getFrom(), sp.getTo(), starNodeW);
-            }
+            drawStarNode(drawer, snapshot.getFromPlanet(i), snapshot.getToPlanet(i), starNodeW);
         }
     }
 
@@ -363,31 +371,27 @@ private void drawNpGround(GameDrawer drawer, SolGame game, float viewDist, Plane
             drawPlanetTile(to.getTile(), sz, drawer, oPos, to.getAngle());
         }
 
-        List<FarObjData> farObjs = objectManager.getFarObjs();
-        for (FarObjData fod : farObjs) {
-            FarObject o = fod.fo;
-            if (!(o instanceof FarTileObject)) {
-                continue;
-            }
-            FarTileObject to = (FarTileObject) o;
-            if (to.getPlanet() != np) {
+        FarObjectStore farStore = objectManager.getFarStore();
+        Vector2 tilePos = SolMath.getVec();
+        for (int i = 0; i < farStore.size(); i++) {
+            if (farStore.getType(i) != FarObjectStore.PLANET_TILE || farStore.getOwner(i) != np) {
                 continue;
             }
-            Vector2 oPos = o.getPosition();
-            if (viewDist < camPos.dst(oPos)) {
+            tilePos.set(farStore.getX(i), farStore.getY(i));
+            if (viewDist < camPos.dst(tilePos)) {
                 continue;
             }
-            float sz = to.getSz();
-            drawPlanetTile(to.getTile(), sz, drawer, oPos, to.getAngle());
+            drawPlanetTile((Tile) farStore.getShape(i), farStore.getSize(i), drawer, tilePos, farStore.getAngle(i));
         }
+        SolMath.free(tilePos);
     }
 
     public void drawObjIcon(float iconSz, Vector2 position, float objAngle,
                             FactionManager factionManager, @Nullable Hero hero, Faction objFac, float heroDmgCap,
-                            Object shipHack, TextureAtlas.AtlasRegion icon, Object drawerHack) {
+                            float objDps, TextureAtlas.AtlasRegion icon, Object drawerHack) {
         boolean enemy = hero != null && hero.isNonTranscendent() && factionManager.areEnemies(objFac, hero.getPilot().getFaction());
         float angle = objAngle;
-        if (enemy && skullTime > 0 && HardnessCalc.isDangerous(heroDmgCap, shipHack)) {
+        if (enemy && skullTime > 0 && HardnessCalc.isDangerous(heroDmgCap, objDps)) {
             icon = skullTexture;
             angle = 0;
         }
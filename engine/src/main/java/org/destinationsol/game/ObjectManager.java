@@ -17,6 +17,8 @@
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
 import com.badlogic.gdx.physics.box2d.World;
 import org.destinationsol.Const;
 import org.destinationsol.common.DebugCol;
@@ -25,12 +27,17 @@
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.drawables.DrawableManager;
 import org.destinationsol.game.drawables.FarDrawable;
+import org.destinationsol.game.item.LootCollectors;
+import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.ship.FarShip;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 public class ObjectManager {
     private static final float MAX_RADIUS_RECALC_AWAIT = 1f;
@@ -41,8 +48,14 @@ public class ObjectManager {
     private final List<FarShip> myFarShips;
     private final List<StarPort.FarStarPort> myFarPorts;
     private final World myWorld;
+    private final SolContactListener myContactListener;
     private final Box2DDebugRenderer myDr;
     private final HashMap<SolObject, Float> myRadii;
+    private final RayBatchQuery myRayBatchQuery;
+    private final PhysicsLod myPhysicsLod;
+    private final LootCollectors myLootCollectors;
+    private final FarObjectStore myFarStore;
+    private final List<SolObject> myFromFarStore;
 
     private float myFarEndDist;
     private float myFarBeginDist;
@@ -57,9 +70,15 @@ public ObjectManager(SolContactListener contactListener, FactionManager factionM
         myFarPorts = new ArrayList<>();
         myWorld = new World(new Vector2(0, 0), true);
         myWorld.setContactListener(contactListener);
+        myContactListener = contactListener;
         myWorld.setContactFilter(new SolContactFilter(factionManager));
         myDr = new Box2DDebugRenderer();
         myRadii = new HashMap<>();
+        myRayBatchQuery = new RayBatchQuery();
+        myPhysicsLod = new PhysicsLod();
+        myLootCollectors = new LootCollectors();
+        myFarStore = new FarObjectStore();
+        myFromFarStore = new ArrayList<>();
     }
 
     public boolean containsFarObj(FarObject fo) {
@@ -76,6 +95,7 @@ public void update(SolGame game) {
 
         float ts = game.getTimeStep();
         myWorld.step(ts, 6, 2);
+        myContactListener.dispatchCollisions();
 
         SolCam cam = game.getCam();
         Vector2 camPos = cam.getPosition();
@@ -90,6 +110,9 @@ public void update(SolGame game) {
             recalcRad = true;
         }
 
+        myPhysicsLod.update(game, this);
+        myLootCollectors.rebuild(myObjs);
+
         for (SolObject o : myObjs) {
             o.update(game);
             SolMath.checkVectorsTaken(o);
@@ -141,6 +164,13 @@ public void update(SolGame game) {
                 removeFo(it, fo);
             }
         }
+
+        Planet nearestPlanet = game.getPlanetManager().getNearestPlanet();
+        myFarStore.update(game, nearestPlanet, camPos, myFarEndDist, ts, myFromFarStore);
+        for (SolObject o : myFromFarStore) {
+            addObjDelayed(o);
+        }
+        myFromFarStore.clear();
         addRemove(game);
     }
 
@@ -155,8 +185,16 @@ private void removeFo(Iterator<FarObjData> it, FarObject fo) {
     }
 
     private void recalcRadius(SolObject o) {
-        float rad = DrawableManager.radiusFromDrawables(o.getDrawables());
-        myRadii.put(o, rad);
+        myRadii.put(o, radiusOf(o));
+    }
+
+    private static float radiusOf(SolObject o) {
+        List<Drawable> drawables = o.getDrawables();
+        return drawables.isEmpty() ? o.getRadiusWithoutDrawables() : DrawableManager.radiusFromDrawables(drawables);
+    }
+
+    public LootCollectors getLootCollectors() {
+        return myLootCollectors;
     }
 
     public float getPresenceRadius(SolObject o) {
@@ -187,6 +225,7 @@ private void addRemove(SolGame game) {
     private void removeObjNow(SolGame game, SolObject o) {
         myObjs.remove(o);
         myRadii.remove(o);
+        myPhysicsLod.onRemove(o);
         o.onRemove(game);
         game.getDrawableManager().removeObject(o);
     }
@@ -215,7 +254,7 @@ private boolean isNear(FarObjData fod, Vector2 camPos, float ts) {
         return false;
     }
 
-    private boolean isFar(SolObject o, Vector2 camPos) {
+    boolean isFar(SolObject o, Vector2 camPos) {
         float r = getPresenceRadius(o);
         List<Drawable> drawables = o.getDrawables();
         if (drawables != null && drawables.size() > 0) {
@@ -273,6 +312,12 @@ private void drawDebug0(GameDrawer drawer, SolGame game) {
             FarObject fo = fod.fo;
             drawer.drawCircle(drawer.debugWhiteTexture, fo.getPosition(), fo.getRadius(), DebugCol.OBJ_FAR, lineWidth, vh);
         }
+        Vector2 farStorePos = SolMath.getVec();
+        for (int i = 0; i < myFarStore.size(); i++) {
+            farStorePos.set(myFarStore.getX(i), myFarStore.getY(i));
+            drawer.drawCircle(drawer.debugWhiteTexture, farStorePos, myFarStore.getRadius(i), DebugCol.OBJ_FAR, lineWidth, vh);
+        }
+        SolMath.free(farStorePos);
         drawer.drawCircle(drawer.debugWhiteTexture, cam.getPosition(), myFarBeginDist, SolColor.WHITE, lineWidth, vh);
         drawer.drawCircle(drawer.debugWhiteTexture, cam.getPosition(), myFarEndDist, SolColor.WHITE, lineWidth, vh);
     }
@@ -299,18 +344,52 @@ public World getWorld() {
         return myWorld;
     }
 
+    /**
+     * Resolves all the rays of the batch with a single AABB query instead of one world raycast per ray.
+     * See {@link RayBatch} for how the results differ from {@link World#rayCast}.
+     */
+    public void castRays(RayBatch batch) {
+        if (batch.size() == 0) {
+            return;
+        }
+        myRayBatchQuery.ignored = batch.getIgnored();
+        // objects further than the max clearance from every ray can't lower any clearance
+        float margin = batch.getMaxClearance();
+        myWorld.QueryAABB(myRayBatchQuery, batch.getMinX() - margin, batch.getMinY() - margin, batch.getMaxX() + margin,
+                batch.getMaxY() + margin);
+        List<SolObject> candidates = myRayBatchQuery.candidates;
+        for (SolObject o : candidates) {
+            Vector2 position = o.getPosition();
+            Float radius = myRadii.get(o);
+            batch.test(position.x, position.y, radius == null ? radiusOf(o) : radius);
+        }
+        candidates.clear();
+        myRayBatchQuery.candidateSet.clear();
+        myRayBatchQuery.ignored = null;
+    }
+
     public void resetDelays() {
         for (FarObjData data : myFarObjs) {
             data.delay = 0;
         }
-
+        myFarStore.resetDelays();
     }
 
     public List<FarObjData> getFarObjs() {
         return myFarObjs;
     }
 
+    /**
+     * @return the planet tiles, maze tiles and asteroids that are far, these are not in {@link #getFarObjs()}
+     */
+    public FarObjectStore getFarStore() {
+        return myFarStore;
+    }
+
     public void addFarObjNow(FarObject fo) {
+        if (myFarStore.add(fo)) {
+            return;
+        }
         float depth = 1f;
         if (fo instanceof FarDrawable) {
             List<Drawable> drawables = ((FarDrawable) fo).getDrawables();
@@ -339,4 +418,20 @@ public List<StarPort.FarStarPort> getFarPorts() {
     public void dispose() {
         myWorld.dispose();
     }
+
+    private static class RayBatchQuery implements QueryCallback {
+        private final List<SolObject> candidates = new ArrayList<>();
+        // a body with several fixtures is reported once per fixture
+        private final Set<SolObject> candidateSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        private SolObject ignored;
+
+        @Override
+        public boolean reportFixture(Fixture fixture) {
+            Object o = fixture.getBody().getUserData();
+            if (o instanceof SolObject && o != ignored && candidateSet.add((SolObject) o)) {
+                candidates.add((SolObject) o);
+            }
+            return true;
+        }
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import org.destinationsol.Const;
+import org.destinationsol.game.planet.Planet;
+import org.destinationsol.game.planet.PlanetManager;
+import org.destinationsol.game.planet.SolSystem;
+import org.destinationsol.ui.DebugCollector;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Physics level of detail for the near objects.
+ * <p>
+ * Drifting objects (see {@link SleepableObject}) that are further from the camera than
+ * {@link DebugOptions#PHYSICS_LOD_DIST} view distances have their bodies put to sleep, so that {@code World.step} skips them.
+ * Box2D clears the velocity of a sleeping body, so it is remembered here, and the body is moved by it on every pass. The
+ * body is always where it would have drifted, so a collision that wakes it happens at the right place. When the object
+ * comes back into range, the body gets its velocity back. Objects in a gravity field are never put to sleep, as they
+ * don't just drift.
+ */
+public class PhysicsLod {
+    // an identity map keeps its entries in flat arrays, so putting objects to sleep doesn't allocate map nodes
+    private final Map<SleepableObject, SleepState> sleeping;
+    private final List<SleepState> freeStates;
+
+    PhysicsLod() {
+        sleeping = new IdentityHashMap<>();
+        freeStates = new ArrayList<>();
+    }
+
+    public void update(SolGame game, ObjectManager objectManager) {
+        SolCam cam = game.getCam();
+        Vector2 camPos = cam.getPosition();
+        float lodDist = DebugOptions.PHYSICS_LOD_DIST * cam.getViewDistance();
+        PlanetManager planetManager = game.getPlanetManager();
+        Planet np = planetManager.getNearestPlanet();
+        SolSystem ns = planetManager.getNearestSystem(camPos);
+        float timeStep = game.getTimeStep();
+
+        List<SolObject> objects = objectManager.getObjects();
+        for (SolObject o : objects) {
+            if (!(o instanceof SleepableObject)) {
+                continue;
+            }
+            SleepableObject so = (SleepableObject) o;
+            Vector2 position = o.getPosition();
+            boolean shouldSleep = lodDist > 0
+                    && lodDist < position.dst(camPos) - objectManager.getRadius(o)
+                    && !objectManager.isFar(o, camPos)
+                    && np.getFullHeight() < np.getPosition().dst(position)
+                    && Const.SUN_RADIUS < ns.getPosition().dst(position);
+            SleepState state = sleeping.get(so);
+            if (state == null) {
+                if (shouldSleep) {
+                    putToSleep(so);
+                }
+            } else if (!shouldSleep || so.getBody().isAwake()) {
+                wakeUp(so, state);
+                sleeping.remove(so);
+                freeStates.add(state);
+            } else {
+                drift(so.getBody(), state, timeStep);
+            }
+        }
+
+        if (DebugOptions.PHYSICS_INFO) {
+            DebugCollector.debug("Bodies simulated", objectManager.getWorld().getBodyCount() - sleeping.size());
+            DebugCollector.debug("Bodies asleep", sleeping.size());
+        }
+    }
+
+    private void putToSleep(SleepableObject o) {
+        Body body = o.getBody();
+        if (!body.isAwake()) {
+            return;
+        }
+        SleepState state = freeStates.isEmpty() ? new SleepState() : freeStates.remove(freeStates.size() - 1);
+        state.speed.set(body.getLinearVelocity());
+        state.rotationSpeed = body.getAngularVelocity();
+        body.setAwake(false);
+        sleeping.put(o, state);
+    }
+
+    /**
+     * Moves a sleeping body by a step of its drift. Setting the transform doesn't wake the body, and costs far less than
+     * simulating it.
+     */
+    private void drift(Body body, SleepState state, float timeStep) {
+        Vector2 position = body.getPosition();
+        body.setTransform(position.x + state.speed.x * timeStep, position.y + state.speed.y * timeStep,
+                body.getAngle() + state.rotationSpeed * timeStep);
+    }
+
+    private void wakeUp(SleepableObject o, SleepState state) {
+        Body body = o.getBody();
+        if (body.isAwake()) {
+            // woken by a collision, which started from zero velocity
+            state.speed.add(body.getLinearVelocity());
+            state.rotationSpeed += body.getAngularVelocity();
+        } else {
+            body.setAwake(true);
+        }
+        body.setLinearVelocity(state.speed);
+        body.setAngularVelocity(state.rotationSpeed);
+    }
+
+    /**
+     * Forgets the object, which is being removed from the game.
+     */
+    public void onRemove(SolObject o) {
+        SleepState state = sleeping.remove(o);
+        if (state != null) {
+            freeStates.add(state);
+        }
+    }
+
+    private static class SleepState {
+        private final Vector2 speed = new Vector2();
+        private float rotationSpeed;
+    }
+}
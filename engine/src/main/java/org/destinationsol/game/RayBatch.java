@@ -0,0 +1,192 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * A set of ray queries that {@link ObjectManager#castRays(RayBatch)} resolves with a single broadphase traversal.
+ * <p>
+ * Unlike {@link com.badlogic.gdx.physics.box2d.World#rayCast}, bodies are approximated by their object radius, so
+ * the results are conservative: a ray reported as clear does not touch any body, a ray reported as blocked
+ * passes close to one. Besides the blocked flag, every ray also gets a clearance - the distance between the ray and
+ * the nearest object that does not block it - which callers can use to decide how long the result stays valid. Only
+ * the objects within {@link #setMaxClearance(float) the max clearance} of the rays are looked at, so the clearance
+ * never exceeds it.
+ */
+public class RayBatch {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private float[] rays;
+    private float[] clearances;
+    private boolean[] blocked;
+    private int size;
+    private SolObject ignored;
+    private float maxClearance;
+
+    public RayBatch() {
+        rays = new float[INITIAL_CAPACITY * 4];
+        clearances = new float[INITIAL_CAPACITY];
+        blocked = new boolean[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a ray to the batch.
+     *
+     * @return the index used to read the results of this ray
+     */
+    public int add(Vector2 from, Vector2 to) {
+        if (size == blocked.length) {
+            grow();
+        }
+        int offset = size * 4;
+        rays[offset] = from.x;
+        rays[offset + 1] = from.y;
+        rays[offset + 2] = to.x;
+        rays[offset + 3] = to.y;
+        clearances[size] = maxClearance;
+        blocked[size] = false;
+        return size++;
+    }
+
+    private void grow() {
+        float[] newRays = new float[rays.length * 2];
+        System.arraycopy(rays, 0, newRays, 0, rays.length);
+        rays = newRays;
+        float[] newClearances = new float[clearances.length * 2];
+        System.arraycopy(clearances, 0, newClearances, 0, clearances.length);
+        clearances = newClearances;
+        boolean[] newBlocked = new boolean[blocked.length * 2];
+        System.arraycopy(blocked, 0, newBlocked, 0, blocked.length);
+        blocked = newBlocked;
+    }
+
+    /**
+     * Removes all the rays, keeping the allocated storage for reuse.
+     */
+    public void clear() {
+        size = 0;
+        ignored = null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sets an object that should never block the rays, usually the one casting them.
+     */
+    public void setIgnored(SolObject ignored) {
+        this.ignored = ignored;
+    }
+
+    public SolObject getIgnored() {
+        return ignored;
+    }
+
+    /**
+     * Sets how far around the rays objects are looked for, the clearances are capped at this. The default 0 only finds
+     * the objects in the bounding box of the rays, with all clearances 0. Takes effect for the rays added afterwards.
+     */
+    public void setMaxClearance(float maxClearance) {
+        this.maxClearance = maxClearance;
+    }
+
+    float getMaxClearance() {
+        return maxClearance;
+    }
+
+    public boolean isBlocked(int index) {
+        return blocked[index];
+    }
+
+    /**
+     * @return the distance between the ray and the nearest object not blocking it, at most the max clearance
+     */
+    public float getClearance(int index) {
+        return clearances[index];
+    }
+
+    float getMinX() {
+        float res = Float.MAX_VALUE;
+        for (int i = 0, n = size * 4; i < n; i += 2) {
+            res = Math.min(res, rays[i]);
+        }
+        return res;
+    }
+
+    float getMinY() {
+        float res = Float.MAX_VALUE;
+        for (int i = 1, n = size * 4; i < n; i += 2) {
+            res = Math.min(res, rays[i]);
+        }
+        return res;
+    }
+
+    float getMaxX() {
+        float res = -Float.MAX_VALUE;
+        for (int i = 0, n = size * 4; i < n; i += 2) {
+            res = Math.max(res, rays[i]);
+        }
+        return res;
+    }
+
+    float getMaxY() {
+        float res = -Float.MAX_VALUE;
+        for (int i = 1, n = size * 4; i < n; i += 2) {
+            res = Math.max(res, rays[i]);
+        }
+        return res;
+    }
+
+    /**
+     * Tests all the rays against a circle, updating their blocked flags and clearances.
+     */
+    void test(float x, float y, float radius) {
+        for (int i = 0; i < size; i++) {
+            if (blocked[i]) {
+                continue;
+            }
+            float dist = distToSegment(x, y, i) - radius;
+            if (dist <= 0) {
+                blocked[i] = true;
+            } else if (dist < clearances[i]) {
+                clearances[i] = dist;
+            }
+        }
+    }
+
+    private float distToSegment(float x, float y, int index) {
+        int offset = index * 4;
+        float fromX = rays[offset];
+        float fromY = rays[offset + 1];
+        float dx = rays[offset + 2] - fromX;
+        float dy = rays[offset + 3] - fromY;
+        float lenSq = dx * dx + dy * dy;
+        float t = 0;
+        if (lenSq > 0) {
+            t = ((x - fromX) * dx + (y - fromY) * dy) / lenSq;
+            if (t < 0) {
+                t = 0;
+            } else if (t > 1) {
+                t = 1;
+            }
+        }
+        float toX = fromX + t * dx - x;
+        float toY = fromY + t * dy - y;
+        return (float) Math.sqrt(toX * toX + toY * toY);
+    }
+}
@@ -21,6 +21,8 @@
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import org.destinationsol.IniReader;
+import org.destinationsol.SolApplication;
+import org.destinationsol.common.SolRandom;
 import org.destinationsol.files.HullConfigManager;
 import org.destinationsol.game.item.Gun;
 import org.destinationsol.game.item.ItemContainer;
@@ -166,6 +168,19 @@ public static boolean hasPrevShip(String fileName) {
         return resourceExists(fileName);
     }
 
+    /**
+     * Tests if the saved world was generated by an older version of the world generation, see
+     * {@link SolRandom#WORLD_GENERATOR_VERSION}. Its seed makes a different galaxy now.
+     */
+    public static boolean isWorldFromOlderGenerator() {
+        if (!resourceExists(SolApplication.WORLD_SAVE_FILE_NAME)) {
+            return false;
+        }
+        IniReader ir = new IniReader(SolApplication.WORLD_SAVE_FILE_NAME, null);
+        // Saves from before the generator version was written are version 1
+        return ir.getInt("generator", 1) != SolRandom.WORLD_GENERATOR_VERSION;
+    }
+
     public static ShipConfig readShip(HullConfigManager hullConfigs, ItemManager itemManager, SolGame game) {
         IniReader ir = new IniReader(SAVE_FILE_NAME, null);
 
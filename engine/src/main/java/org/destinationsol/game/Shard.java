@@ -23,7 +23,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
-public class Shard implements SolObject {
+public class Shard implements SleepableObject {
 
     private final Body body;
     private final Vector2 position;
@@ -117,4 +117,8 @@ public void receiveForce(Vector2 force, SolGame game, boolean acc) {
         body.applyForceToCenter(force, true);
     }
 
+    @Override
+    public Body getBody() {
+        return body;
+    }
 }
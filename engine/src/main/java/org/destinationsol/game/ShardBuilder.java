@@ -43,6 +43,10 @@ public ShardBuilder() {
         myTextures = Assets.listTexturesMatching("engine:shard_.*");
     }
 
+    public void dispose() {
+        myCollisionMeshLoader.dispose();
+    }
+
     public void buildExplosionShards(SolGame game, Vector2 position, Vector2 baseSpeed, float size) {
         int count = (int) (size * SIZE_TO_SHARD_COUNT);
         for (int i = 0; i < count; i++) {
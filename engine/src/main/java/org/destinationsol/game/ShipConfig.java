@@ -43,7 +43,7 @@ public ShipConfig(HullConfig hull, String items, int money, float density, ShipC
         this.money = money;
         this.density = density;
         this.guard = guard;
-        dps = HardnessCalc.getShipConfDps(this, itemManager);
+        dps = itemManager.getConfigRegistry().getShipConfigStrength(hull, items, itemManager).dps;
     }
     
     public ShipConfig(HullConfig hull, String items, int money, float density, ShipConfig guard, ItemManager itemManager, Vector2 spawnPos) {
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.input.Pilot;
+import org.destinationsol.game.planet.Planet;
+import org.destinationsol.game.ship.FarShip;
+import org.destinationsol.game.ship.SolShip;
+import org.destinationsol.game.ship.hulls.HullConfig;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The ships and star ports of the game, near and far, as they were after the last object update. It is built once per
+ * tick, so that the HUD, the map, the border icons and the beacon read compact columns instead of each walking the
+ * objects and the far objects and checking their types.
+ * <p>
+ * The rows are only valid until the next {@link #update(SolGame)}.
+ */
+public class ShipSnapshot {
+    public static final byte SHIP = 0;
+    public static final byte FAR_SHIP = 1;
+    // a ship travelling between two star ports, see StarPort.Transcendent
+    public static final byte TRANSCENDENT = 2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int shipCount;
+    private byte[] kinds;
+    private float[] shipXs;
+    private float[] shipYs;
+    private float[] shipAngles;
+    private float[] sizes;
+    private float[] approxRadii;
+    private float[] dps;
+    private boolean[] traders;
+    private Pilot[] pilots;
+    private Faction[] factions;
+    private TextureAtlas.AtlasRegion[] icons;
+    // SolShip, FarShip or StarPort.Transcendent, by kind
+    private Object[] ships;
+
+    private int portCount;
+    // the near ports come first, then the far ones
+    private int nearPortCount;
+    private float[] portXs;
+    private float[] portYs;
+    private float[] portAngles;
+    private boolean[] secondaryPorts;
+    private Planet[] fromPlanets;
+    private Planet[] toPlanets;
+
+    public ShipSnapshot() {
+        kinds = new byte[INITIAL_CAPACITY];
+        shipXs = new float[INITIAL_CAPACITY];
+        shipYs = new float[INITIAL_CAPACITY];
+        shipAngles = new float[INITIAL_CAPACITY];
+        sizes = new float[INITIAL_CAPACITY];
+        approxRadii = new float[INITIAL_CAPACITY];
+        dps = new float[INITIAL_CAPACITY];
+        traders = new boolean[INITIAL_CAPACITY];
+        pilots = new Pilot[INITIAL_CAPACITY];
+        factions = new Faction[INITIAL_CAPACITY];
+        icons = new TextureAtlas.AtlasRegion[INITIAL_CAPACITY];
+        ships = new Object[INITIAL_CAPACITY];
+
+        portXs = new float[INITIAL_CAPACITY];
+        portYs = new float[INITIAL_CAPACITY];
+        portAngles = new float[INITIAL_CAPACITY];
+        secondaryPorts = new boolean[INITIAL_CAPACITY];
+        fromPlanets = new Planet[INITIAL_CAPACITY];
+        toPlanets = new Planet[INITIAL_CAPACITY];
+    }
+
+    public void update(SolGame game) {
+        Arrays.fill(pilots, 0, shipCount, null);
+        Arrays.fill(factions, 0, shipCount, null);
+        Arrays.fill(icons, 0, shipCount, null);
+        Arrays.fill(ships, 0, shipCount, null);
+        Arrays.fill(fromPlanets, 0, portCount, null);
+        Arrays.fill(toPlanets, 0, portCount, null);
+        shipCount = 0;
+        portCount = 0;
+        nearPortCount = 0;
+
+        ObjectManager objectManager = game.getObjectManager();
+        List<SolObject> objects = objectManager.getObjects();
+        for (int i = 0, size = objects.size(); i < size; i++) {
+            SolObject object = objects.get(i);
+            if (object instanceof SolShip) {
+                SolShip ship = (SolShip) object;
+                addShip(SHIP, ship.getPosition(), ship.getAngle(), ship.getPilot(), ship.getHull().config,
+                        HardnessCalc.getShipDps(ship), ship.getTradeContainer() != null, ship);
+            } else if (object instanceof StarPort) {
+                StarPort port = (StarPort) object;
+                addPort(port.getPosition(), port.getAngle(), port.getFromPlanet(), port.getToPlanet(), port.isSecondary());
+            } else if (object instanceof StarPort.Transcendent) {
+                StarPort.Transcendent transcendent = (StarPort.Transcendent) object;
+                FarShip ship = transcendent.getShip();
+                addShip(TRANSCENDENT, transcendent.getPosition(), transcendent.getAngle(), ship.getPilot(), ship.getHullConfig(),
+                        0, false, transcendent);
+            }
+        }
+        nearPortCount = portCount;
+        List<FarShip> farShips = objectManager.getFarShips();
+        for (int i = 0, size = farShips.size(); i < size; i++) {
+            FarShip ship = farShips.get(i);
+            addShip(FAR_SHIP, ship.getPosition(), ship.getAngle(), ship.getPilot(), ship.getHullConfig(),
+                    HardnessCalc.getFarShipDps(ship), false, ship);
+        }
+        List<StarPort.FarStarPort> farPorts = objectManager.getFarPorts();
+        for (int i = 0, size = farPorts.size(); i < size; i++) {
+            StarPort.FarStarPort port = farPorts.get(i);
+            addPort(port.getPosition(), port.getAngle(), port.getFrom(), port.getTo(), port.isSecondary());
+        }
+    }
+
+    private void addShip(byte kind, Vector2 position, float angle, Pilot pilot, HullConfig hullConfig, float shipDps,
+                         boolean trader, Object ship) {
+        if (shipCount == kinds.length) {
+            growShips();
+        }
+        int i = shipCount++;
+        kinds[i] = kind;
+        shipXs[i] = position.x;
+        shipYs[i] = position.y;
+        shipAngles[i] = angle;
+        sizes[i] = hullConfig.getSize();
+        approxRadii[i] = hullConfig.getApproxRadius();
+        dps[i] = shipDps;
+        traders[i] = trader;
+        pilots[i] = pilot;
+        factions[i] = pilot.getFaction();
+        icons[i] = hullConfig.getIcon();
+        ships[i] = ship;
+    }
+
+    private void addPort(Vector2 position, float angle, Planet from, Planet to, boolean secondary) {
+        if (portCount == portXs.length) {
+            growPorts();
+        }
+        int i = portCount++;
+        portXs[i] = position.x;
+        portYs[i] = position.y;
+        portAngles[i] = angle;
+        secondaryPorts[i] = secondary;
+        fromPlanets[i] = from;
+        toPlanets[i] = to;
+    }
+
+    /**
+     * @return the row of the near or far ship flown by the pilot, -1 if there is none
+     */
+    public int findShip(Pilot pilot) {
+        for (int i = 0; i < shipCount; i++) {
+            if (pilots[i] == pilot && kinds[i] != TRANSCENDENT) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getShipCount() {
+        return shipCount;
+    }
+
+    public byte getKind(int i) {
+        return kinds[i];
+    }
+
+    public float getShipX(int i) {
+        return shipXs[i];
+    }
+
+    public float getShipY(int i) {
+        return shipYs[i];
+    }
+
+    public float getShipAngle(int i) {
+        return shipAngles[i];
+    }
+
+    /**
+     * @return the size of the hull
+     */
+    public float getSize(int i) {
+        return sizes[i];
+    }
+
+    public float getApproxRadius(int i) {
+        return approxRadii[i];
+    }
+
+    /**
+     * @return the damage per second of the guns of the ship, see {@link HardnessCalc#isDangerous(float, float)}
+     */
+    public float getDps(int i) {
+        return dps[i];
+    }
+
+    /**
+     * @return true if the ship is a near ship with a trade container, that the hero can talk to
+     */
+    public boolean isTrader(int i) {
+        return traders[i];
+    }
+
+    public Pilot getPilot(int i) {
+        return pilots[i];
+    }
+
+    public Faction getFaction(int i) {
+        return factions[i];
+    }
+
+    public TextureAtlas.AtlasRegion getIcon(int i) {
+        return icons[i];
+    }
+
+    public Object getShip(int i) {
+        return ships[i];
+    }
+
+    public int getPortCount() {
+        return portCount;
+    }
+
+    public float getPortX(int i) {
+        return portXs[i];
+    }
+
+    public float getPortY(int i) {
+        return portYs[i];
+    }
+
+    public float getPortAngle(int i) {
+        return portAngles[i];
+    }
+
+    public boolean isNearPort(int i) {
+        return i < nearPortCount;
+    }
+
+    public boolean isSecondaryPort(int i) {
+        return secondaryPorts[i];
+    }
+
+    public Planet getFromPlanet(int i) {
+        return fromPlanets[i];
+    }
+
+    public Planet getToPlanet(int i) {
+        return toPlanets[i];
+    }
+
+    private void growShips() {
+        int capacity = kinds.length * 2;
+        kinds = Arrays.copyOf(kinds, capacity);
+        shipXs = Arrays.copyOf(shipXs, capacity);
+        shipYs = Arrays.copyOf(shipYs, capacity);
+        shipAngles = Arrays.copyOf(shipAngles, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        approxRadii = Arrays.copyOf(approxRadii, capacity);
+        dps = Arrays.copyOf(dps, capacity);
+        traders = Arrays.copyOf(traders, capacity);
+        pilots = Arrays.copyOf(pilots, capacity);
+        factions = Arrays.copyOf(factions, capacity);
+        icons = Arrays.copyOf(icons, capacity);
+        ships = Arrays.copyOf(ships, capacity);
+    }
+
+    private void growPorts() {
+        int capacity = portXs.length * 2;
+        portXs = Arrays.copyOf(portXs, capacity);
+        portYs = Arrays.copyOf(portYs, capacity);
+        portAngles = Arrays.copyOf(portAngles, capacity);
+        secondaryPorts = Arrays.copyOf(secondaryPorts, capacity);
+        fromPlanets = Arrays.copyOf(fromPlanets, capacity);
+        toPlanets = Arrays.copyOf(toPlanets, capacity);
+    }
+}
@@ -20,14 +20,39 @@
 import com.badlogic.gdx.physics.box2d.ContactImpulse;
 import com.badlogic.gdx.physics.box2d.ContactListener;
 import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.World;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.projectile.Projectile;
 
+import java.util.Arrays;
+
+/**
+ * Reacts to the Box2D contacts.
+ * <p>
+ * Collisions reported by {@code postSolve} are not handled right away, but queued during {@link World#step} and
+ * handled by {@link #dispatchCollisions()} once the step is over. Multiple reports for the same pair of objects
+ * within one step are merged into one, keeping the strongest impulse, so that each pair is damaged and heard once per step.
+ */
 public class SolContactListener implements ContactListener {
+    private static final int INITIAL_QUEUE_CAPACITY = 64;
     private final SolGame myGame;
+    private SolObject[] myObjectsA;
+    private SolObject[] myObjectsB;
+    private float[] myImpulses;
+    private float[] myPositions;
+    private int myQueueSize;
+    // open addressing table of queue indices + 1 by object pair, 0 for a free slot, kept at most half full
+    private int[] myPairSlots;
+    private final Vector2 myCollPos;
 
     public SolContactListener(SolGame game) {
         myGame = game;
+        myObjectsA = new SolObject[INITIAL_QUEUE_CAPACITY];
+        myObjectsB = new SolObject[INITIAL_QUEUE_CAPACITY];
+        myImpulses = new float[INITIAL_QUEUE_CAPACITY];
+        myPositions = new float[INITIAL_QUEUE_CAPACITY * 2];
+        myPairSlots = new int[INITIAL_QUEUE_CAPACITY * 2];
+        myCollPos = new Vector2();
     }
 
     @Override
@@ -65,11 +90,86 @@ public void postSolve(Contact contact, ContactImpulse impulse) {
         }
 
         float absImpulse = calcAbsImpulse(impulse);
+        if (myQueueSize == myImpulses.length) {
+            growQueue();
+        }
+        int mask = myPairSlots.length - 1;
+        int slot = pairHash(soa, sob) & mask;
+        for (int entry = myPairSlots[slot]; entry != 0; entry = myPairSlots[slot]) {
+            int i = entry - 1;
+            if (myObjectsA[i] == soa && myObjectsB[i] == sob || myObjectsA[i] == sob && myObjectsB[i] == soa) {
+                if (myImpulses[i] < absImpulse) {
+                    myImpulses[i] = absImpulse;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        myPairSlots[slot] = myQueueSize + 1;
         Vector2 collPos = contact.getWorldManifold().getPoints()[0];
-        soa.handleContact(sob, absImpulse, myGame, collPos);
-        sob.handleContact(soa, absImpulse, myGame, collPos);
-        myGame.getSpecialSounds().playColl(myGame, absImpulse, soa, collPos);
-        myGame.getSpecialSounds().playColl(myGame, absImpulse, sob, collPos);
+        myObjectsA[myQueueSize] = soa;
+        myObjectsB[myQueueSize] = sob;
+        myImpulses[myQueueSize] = absImpulse;
+        myPositions[myQueueSize * 2] = collPos.x;
+        myPositions[myQueueSize * 2 + 1] = collPos.y;
+        myQueueSize++;
+    }
+
+    private void growQueue() {
+        int capacity = myImpulses.length * 2;
+        SolObject[] objectsA = new SolObject[capacity];
+        System.arraycopy(myObjectsA, 0, objectsA, 0, myQueueSize);
+        myObjectsA = objectsA;
+        SolObject[] objectsB = new SolObject[capacity];
+        System.arraycopy(myObjectsB, 0, objectsB, 0, myQueueSize);
+        myObjectsB = objectsB;
+        float[] impulses = new float[capacity];
+        System.arraycopy(myImpulses, 0, impulses, 0, myQueueSize);
+        myImpulses = impulses;
+        float[] positions = new float[capacity * 2];
+        System.arraycopy(myPositions, 0, positions, 0, myQueueSize * 2);
+        myPositions = positions;
+
+        myPairSlots = new int[capacity * 2];
+        int mask = myPairSlots.length - 1;
+        for (int i = 0; i < myQueueSize; i++) {
+            int slot = pairHash(myObjectsA[i], myObjectsB[i]) & mask;
+            while (myPairSlots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            myPairSlots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * @return the same hash for both orders of the objects
+     */
+    private static int pairHash(SolObject a, SolObject b) {
+        int hash = System.identityHashCode(a) ^ System.identityHashCode(b);
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Handles the collisions queued during the last world step, in the order they were first reported.
+     */
+    public void dispatchCollisions() {
+        for (int i = 0; i < myQueueSize; i++) {
+            SolObject soa = myObjectsA[i];
+            SolObject sob = myObjectsB[i];
+            float absImpulse = myImpulses[i];
+            myCollPos.set(myPositions[i * 2], myPositions[i * 2 + 1]);
+            soa.handleContact(sob, absImpulse, myGame, myCollPos);
+            sob.handleContact(soa, absImpulse, myGame, myCollPos);
+            myGame.getSpecialSounds().playColl(myGame, absImpulse, soa, myCollPos);
+            myGame.getSpecialSounds().playColl(myGame, absImpulse, sob, myCollPos);
+            myObjectsA[i] = null;
+            myObjectsB[i] = null;
+        }
+        if (myQueueSize > 0) {
+            Arrays.fill(myPairSlots, 0);
+        }
+        myQueueSize = 0;
     }
 
     private float calcAbsImpulse(ContactImpulse impulse) {
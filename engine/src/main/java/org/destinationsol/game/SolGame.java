@@ -41,13 +41,15 @@
 import org.destinationsol.game.item.MercItem;
 import org.destinationsol.game.item.SolItem;
 import org.destinationsol.game.item.TradeConfig;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.particle.PartMan;
+import org.destinationsol.game.particle.ParticleEngine;
 import org.destinationsol.game.particle.SpecialEffects;
 import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.planet.PlanetManager;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SunSingleton;
+import org.destinationsol.game.replay.InputRecorder;
+import org.destinationsol.game.replay.ReplayPilot;
 import org.destinationsol.game.screens.GameScreens;
 import org.destinationsol.game.ship.ShipAbility;
 import org.destinationsol.game.ship.ShipBuilder;
@@ -82,6 +84,8 @@ public class SolGame {
     private final PlanetManager planetManager;
     private final ChunkManager chunkManager;
     private final PartMan partMan;
+    private final ParticleEngine particleEngine;
+    private final ShipSnapshot shipSnapshot;
     private final AsteroidBuilder asteroidBuilder;
     private final LootBuilder lootBuilder;
     private final ShipBuilder shipBuilder;
@@ -102,11 +106,14 @@ public class SolGame {
     private final MountDetectDrawer mountDetectDrawer;
     private final TutorialManager tutorialManager;
     private final GalaxyFiller galaxyFiller;
+    private final AllocationTracker allocationTracker;
+    private final GenerationExecutor generationExecutor;
     private final ArrayList<SolItem> respawnItems;
     private Hero hero;
     private String shipName; // Not updated in-game. Can be changed using setter
     private float timeStep;
     private float time;
+    private long tick;
     private boolean paused;
     private float timeFactor;
     private float respawnMoney;
@@ -116,7 +123,8 @@ public class SolGame {
     public SolGame(SolApplication cmp, String shipName, boolean tut, boolean isNewGame, CommonDrawer commonDrawer) {
         solApplication = cmp;
         GameDrawer drawer = new GameDrawer(commonDrawer);
-        gameColors = new GameColors();
+        ConfigRegistry configRegistry = new ConfigRegistry(solApplication.getSoundManager());
+        gameColors = configRegistry.getGameColors();
         soundManager = solApplication.getSoundManager();
         specialSounds = new SpecialSounds(soundManager);
         drawableManager = new DrawableManager(drawer);
@@ -125,24 +133,27 @@ public SolGame(SolApplication cmp, String shipName, boolean tut, boolean isNewGa
         tutorialManager = tut ? new TutorialManager(commonDrawer.dimensionsRatio, gameScreens, cmp.isMobile(), cmp.getOptions(), this) : null;
         farBackgroundManagerOld = new FarBackgroundManagerOld();
         shipBuilder = new ShipBuilder();
-        EffectTypes effectTypes = new EffectTypes();
-        specialEffects = new SpecialEffects(effectTypes, gameColors);
-        itemManager = new ItemManager(soundManager, effectTypes, gameColors);
-        AbilityCommonConfigs abilityCommonConfigs = new AbilityCommonConfigs(effectTypes, gameColors, soundManager);
+        specialEffects = new SpecialEffects(configRegistry);
+        itemManager = new ItemManager(soundManager, configRegistry);
+        AbilityCommonConfigs abilityCommonConfigs = new AbilityCommonConfigs(configRegistry, soundManager);
         hullConfigManager = new HullConfigManager(itemManager, abilityCommonConfigs);
         SolNames solNames = new SolNames();
-        planetManager = new PlanetManager(hullConfigManager, gameColors, itemManager);
+        planetManager = new PlanetManager(hullConfigManager, configRegistry, itemManager);
         SolContactListener contactListener = new SolContactListener(this);
         factionManager = new FactionManager();
         objectManager = new ObjectManager(contactListener, factionManager);
         gridDrawer = new GridDrawer();
         chunkManager = new ChunkManager();
         partMan = new PartMan();
+        particleEngine = new ParticleEngine();
+        shipSnapshot = new ShipSnapshot();
         asteroidBuilder = new AsteroidBuilder();
         lootBuilder = new LootBuilder();
         mapDrawer = new MapDrawer(commonDrawer.height);
         shardBuilder = new ShardBuilder();
         galaxyFiller = new GalaxyFiller();
+        allocationTracker = new AllocationTracker();
+        generationExecutor = new GenerationExecutor();
         starPortBuilder = new StarPort.Builder();
         drawableDebugger = new DrawableDebugger();
         beaconHandler = new BeaconHandler();
@@ -156,6 +167,8 @@ public SolGame(SolApplication cmp, String shipName, boolean tut, boolean isNewGa
         if (!isNewGame) {
             createAndSpawnMercenariesFromSave();
         }
+        logger.debug("Loaded {} effect configs for {} uses, {} texture regions", configRegistry.getEffectConfigCount(),
+                configRegistry.getEffectConfigLoads(), configRegistry.getAtlasRegionCount());
         SolMath.checkVectorsTaken(null);
     }
 
@@ -183,6 +196,8 @@ private void createPlayer(String shipName, boolean isNewGame) {
         if (solApplication.getOptions().controlType == GameOptions.CONTROL_MOUSE) {
             beaconHandler.init(this, position);
             pilot = new AiPilot(new BeaconDestProvider(), true, Faction.LAANI, false, "you", Const.AI_DET_DIST);
+        } else if (solApplication.getInputReplayer() != null) {
+            pilot = new ReplayPilot(gameScreens.mainScreen, solApplication.getInputReplayer());
         } else {
             pilot = new UiControlledPilot(gameScreens.mainScreen);
         }
@@ -240,7 +255,20 @@ private void createAndSpawnMercenariesFromSave() {
     public void onGameEnd() {
         saveShip();
         saveWorld();
+        dispose();
+    }
+
+    /**
+     * Frees the game's resources without saving it, like {@link #onGameEnd()} does for a replayed game
+     */
+    public void dispose() {
         objectManager.dispose();
+        generationExecutor.dispose();
+        // the cached collision shapes are native, the bodies are gone with the world
+        shipBuilder.dispose();
+        asteroidBuilder.dispose();
+        shardBuilder.dispose();
+        starPortBuilder.dispose();
     }
 
     /**
@@ -253,7 +281,7 @@ private void saveWorld() {
 
             String fileName = SaveManager.getResourcePath(SolApplication.WORLD_SAVE_FILE_NAME);
 
-            String toWrite = "seed=" + Long.toString(seed);
+            String toWrite = "seed=" + Long.toString(seed) + "\ngenerator=" + SolRandom.WORLD_GENERATOR_VERSION;
 
             PrintWriter writer;
             try {
@@ -318,19 +346,42 @@ public void update() {
         }
         timeStep = Const.REAL_TIME_STEP * timeFactor;
         time += timeStep;
+        tick++;
+        SolRandom.startTick(tick);
+        InputRecorder inputRecorder = solApplication.getInputRecorder();
+        if (inputRecorder != null) {
+            inputRecorder.recordTick(hero);
+        }
 
+        allocationTracker.begin();
         planetManager.update(this);
+        allocationTracker.mark(AllocationTracker.Section.PLANETS);
+        galaxyFiller.update(this);
+        allocationTracker.mark(AllocationTracker.Section.GALAXY);
         camera.update(this);
+        allocationTracker.mark(AllocationTracker.Section.CAMERA);
         chunkManager.update(this);
+        allocationTracker.mark(AllocationTracker.Section.CHUNKS);
         mountDetectDrawer.update(this);
+        allocationTracker.mark(AllocationTracker.Section.MOUNT_DETECT);
         objectManager.update(this);
+        allocationTracker.mark(AllocationTracker.Section.OBJECTS);
+        shipSnapshot.update(this);
+        allocationTracker.mark(AllocationTracker.Section.SHIP_SNAPSHOT);
+        particleEngine.update(this);
+        allocationTracker.mark(AllocationTracker.Section.PARTICLES);
         mapDrawer.update(this);
+        allocationTracker.mark(AllocationTracker.Section.MAP);
         soundManager.update(this);
+        allocationTracker.mark(AllocationTracker.Section.SOUND);
         beaconHandler.update(this);
+        allocationTracker.mark(AllocationTracker.Section.BEACON);
 
         if (tutorialManager != null) {
             tutorialManager.update();
         }
+        allocationTracker.mark(AllocationTracker.Section.TUTORIAL);
+        allocationTracker.debug();
     }
 
     public void draw() {
@@ -386,6 +437,17 @@ public PartMan getPartMan() {
         return partMan;
     }
 
+    public ParticleEngine getParticleEngine() {
+        return particleEngine;
+    }
+
+    /**
+     * @return the ships and star ports as of the last update, for the HUD, the map and the beacon
+     */
+    public ShipSnapshot getShipSnapshot() {
+        return shipSnapshot;
+    }
+
     public AsteroidBuilder getAsteroidBuilder() {
         return asteroidBuilder;
     }
@@ -475,6 +537,13 @@ public boolean isPlaceEmpty(Vector2 position, boolean considerPlanets) {
             }
         }
 
+        FarObjectStore farStore = objectManager.getFarStore();
+        for (int i = 0; i < farStore.size(); i++) {
+            if (position.dst(farStore.getX(i), farStore.getY(i)) < farStore.getRadius(i)) {
+                return false;
+            }
+        }
+
         return true;
     }
 
@@ -490,10 +559,18 @@ public FarBackgroundManagerOld getFarBackgroundgManagerOld() {
         return farBackgroundManagerOld;
     }
 
+    public AllocationTracker getAllocationTracker() {
+        return allocationTracker;
+    }
+
     public GalaxyFiller getGalaxyFiller() {
         return galaxyFiller;
     }
 
+    public GenerationExecutor getGenerationExecutor() {
+        return generationExecutor;
+    }
+
     public StarPort.Builder getStarPortBuilder() {
         return starPortBuilder;
     }
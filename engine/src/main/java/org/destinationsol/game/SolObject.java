@@ -52,5 +52,13 @@ default String toDebugString() {
 
     Boolean isMetal();
 
+    /**
+     * @return the radius of an object that has no drawables to measure it by, like a ground tile drawn by the ground
+     * mesh of its planet
+     */
+    default float getRadiusWithoutDrawables() {
+        return 0;
+    }
+
     boolean hasBody();
 }
@@ -231,6 +231,10 @@ public static class Builder {
             myLoader = new CollisionMeshLoader("engine:miscCollisionMeshes");
         }
 
+        public void dispose() {
+            myLoader.dispose();
+        }
+
         public StarPort build(SolGame game, Planet from, Planet to, boolean secondary) {
             float angle = SolMath.angle(from.getPosition(), to.getPosition());
             Vector2 position = getDesiredPosition(from, to, false);
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+/**
+ * How strong a ship is in a fight, as estimated by {@link HardnessCalc}. It only depends on the hull and the equipped
+ * items, so ships keep theirs until the loadout changes and ship configs share one per hull and item spec.
+ */
+public class StrengthProfile {
+    /**
+     * The mean damage per second of the guns.
+     */
+    public final float dps;
+    /**
+     * The damage the ship takes before it dies, with the armor and the shield.
+     */
+    public final float dmgCap;
+
+    public StrengthProfile(float dps, float dmgCap) {
+        this.dps = dps;
+        this.dmgCap = dmgCap;
+    }
+}
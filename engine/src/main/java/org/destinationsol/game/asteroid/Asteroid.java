@@ -23,6 +23,7 @@
 import org.destinationsol.game.DmgType;
 import org.destinationsol.game.FarObject;
 import org.destinationsol.game.RemoveController;
+import org.destinationsol.game.SleepableObject;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
 import org.destinationsol.game.drawables.Drawable;
@@ -36,7 +37,7 @@
 import java.util.ArrayList;
 import java.util.List;
 
-public class Asteroid implements SolObject {
+public class Asteroid implements SleepableObject {
     private static final float MIN_SPLIT_SZ = .25f;
     private static final float MIN_BURN_SZ = .3f;
     private static final float SZ_TO_LIFE = 20f;
@@ -234,5 +235,9 @@ public void receiveForce(Vector2 force, SolGame game, boolean acc) {
     public float getLife() {
         return life;
     }
-}
 
+    @Override
+    public Body getBody() {
+        return body;
+    }
+}
@@ -48,6 +48,10 @@ public AsteroidBuilder() {
         textures = Assets.listTexturesMatching("engine:asteroid_.*");
     }
 
+    public void dispose() {
+        collisionMeshLoader.dispose();
+    }
+
     public static Body buildBall(SolGame game, Vector2 position, float angle, float rad, float density, boolean sensor) {
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.DynamicBody;
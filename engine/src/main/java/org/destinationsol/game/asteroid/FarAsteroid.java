@@ -75,4 +75,28 @@ public String toDebugString() {
     public boolean hasBody() {
         return true;
     }
+
+    public TextureAtlas.AtlasRegion getTexture() {
+        return texture;
+    }
+
+    public float getAngle() {
+        return angle;
+    }
+
+    public RemoveController getRemoveController() {
+        return removeController;
+    }
+
+    public float getSize() {
+        return size;
+    }
+
+    public Vector2 getSpeed() {
+        return speed;
+    }
+
+    public float getRotationSpeed() {
+        return rotationSpeed;
+    }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.Const;
 import org.destinationsol.assets.Assets;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
@@ -33,6 +34,7 @@
 import org.destinationsol.game.drawables.DrawableLevel;
 import org.destinationsol.game.drawables.FarDrawable;
 import org.destinationsol.game.drawables.RectSprite;
+import org.destinationsol.game.drawables.SpriteGroup;
 import org.destinationsol.game.input.AiPilot;
 import org.destinationsol.game.input.MoveDestProvider;
 import org.destinationsol.game.input.Pilot;
@@ -67,6 +69,7 @@ public class ChunkFiller {
     private static final float BELT_A_DENSITY = .04f;
     private static final float MAZE_ZONE_BORDER = 20;
     private final TextureAtlas.AtlasRegion dustTexture;
+    private final RandomStream random = new RandomStream(0);
 
     public ChunkFiller() {
         dustTexture = Assets.getAtlasRegion("engine:spaceDecorationDust");
@@ -90,6 +93,10 @@ public void fill(SolGame game, Vector2 chunk, RemoveController removeController,
         chunkCenter.scl(Const.CHUNK_SIZE);
         chunkCenter.add(Const.CHUNK_SIZE / 2, Const.CHUNK_SIZE / 2);
 
+        // Every chunk gets its own stream, so its contents don't depend on the order the chunks are visited in
+        SolRandom.Domain domain = fillFarBackground ? SolRandom.Domain.CHUNK_BACKGROUND : SolRandom.Domain.CHUNK;
+        random.reset(SolRandom.streamSeed(domain, SolRandom.positionKey(chunk)));
+
         // Define the density multiplier for different layers of junk in the far background
         // Dirty hack - since we want to edit this in getConfig(), it needs to be an Object
         float[] densityMultiplier = {1};
@@ -190,13 +197,13 @@ private FarShip buildSpaceEnemy(SolGame game, Vector2 position, RemoveController
         }
 
         Vector2 speed = new Vector2();
-        SolMath.fromAl(speed, SolRandom.randomFloat(180), SolRandom.randomFloat(0, ENEMY_MAX_SPD));
-        float rotationSpeed = SolRandom.randomFloat(ENEMY_MAX_ROT_SPD);
+        SolMath.fromAl(speed, random.randomFloat(180), random.randomFloat(0, ENEMY_MAX_SPD));
+        float rotationSpeed = random.randomFloat(ENEMY_MAX_ROT_SPD);
         MoveDestProvider dp = new StillGuard(position, game, enemyConf);
         Pilot provider = new AiPilot(dp, false, Faction.EHAR, true, null, Const.AI_DET_DIST);
         HullConfig config = enemyConf.hull;
         int money = enemyConf.money;
-        float angle = SolRandom.randomFloat(180);
+        float angle = random.randomFloat(180);
         return game.getShipBuilder().buildNewFar(game, position, speed, angle, rotationSpeed, provider, enemyConf.items, config,
                 remover, false, money, null, true);
     }
@@ -215,9 +222,9 @@ private void fillAsteroids(SolGame game, RemoveController remover, boolean forBe
             }
             float minSz = forBelt ? MIN_BELT_A_SZ : MIN_SYS_A_SZ;
             float maxSz = forBelt ? MAX_BELT_A_SZ : MAX_SYS_A_SZ;
-            float sz = SolRandom.randomFloat(minSz, maxSz);
+            float sz = random.randomFloat(minSz, maxSz);
             Vector2 speed = new Vector2();
-            SolMath.fromAl(speed, SolRandom.randomFloat(180), MAX_A_SPD);
+            SolMath.fromAl(speed, random.randomFloat(180), MAX_A_SPD);
 
             FarAsteroid a = game.getAsteroidBuilder().buildNewFar(asteroidPos, speed, sz, remover);
             game.getObjectManager().addFarObjNow(a);
@@ -251,21 +258,22 @@ private void fillFarJunk(SolGame game, Vector2 chunkCenter, RemoveController rem
 
         for (int i = 0; i < count; i++) {
             // Select a random far junk texture
-            TextureAtlas.AtlasRegion tex = new TextureAtlas.AtlasRegion(SolRandom.randomElement(conf.farJunkTextures));
+            TextureAtlas.AtlasRegion tex = new TextureAtlas.AtlasRegion(random.randomElement(conf.farJunkTextures));
             // Flip atlas for every other piece of junk
-            if (SolRandom.test(.5f)) {
+            if (random.test(.5f)) {
                 tex.flip(!tex.isFlipX(), !tex.isFlipY());
             }
             // Choose a random size (within a range)
-            float sz = SolRandom.randomFloat(.3f, 1) * FAR_JUNK_MAX_SZ;
+            float sz = random.randomFloat(.3f, 1) * FAR_JUNK_MAX_SZ;
             // Apply a random rotation speed
-            float rotationSpeed = SolRandom.randomFloat(FAR_JUNK_MAX_ROT_SPD);
+            float rotationSpeed = random.randomFloat(FAR_JUNK_MAX_ROT_SPD);
             // Select a random position in the chunk centered around chunkCenter, relative to the position of the chunk.
             Vector2 junkPos = getRndPos(chunkCenter);
             junkPos.sub(chunkCenter);
 
-            // Create the resulting sprite and add it to the list
-            RectSprite s = new RectSprite(tex, sz, 0, 0, junkPos, drawableLevel, SolRandom.randomFloat(180), rotationSpeed, SolColor.DDG, false);
+            // Create the resulting sprite and add it to the list. Unlike the dust, every piece spins at its own speed,
+            // so a SpriteGroup with fixed vertices doesn't fit it.
+            RectSprite s = new RectSprite(tex, sz, 0, 0, junkPos, drawableLevel, random.randomFloat(180), rotationSpeed, SolColor.DDG, false);
             drawables.add(s);
         }
 
@@ -300,24 +308,24 @@ private void fillJunk(SolGame game, RemoveController remover, SpaceEnvConfig con
             Vector2 junkPos = getRndPos(chunkCenter);
 
             // Select a random junk atlas
-            TextureAtlas.AtlasRegion tex = new TextureAtlas.AtlasRegion(SolRandom.randomElement(conf.junkTextures));
+            TextureAtlas.AtlasRegion tex = new TextureAtlas.AtlasRegion(random.randomElement(conf.junkTextures));
             // Flip atlas for every other piece of junk
-            if (SolRandom.test(.5f)) {
+            if (random.test(.5f)) {
                 tex.flip(!tex.isFlipX(), !tex.isFlipY());
             }
             // Choose a random size (within a range)
-            float sz = SolRandom.randomFloat(.3f, 1) * JUNK_MAX_SZ;
+            float sz = random.randomFloat(.3f, 1) * JUNK_MAX_SZ;
             // Apply a random rotation speed
-            float rotationSpeed = SolRandom.randomFloat(JUNK_MAX_ROT_SPD);
+            float rotationSpeed = random.randomFloat(JUNK_MAX_ROT_SPD);
 
             // Create the resulting sprite and add it to the list as the only element
-            RectSprite s = new RectSprite(tex, sz, 0, 0, new Vector2(), DrawableLevel.DECO, SolRandom.randomFloat(180), rotationSpeed, SolColor.LG, false);
+            RectSprite s = new RectSprite(tex, sz, 0, 0, new Vector2(), DrawableLevel.DECO, random.randomFloat(180), rotationSpeed, SolColor.LG, false);
             ArrayList<Drawable> drawables = new ArrayList<>();
             drawables.add(s);
 
             // Create a FarDrawable instance for this piece of junk and only allow it to be drawn when it's not hidden by a planet
             Vector2 speed = new Vector2();
-            SolMath.fromAl(speed, SolRandom.randomFloat(180), SolRandom.randomFloat(JUNK_MAX_SPD_LEN));
+            SolMath.fromAl(speed, random.randomFloat(180), random.randomFloat(JUNK_MAX_SPD_LEN));
             FarDrawable so = new FarDrawable(drawables, junkPos, speed, remover, true);
             // Add the object to the object manager
             game.getObjectManager().addFarObjNow(so);
@@ -334,20 +342,20 @@ private void fillJunk(SolGame game, RemoveController remover, SpaceEnvConfig con
      * @param remover
      */
     private void fillDust(SolGame game, Vector2 chunkCenter, RemoveController remover) {
-        ArrayList<Drawable> drawables = new ArrayList<>();
         int count = getEntityCount(DUST_DENSITY);
         if (count == 0) {
             return;
         }
 
+        // The specks never move relative to the chunk, so they are drawn as one group of precomputed sprites
+        SpriteGroup dust = new SpriteGroup(dustTexture, DrawableLevel.DECO, SolColor.WHITE);
         for (int i = 0; i < count; i++) {
             // Select a random position in the chunk centered around chunkCenter, relative to the position of the chunk.
             Vector2 dustPos = getRndPos(chunkCenter);
-            dustPos.sub(chunkCenter);
-            // Create the resulting sprite and add it to the list
-            RectSprite s = new RectSprite(dustTexture, DUST_SZ, 0, 0, dustPos, DrawableLevel.DECO, 0, 0, SolColor.WHITE, false);
-            drawables.add(s);
+            dust.add(DUST_SZ, dustPos.x - chunkCenter.x, dustPos.y - chunkCenter.y, 0);
         }
+        ArrayList<Drawable> drawables = new ArrayList<>();
+        drawables.add(dust);
 
         // Create a common FarDrawable instance for the specks of dust and only allow the dust to be drawn when it's not hidden by a planet
         FarDrawable so = new FarDrawable(drawables, chunkCenter, new Vector2(), remover, true);
@@ -384,8 +392,8 @@ private Vector2 getFreeRndPos(SolGame game, Vector2 chunkCenter) {
      */
     private Vector2 getRndPos(Vector2 chunkCenter) {
         Vector2 position = new Vector2(chunkCenter);
-        position.x += SolRandom.randomFloat(Const.CHUNK_SIZE / 2);
-        position.y += SolRandom.randomFloat(Const.CHUNK_SIZE / 2);
+        position.x += random.randomFloat(Const.CHUNK_SIZE / 2);
+        position.y += random.randomFloat(Const.CHUNK_SIZE / 2);
         return position;
     }
 
@@ -401,7 +409,7 @@ private int getEntityCount(float density) {
         if (amt >= 1) {
             return (int) amt;
         }
-        return SolRandom.test(amt) ? 1 : 0;
+        return random.test(amt) ? 1 : 0;
     }
 
 }
@@ -23,6 +23,7 @@
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.OrderedMap;
 import org.destinationsol.common.DebugCol;
+import org.destinationsol.game.AllocationTracker;
 import org.destinationsol.game.DebugOptions;
 import org.destinationsol.game.GameDrawer;
 import org.destinationsol.game.MapDrawer;
@@ -112,9 +113,12 @@ public void draw(SolGame game) {
             return;
         }
 
+        AllocationTracker allocationTracker = game.getAllocationTracker();
+        allocationTracker.begin();
         SolCam cam = game.getCam();
         drawer.updateMatrix(game);
         game.getFarBackgroundgManagerOld().draw(drawer, cam, game);
+        allocationTracker.mark(AllocationTracker.Section.DRAW_BACKGROUND);
         Vector2 camPos = cam.getPosition();
         float viewDistance = cam.getViewDistance();
 
@@ -145,12 +149,16 @@ public void draw(SolGame game) {
                 }
             }
         }
+        allocationTracker.mark(AllocationTracker.Section.DRAW_VISIBILITY);
 
         for (int dlIdx = 0, dlCount = drawableLevels.length; dlIdx < dlCount; dlIdx++) {
             DrawableLevel drawableLevel = drawableLevels[dlIdx];
             if (drawableLevel == DrawableLevel.PART_FG_0) {
                 game.getMountDetectDrawer().draw(drawer);
             }
+            if (drawableLevel == DrawableLevel.GROUND && !DebugOptions.NO_DRAS) {
+                game.getPlanetManager().drawGround(drawer, cam);
+            }
             OrderedMap<Texture, List<Drawable>> map = drawables.get(dlIdx);
             Array<Texture> texs = map.orderedKeys();
             for (int texIdx = 0, sz = texs.size; texIdx < sz; texIdx++) {
@@ -164,6 +172,9 @@ public void draw(SolGame game) {
                     }
                 }
             }
+            if (!DebugOptions.NO_DRAS) {
+                game.getParticleEngine().draw(drawer, drawableLevel, cam);
+            }
             if (drawableLevel.depth <= 1) {
                 game.drawDebug(drawer);
             }
@@ -174,6 +185,7 @@ public void draw(SolGame game) {
                 }
             }
         }
+        allocationTracker.mark(AllocationTracker.Section.DRAW_LEVELS);
 
         if (DebugOptions.DRAW_DRA_BORDERS) {
             for (OrderedMap<Texture, List<Drawable>> map : drawables) {
@@ -64,15 +64,19 @@ public void update(SolGame game) {
             Vector2 planetPosition = planet.getPosition();
             float planetGroundHeight = planet.getGroundHeight();
             DrawableManager drawableManager = game.getDrawableManager();
+            float gradSz = .25f * Const.ATM_HEIGHT;
             for (Drawable drawable : drawables) {
-                if (!(drawable instanceof RectSprite)) {
+                if (!drawableManager.isVisible(drawable)) {
                     continue;
                 }
-                if (!drawableManager.isVisible(drawable)) {
+                if (drawable instanceof SpriteGroup) {
+                    ((SpriteGroup) drawable).fadeNearPlanet(planetPosition, planetGroundHeight + Const.ATM_HEIGHT, gradSz);
+                    continue;
+                }
+                if (!(drawable instanceof RectSprite)) {
                     continue;
                 }
                 Vector2 drawablePosition = drawable.getPosition();
-                float gradSz = .25f * Const.ATM_HEIGHT;
                 float distPercentage = (drawablePosition.dst(planetPosition) - planetGroundHeight - Const.ATM_HEIGHT) / gradSz;
                 distPercentage = SolMath.clamp(distPercentage);
                 ((RectSprite) drawable).tint.a = distPercentage;
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.drawables;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.game.GameDrawer;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.game.SolObject;
+
+import java.util.Arrays;
+
+/**
+ * Many sprites of one texture that don't move relative to their object, like the dust of a chunk. The vertices are
+ * computed when the sprites are added, drawing the group only moves them to the object position, scaled for the depth
+ * of the level the way {@link RectSprite} does it.
+ */
+public class SpriteGroup implements Drawable {
+    private final TextureAtlas.AtlasRegion texture;
+    private final DrawableLevel level;
+    private final Color tint;
+    private final Color fadeColor;
+    private final SpriteVertexCache vertexCache;
+    private final Vector2 position;
+    private final Vector2 relativePosition;
+    private float[] spriteXs;
+    private float[] spriteYs;
+    private float[] alphas;
+    private float radius;
+    private boolean isFaded;
+
+    public SpriteGroup(TextureAtlas.AtlasRegion texture, DrawableLevel level, Color tint) {
+        this.texture = texture;
+        this.level = level;
+        this.tint = new Color(tint);
+        fadeColor = new Color();
+        vertexCache = new SpriteVertexCache();
+        position = new Vector2();
+        relativePosition = new Vector2();
+        spriteXs = new float[16];
+        spriteYs = new float[16];
+        alphas = new float[16];
+    }
+
+    /**
+     * Adds a sprite of the group texture, centered on a position relative to the object.
+     */
+    public void add(float size, float x, float y, float angle) {
+        int sprite = vertexCache.getSpriteCount();
+        if (sprite == spriteXs.length) {
+            int capacity = sprite * 2;
+            spriteXs = Arrays.copyOf(spriteXs, capacity);
+            spriteYs = Arrays.copyOf(spriteYs, capacity);
+            alphas = Arrays.copyOf(alphas, capacity);
+        }
+        spriteXs[sprite] = x;
+        spriteYs[sprite] = y;
+        alphas[sprite] = tint.a;
+        float depthSize = size / level.depth;
+        vertexCache.addCentered(texture, depthSize, x / level.depth, y / level.depth, angle, tint);
+        float spriteRadius = SolMath.sqrt(x * x + y * y) + depthSize * SolMath.sqrt(2) / 2;
+        if (radius < spriteRadius) {
+            radius = spriteRadius;
+        }
+    }
+
+    /**
+     * Fades out the sprites that get into the atmosphere of a planet, like {@link DrawableObject} does for single
+     * sprites. The group is only gone through when it overlaps the fading zone.
+     *
+     * @param fadeEnd the distance from the planet center where the sprites are fully transparent
+     * @param fadeLength the width of the zone where they fade
+     */
+    public void fadeNearPlanet(Vector2 planetPosition, float fadeEnd, float fadeLength) {
+        float dst = position.dst(planetPosition);
+        if (fadeEnd + fadeLength < dst - radius && !isFaded) {
+            return;
+        }
+        isFaded = false;
+        for (int i = 0, count = vertexCache.getSpriteCount(); i < count; i++) {
+            float dx = position.x + spriteXs[i] - planetPosition.x;
+            float dy = position.y + spriteYs[i] - planetPosition.y;
+            float alpha = SolMath.clamp((SolMath.sqrt(dx * dx + dy * dy) - fadeEnd) / fadeLength) * tint.a;
+            if (alpha < tint.a) {
+                isFaded = true;
+            }
+            if (alpha != alphas[i]) {
+                alphas[i] = alpha;
+                vertexCache.setColor(i, fadeColor.set(tint.r, tint.g, tint.b, alpha));
+            }
+        }
+    }
+
+    @Override
+    public TextureAtlas.AtlasRegion getTexture() {
+        return texture;
+    }
+
+    @Override
+    public DrawableLevel getLevel() {
+        return level;
+    }
+
+    @Override
+    public void update(SolGame game, SolObject o) {
+    }
+
+    @Override
+    public void prepare(SolObject object) {
+        position.set(object.getPosition());
+    }
+
+    @Override
+    public Vector2 getPosition() {
+        return position;
+    }
+
+    @Override
+    public Vector2 getRelativePosition() {
+        return relativePosition;
+    }
+
+    @Override
+    public float getRadius() {
+        return radius;
+    }
+
+    @Override
+    public void draw(GameDrawer drawer, SolGame game) {
+        float x = position.x;
+        float y = position.y;
+        if (level.depth != 1) {
+            Vector2 camPosition = game.getCam().getPosition();
+            x = (x - camPosition.x) / level.depth + camPosition.x;
+            y = (y - camPosition.y) / level.depth + camPosition.y;
+        }
+        drawer.draw(vertexCache, x, y, 1, false);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean okToRemove() {
+        return true;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.drawables;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import org.destinationsol.CommonDrawer;
+import org.destinationsol.common.SolMath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sprite vertices that are computed once and then submitted to the sprite batch as they are, every frame.
+ * <p>
+ * Use it for geometry that doesn't change between frames: instead of computing the corners of every sprite
+ * on every draw, the whole group is copied into the batch at once.
+ */
+public class SpriteVertexCache {
+    private static final int SPRITE_SIZE = 20;
+    // the moved and scaled vertices of the cache being drawn, only used on the render thread
+    private static float[] drawBuffer = new float[SPRITE_SIZE * 64];
+
+    private final List<Texture> textures;
+    private final IntArray runEnds;
+    private float[] vertices;
+    private int size;
+
+    public SpriteVertexCache() {
+        textures = new ArrayList<>();
+        runEnds = new IntArray();
+        vertices = new float[SPRITE_SIZE * 16];
+    }
+
+    public void clear() {
+        textures.clear();
+        runEnds.clear();
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getSpriteCount() {
+        return size / SPRITE_SIZE;
+    }
+
+    /**
+     * Adds a sprite centered on the position, sized the way a {@link RectSprite} of the given size would be.
+     */
+    public void addCentered(TextureRegion tr, float textureSize, float x, float y, float rot, Color tint) {
+        float sizeX = textureSize;
+        float sizeY = textureSize;
+        int dimensionsRatio = tr.getRegionWidth() / tr.getRegionHeight();
+        if (dimensionsRatio > 1) {
+            sizeY = textureSize / dimensionsRatio;
+        } else {
+            sizeX = textureSize / dimensionsRatio;
+        }
+        add(tr, sizeX, sizeY, sizeX / 2, sizeY / 2, x, y, rot, tint);
+    }
+
+    /**
+     * Changes the color of an already added sprite.
+     *
+     * @param sprite the index of the sprite, in the order they were added
+     */
+    public void setColor(int sprite, Color tint) {
+        float color = tint.toFloatBits();
+        int i = sprite * SPRITE_SIZE + 2;
+        vertices[i] = color;
+        vertices[i + 5] = color;
+        vertices[i + 10] = color;
+        vertices[i + 15] = color;
+    }
+
+    /**
+     * Adds a sprite, the parameters mean the same as in {@link CommonDrawer#draw(TextureRegion, float, float, float, float, float, float, float, Color)}
+     */
+    public void add(TextureRegion tr, float width, float height, float origX, float origY, float x, float y,
+                    float rot, Color tint) {
+        Texture texture = tr.getTexture();
+        int lastRun = textures.size() - 1;
+        if (lastRun >= 0 && textures.get(lastRun) == texture) {
+            runEnds.set(lastRun, size + SPRITE_SIZE);
+        } else {
+            textures.add(texture);
+            runEnds.add(size + SPRITE_SIZE);
+        }
+        ensureCapacity(size + SPRITE_SIZE);
+
+        float fx = -origX;
+        float fy = -origY;
+        float fx2 = width - origX;
+        float fy2 = height - origY;
+        float cos = SolMath.cos(rot);
+        float sin = SolMath.sin(rot);
+
+        float x1 = cos * fx - sin * fy + x;
+        float y1 = sin * fx + cos * fy + y;
+        float x2 = cos * fx - sin * fy2 + x;
+        float y2 = sin * fx + cos * fy2 + y;
+        float x3 = cos * fx2 - sin * fy2 + x;
+        float y3 = sin * fx2 + cos * fy2 + y;
+        float x4 = x1 + (x3 - x2);
+        float y4 = y3 - (y2 - y1);
+
+        float color = tint.toFloatBits();
+        float u = tr.getU();
+        float v = tr.getV2();
+        float u2 = tr.getU2();
+        float v2 = tr.getV();
+
+        float[] vs = vertices;
+        int i = size;
+        vs[i++] = x1;
+        vs[i++] = y1;
+        vs[i++] = color;
+        vs[i++] = u;
+        vs[i++] = v;
+        vs[i++] = x2;
+        vs[i++] = y2;
+        vs[i++] = color;
+        vs[i++] = u;
+        vs[i++] = v2;
+        vs[i++] = x3;
+        vs[i++] = y3;
+        vs[i++] = color;
+        vs[i++] = u2;
+        vs[i++] = v2;
+        vs[i++] = x4;
+        vs[i++] = y4;
+        vs[i++] = color;
+        vs[i++] = u2;
+        vs[i++] = v;
+        size = i;
+    }
+
+    /**
+     * Adds a circle outline, the parameters mean the same as in {@link CommonDrawer#drawCircle(TextureRegion, Vector2, float, Color, float, float)}
+     */
+    public void addCircle(TextureRegion tex, Vector2 center, float radius, Color col, float width, float vh) {
+        int pointCount = CommonDrawer.getCirclePointCount(radius, vh);
+        float lineLen = radius * SolMath.PI * 2 / pointCount;
+        float angleStep = 360f / pointCount;
+        float angleStepH = angleStep / 2;
+        Vector2 position = SolMath.getVec();
+        for (int i = 0; i < pointCount; i++) {
+            float angle = angleStep * i;
+            SolMath.fromAl(position, angle, radius);
+            position.add(center);
+            add(tex, width, lineLen, 0, 0, position.x, position.y, angle + angleStepH, col);
+        }
+        SolMath.free(position);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= vertices.length) {
+            return;
+        }
+        float[] newVertices = new float[Math.max(capacity, vertices.length * 2)];
+        System.arraycopy(vertices, 0, newVertices, 0, size);
+        vertices = newVertices;
+    }
+
+    public void draw(CommonDrawer drawer) {
+        int runStart = 0;
+        for (int i = 0, n = textures.size(); i < n; i++) {
+            int runEnd = runEnds.get(i);
+            drawer.drawVertices(textures.get(i), vertices, runStart, runEnd - runStart);
+            runStart = runEnd;
+        }
+    }
+
+    /**
+     * Draws the sprites scaled around the origin and then moved by the offset, for groups that keep their shape but
+     * follow something, like the dust of a chunk or the stars around the camera.
+     */
+    public void draw(CommonDrawer drawer, float offsetX, float offsetY, float scale) {
+        draw(drawer, offsetX, offsetY, scale, 0);
+    }
+
+    /**
+     * Same as {@link #draw(CommonDrawer, float, float, float)}, but also turns every sprite around its own center, the
+     * way the stars around the camera follow its angle.
+     */
+    public void draw(CommonDrawer drawer, float offsetX, float offsetY, float scale, float spriteRotation) {
+        if (drawBuffer.length < size) {
+            drawBuffer = new float[Math.max(size, drawBuffer.length * 2)];
+        }
+        float[] vs = vertices;
+        float[] buffer = drawBuffer;
+        if (spriteRotation == 0) {
+            for (int i = 0; i < size; i += 5) {
+                buffer[i] = vs[i] * scale + offsetX;
+                buffer[i + 1] = vs[i + 1] * scale + offsetY;
+                buffer[i + 2] = vs[i + 2];
+                buffer[i + 3] = vs[i + 3];
+                buffer[i + 4] = vs[i + 4];
+            }
+        } else {
+            float cos = SolMath.cos(spriteRotation);
+            float sin = SolMath.sin(spriteRotation);
+            for (int sprite = 0; sprite < size; sprite += SPRITE_SIZE) {
+                // the first and the third corner are opposite
+                float centerX = (vs[sprite] + vs[sprite + 10]) / 2;
+                float centerY = (vs[sprite + 1] + vs[sprite + 11]) / 2;
+                for (int i = sprite, end = sprite + SPRITE_SIZE; i < end; i += 5) {
+                    float dx = vs[i] - centerX;
+                    float dy = vs[i + 1] - centerY;
+                    buffer[i] = (dx * cos - dy * sin + centerX) * scale + offsetX;
+                    buffer[i + 1] = (dx * sin + dy * cos + centerY) * scale + offsetY;
+                    buffer[i + 2] = vs[i + 2];
+                    buffer[i + 3] = vs[i + 3];
+                    buffer[i + 4] = vs[i + 4];
+                }
+            }
+        }
+        int runStart = 0;
+        for (int i = 0, n = textures.size(); i < n; i++) {
+            int runEnd = runEnds.get(i);
+            drawer.drawVertices(textures.get(i), buffer, runStart, runEnd - runStart);
+            runStart = runEnd;
+        }
+    }
+}
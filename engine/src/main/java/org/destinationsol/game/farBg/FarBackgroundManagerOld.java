@@ -28,13 +28,15 @@
 import org.destinationsol.game.GameDrawer;
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
+import org.destinationsol.game.drawables.SpriteVertexCache;
 import org.destinationsol.game.planet.Planet;
 
-import java.util.ArrayList;
-
 public class FarBackgroundManagerOld {
+    private static final int STAR_COUNT = 400;
+
     private final TextureAtlas.AtlasRegion nebulaTexture;
-    private final ArrayList<FarBackgroundStar> stars = new ArrayList<>();
+    // the stars in view distance units around the camera, scaled and moved to it when drawn
+    private final SpriteVertexCache stars = new SpriteVertexCache();
     private final float nebulaAngle;
     private final Color nebulaTint;
 
@@ -44,9 +46,15 @@ public FarBackgroundManagerOld() {
             nebulaTexture.flip(nebulaTexture.isFlipX(), !nebulaTexture.isFlipY());
         }
 
-        for (int i = 0; i < 400; i++) {
-            FarBackgroundStar star = new FarBackgroundStar();
-            stars.add(star);
+        TextureAtlas.AtlasRegion starTexture = Assets.getAtlasRegion("engine:farBgBigStar");
+        Color starTint = new Color();
+        for (int i = 0; i < STAR_COUNT; i++) {
+            float shiftX = SolRandom.randomFloat(1);
+            float shiftY = SolRandom.randomFloat(1);
+            boolean small = SolRandom.test(.8f);
+            float szPercentage = (small ? .01f : .04f) * SolRandom.randomFloat(.5f, 1);
+            SolColorUtil.fromHSB(SolRandom.randomFloat(0, 1), .25f, 1, .7f, starTint);
+            stars.add(starTexture, szPercentage, szPercentage, szPercentage / 2, szPercentage / 2, shiftX, shiftY, 0, starTint);
         }
 
         nebulaAngle = SolRandom.randomFloat(180);
@@ -62,32 +70,6 @@ public void draw(GameDrawer drawer, SolCam cam, SolGame game) {
 
         float vd = cam.getViewDistance();
         drawer.draw(nebulaTexture, vd * 2, vd * 2, vd, vd, camPos.x, camPos.y, nebulaAngle, nebulaTint);
-        for (FarBackgroundStar star : stars) {
-            star.draw(drawer, vd, camPos, cam.getAngle());
-        }
-    }
-
-    private static class FarBackgroundStar {
-        private final Vector2 myShiftPercentage;
-        private final TextureAtlas.AtlasRegion myTexture;
-        private final float mySzPercentage;
-        private final Color myTint;
-        private final Vector2 position;
-
-        private FarBackgroundStar() {
-            myShiftPercentage = new Vector2(SolRandom.randomFloat(1), SolRandom.randomFloat(1));
-            position = new Vector2();
-            boolean small = SolRandom.test(.8f);
-            myTexture = Assets.getAtlasRegion("engine:farBgBigStar");
-            mySzPercentage = (small ? .01f : .04f) * SolRandom.randomFloat(.5f, 1);
-            myTint = new Color();
-            SolColorUtil.fromHSB(SolRandom.randomFloat(0, 1), .25f, 1, .7f, myTint);
-        }
-
-        public void draw(GameDrawer drawer, float vd, Vector2 camPos, float camAngle) {
-            float sz = vd * mySzPercentage;
-            position.set(myShiftPercentage).scl(vd).add(camPos);
-            drawer.drawAdditive(myTexture, sz, sz, sz / 2, sz / 2, position.x, position.y, camAngle, myTint);
-        }
+        drawer.draw(stars, camPos.x, camPos.y, vd, cam.getAngle(), true);
     }
 }
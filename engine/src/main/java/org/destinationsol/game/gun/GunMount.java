@@ -21,7 +21,6 @@
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.Faction;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.input.Shooter;
 import org.destinationsol.game.item.Gun;
@@ -85,8 +84,9 @@ public Gun getGun() {
         return myGun == null ? null : myGun.getItem();
     }
 
-    public void setGun(SolGame game, SolObject o, Gun gun, boolean underShip, int slotNr) {
-        List<Drawable> drawables = o.getDrawables();
+    public void setGun(SolGame game, SolShip ship, Gun gun, boolean underShip, int slotNr) {
+        ship.invalidateStrength();
+        List<Drawable> drawables = ship.getDrawables();
         if (myGun != null) {
             List<Drawable> dras1 = myGun.getDrawables();
             drawables.removeAll(dras1);
@@ -245,7 +245,7 @@ public void updateFar(SolGame game, FarShip farShip) {
                 speed.set(myDestProvider.getDestinationSpeed());
                 desiredAngle = angle; // can be improved
             } else {
-                desiredAngle = SolMath.angle(shipPos, dest);
+                desiredAngle = SolMath.angle(shipPos, dest, false);
                 if (myDestProvider.shouldAvoidBigObjects()) {
                     desiredAngle = myMover.getBigObjAvoider().avoid(game, shipPos, dest, desiredAngle);
                 }
@@ -255,7 +255,7 @@ public void updateFar(SolGame game, FarShip farShip) {
                 if (toDestLen < speedLen) {
                     speedLen = toDestLen;
                 }
-                SolMath.fromAl(speed, desiredAngle, speedLen);
+                SolMath.fromAl(speed, desiredAngle, speedLen, false);
             }
             angle = SolMath.approachAngle(angle, desiredAngle, engine.getMaxRotationSpeed() * ts);
         }
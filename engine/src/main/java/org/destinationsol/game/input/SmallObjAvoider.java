@@ -17,30 +17,43 @@
 package org.destinationsol.game.input;
 
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import com.badlogic.gdx.physics.box2d.World;
+import org.destinationsol.Const;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.RayBatch;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
 import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.ship.SolShip;
 
+/**
+ * Steers a ship around the small objects (asteroids, other ships, etc.) on its way.
+ * <p>
+ * The last clear heading is kept for a while, so that the rays are not cast on every tick. It is dropped when the
+ * desired heading or the ship's speed change noticeably, or when the time it would take for any nearby body to reach
+ * the checked corridor runs out.
+ */
 public class SmallObjAvoider {
     public static final float MANEUVER_TIME = 2f;
     public static final float MIN_RAYCAST_LEN = .5f;
-    private final RayCastCallback myRayBack;
+    private static final float[] AVOID_ANGLES = {0, 45, -45};
+    private static final float MAX_CACHE_TTL = .5f;
+    private static final float MAX_DEST_ANGLE_DEV = 3f;
+    private static final float MAX_RAYCAST_LEN_DEV = .1f;
+    private final RayBatch myRayBatch;
     private final Vector2 myDest;
-    private SolShip myShip;
-    private boolean myCollided;
+    private float myCachedDestAngle;
+    private float myCachedAvoidAngle;
+    private float myCachedRaycastLen;
+    private float myCacheValidUntil;
 
     public SmallObjAvoider() {
-        myRayBack = new MyRayBack();
+        myRayBatch = new RayBatch();
+        // a clearance beyond what keeps the cache for its longest time makes no difference
+        myRayBatch.setMaxClearance(2 * Const.MAX_MOVE_SPD * MAX_CACHE_TTL);
         myDest = new Vector2();
+        myCacheValidUntil = -1;
     }
 
     public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
-        myShip = ship;
         Vector2 shipPos = ship.getPosition();
         float shipSpeedLen = ship.getSpeed().len();
         float ttt = ship.calcTimeToTurn(toDestAngle + 45);
@@ -49,48 +62,42 @@ public float avoid(SolGame game, SolShip ship, float toDestAngle, Planet np) {
             raycastLen = MIN_RAYCAST_LEN;
         }
 
-        SolMath.fromAl(myDest, toDestAngle, raycastLen);
-        myDest.add(shipPos);
-        myCollided = false;
-        World w = game.getObjectManager().getWorld();
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
-            return toDestAngle;
+        if (isCacheValid(game.getTime(), toDestAngle, raycastLen)) {
+            return toDestAngle + myCachedAvoidAngle;
         }
 
-        toDestAngle += 45;
-        SolMath.fromAl(myDest, toDestAngle, raycastLen);
-        myDest.add(shipPos);
-        myCollided = false;
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
-            return toDestAngle;
+        myRayBatch.clear();
+        myRayBatch.setIgnored(ship);
+        for (float avoidAngle : AVOID_ANGLES) {
+            SolMath.fromAl(myDest, toDestAngle + avoidAngle, raycastLen);
+            myDest.add(shipPos);
+            myRayBatch.add(shipPos, myDest);
         }
+        game.getObjectManager().castRays(myRayBatch);
 
-        toDestAngle -= 90;
-        SolMath.fromAl(myDest, toDestAngle, raycastLen);
-        myDest.add(shipPos);
-        myCollided = false;
-        w.rayCast(myRayBack, shipPos, myDest);
-        if (!myCollided) {
-            return toDestAngle;
+        for (int i = 0; i < AVOID_ANGLES.length; i++) {
+            if (!myRayBatch.isBlocked(i)) {
+                myCachedDestAngle = toDestAngle;
+                myCachedAvoidAngle = AVOID_ANGLES[i];
+                myCachedRaycastLen = raycastLen;
+                // nothing can get into the checked corridor faster than this
+                float ttl = myRayBatch.getClearance(i) / (2 * Const.MAX_MOVE_SPD);
+                myCacheValidUntil = game.getTime() + Math.min(ttl, MAX_CACHE_TTL);
+                return toDestAngle + myCachedAvoidAngle;
+            }
         }
+        myCacheValidUntil = -1;
 
         if (np.getFullHeight() < np.getPosition().dst(shipPos)) {
-            return toDestAngle - 45;
+            return toDestAngle - 90;
         }
         return SolMath.angle(np.getPosition(), shipPos);
     }
 
-    private class MyRayBack implements RayCastCallback {
-        @Override
-        public float reportRayFixture(Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
-            SolObject o = (SolObject) fixture.getBody().getUserData();
-            if (myShip == o) {
-                return -1;
-            }
-            myCollided = true;
-            return 0;
-        }
+    private boolean isCacheValid(float time, float toDestAngle, float raycastLen) {
+        return time < myCacheValidUntil
+                && SolMath.angleDiff(toDestAngle, myCachedDestAngle) < MAX_DEST_ANGLE_DEV
+                && raycastLen < myCachedRaycastLen * (1 + MAX_RAYCAST_LEN_DEV)
+                && raycastLen > myCachedRaycastLen * (1 - MAX_RAYCAST_LEN_DEV);
     }
 }
@@ -106,7 +106,7 @@ public static void load(String abilityName, ItemManager itemManager, SolItemType
 
             json.dispose();
 
-            TextureAtlas.AtlasRegion icon = Assets.getAtlasRegion(abilityName + "Icon");
+            TextureAtlas.AtlasRegion icon = itemManager.getConfigRegistry().getAtlasRegion(abilityName + "Icon");
 
             Config abilityConfig = new Config(icon, price, displayName, desc, types.abilityCharge, abilityName);
             itemManager.registerItem(abilityConfig.example);
@@ -144,7 +144,7 @@ public static void load(String armorName, ItemManager itemManager, OggSoundManag
 
             json.dispose();
 
-            TextureAtlas.AtlasRegion icon = Assets.getAtlasRegion(armorName + "Icon");
+            TextureAtlas.AtlasRegion icon = itemManager.getConfigRegistry().getAtlasRegion(armorName + "Icon");
 
             Config armorConfig = new Config(displayName, price, perc, bulletDmgSound, icon, energyDmgSound, types.armor, armorName);
             itemManager.registerItem(armorConfig.example);
@@ -132,7 +132,7 @@ public static void load(String clipName, ItemManager itemManager, SolItemTypes t
                 price = rootNode.getInt("price");
                 displayName = rootNode.getString("displayName");
                 plural = rootNode.getString("plural");
-                icon = Assets.getAtlasRegion(clipName + "Icon");
+                icon = itemManager.getConfigRegistry().getAtlasRegion(clipName + "Icon");
             }
 
             json.dispose();
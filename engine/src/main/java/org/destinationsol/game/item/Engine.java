@@ -20,10 +20,9 @@
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.audio.PlayableSound;
 import org.destinationsol.assets.json.Json;
-import org.destinationsol.game.GameColors;
+import org.destinationsol.game.ConfigRegistry;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.particle.EffectConfig;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.sound.OggSoundManager;
 import org.destinationsol.game.sound.OggSoundSet;
 
@@ -141,7 +140,7 @@ private Config(String displayName, int price, String description, float rotation
             this.exampleEngine = new Engine(this);
         }
 
-        public static Config load(String engineName, OggSoundManager soundManager, EffectTypes effectTypes, GameColors cols) {
+        public static Config load(String engineName, OggSoundManager soundManager, ConfigRegistry configRegistry) {
             Json json = Assets.getJson(engineName);
             JsonValue rootNode = json.getJsonValue();
 
@@ -151,7 +150,7 @@ public static Config load(String engineName, OggSoundManager soundManager, Effec
             float maxRotationSpeed = isBig ? 40f : 230f;
             List<String> workSoundUrns = Arrays.asList(rootNode.get("workSounds").asStringArray());
             OggSoundSet workSoundSet = new OggSoundSet(soundManager, workSoundUrns);
-            EffectConfig effectConfig = EffectConfig.load(rootNode.get("effect"), effectTypes, cols);
+            EffectConfig effectConfig = EffectConfig.load(rootNode.get("effect"), configRegistry);
 
             json.dispose();
 
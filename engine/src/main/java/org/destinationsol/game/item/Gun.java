@@ -196,8 +196,8 @@ public static void load(String gunName, ItemManager itemManager, OggSoundManager
 
             json.dispose();
 
-            TextureAtlas.AtlasRegion tex = Assets.getAtlasRegion(gunName);
-            TextureAtlas.AtlasRegion icon = Assets.getAtlasRegion(gunName + "Icon");
+            TextureAtlas.AtlasRegion tex = itemManager.getConfigRegistry().getAtlasRegion(gunName);
+            TextureAtlas.AtlasRegion icon = itemManager.getConfigRegistry().getAtlasRegion(gunName + "Icon");
 
             Config gunConfig = new Config(minAngleVar, maxAngleVar, angleVarDamp, angleVarPerShot, timeBetweenShots,
                                             reloadTime, gunLength, displayName, lightOnShot, price, clipConf, shootSoundSet,
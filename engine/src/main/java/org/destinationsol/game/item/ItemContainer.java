@@ -20,11 +20,21 @@
 import org.destinationsol.common.SolRandom;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+/**
+ * The items of a ship or a trader, grouped into stacks of the same items.
+ * <p>
+ * Besides the ordered list of groups that the inventory screens show, the stackable groups are indexed by item code,
+ * and every item remembers its group, so that looking up a stack does not walk the whole inventory. Items with the
+ * same code are told apart with {@link SolItem#isSame(SolItem)}, items that are not the same as themselves never stack.
+ */
 public class ItemContainer implements Iterable<List<SolItem>> {
     private static final int MAX_INVENTORY_PAGES = 4;
     private static final int MAX_GROUP_COUNT = MAX_INVENTORY_PAGES * Const.ITEM_GROUPS_PER_PAGE;
@@ -32,40 +42,55 @@ public class ItemContainer implements Iterable<List<SolItem>> {
 
     private List<List<SolItem>> groups;
     private Set<List<SolItem>> newGroups;
+    private Map<String, List<List<SolItem>>> stacksByCode;
+    private Map<SolItem, List<SolItem>> itemGroups;
 
     public ItemContainer() {
         groups = new ArrayList<>();
-        newGroups = new HashSet<>();
+        // groups are mutable lists, so they can't be hashed by their contents
+        newGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+        stacksByCode = new HashMap<>();
+        itemGroups = new IdentityHashMap<>();
     }
 
-    public boolean tryConsumeItem(SolItem example) {
-        for (List<SolItem> group : groups) {
-            SolItem item = group.get(0);
-            if (!example.isSame(item)) {
-                continue;
+    /**
+     * @return the group holding the items same as the example, null if there is none
+     */
+    private List<SolItem> findStack(SolItem example) {
+        if (!example.isSame(example)) {
+            return null;
+        }
+        List<List<SolItem>> stacks = stacksByCode.get(example.getCode());
+        if (stacks == null) {
+            return null;
+        }
+        for (int i = 0, n = stacks.size(); i < n; i++) {
+            List<SolItem> stack = stacks.get(i);
+            if (example.isSame(stack.get(0))) {
+                return stack;
             }
-            remove(item);
-            return true;
         }
-        return false;
+        return null;
     }
 
-    public int count(SolItem example) {
-        for (List<SolItem> group : groups) {
-            SolItem item = group.get(0);
-            if (example.isSame(item)) {
-                return group.size();
-            }
+    public boolean tryConsumeItem(SolItem example) {
+        List<SolItem> stack = findStack(example);
+        if (stack == null) {
+            return false;
         }
-        return 0;
+        remove(stack.get(0));
+        return true;
+    }
+
+    public int count(SolItem example) {
+        List<SolItem> stack = findStack(example);
+        return stack == null ? 0 : stack.size();
     }
 
     public boolean canAdd(SolItem example) {
-        for (List<SolItem> group : groups) {
-            SolItem item = group.get(0);
-            if (item.isSame(example)) {
-                return group.size() < MAX_STACK_SIZE;
-            }
+        List<SolItem> stack = findStack(example);
+        if (stack != null) {
+            return stack.size() < MAX_STACK_SIZE;
         }
         return groups.size() < MAX_GROUP_COUNT;
     }
@@ -74,14 +99,13 @@ public void add(SolItem addedItem) {
         if (addedItem == null) {
             throw new AssertionError("adding null item");
         }
-        for (List<SolItem> group : groups) {
-            SolItem item = group.get(0);
-            if (item.isSame(addedItem)) {
-                if ((group.size() < MAX_STACK_SIZE)) {
-                    group.add(addedItem);
-                }
-                return;
+        List<SolItem> stack = findStack(addedItem);
+        if (stack != null) {
+            if ((stack.size() < MAX_STACK_SIZE)) {
+                stack.add(addedItem);
+                itemGroups.put(addedItem, stack);
             }
+            return;
         }
         // From now on, silently ignore if by some chance an extra inventory page is created
         //if (groups.size() >= MAX_GROUP_COUNT) throw new AssertionError("reached group count limit");
@@ -89,6 +113,10 @@ public void add(SolItem addedItem) {
         group.add(addedItem);
         groups.add(0, group);
         newGroups.add(group);
+        itemGroups.put(addedItem, group);
+        if (addedItem.isSame(addedItem)) {
+            stacksByCode.computeIfAbsent(addedItem.getCode(), code -> new ArrayList<>(1)).add(group);
+        }
     }
 
     @Override
@@ -101,31 +129,41 @@ public int groupCount() {
     }
 
     public boolean contains(SolItem item) {
-        for (List<SolItem> group : groups) {
-            if (group.contains(item)) {
-                return true;
-            }
-        }
-        return false;
+        return itemGroups.containsKey(item);
     }
 
     public void remove(SolItem item) {
-        List<SolItem> remGroup = null;
-        for (List<SolItem> group : groups) {
-            boolean removed = group.remove(item);
-            if (group.isEmpty()) {
-                remGroup = group;
-            }
-            if (removed) {
+        List<SolItem> group = itemGroups.remove(item);
+        if (group == null) {
+            return;
+        }
+        for (int i = group.size() - 1; i >= 0; i--) {
+            if (group.get(i) == item) {
+                group.remove(i);
                 break;
             }
         }
-        if (remGroup != null) {
-            groups.remove(remGroup);
-            newGroups.remove(remGroup);
+        if (!group.isEmpty()) {
+            return;
+        }
+        removeGroup(groups, group);
+        newGroups.remove(group);
+        List<List<SolItem>> stacks = stacksByCode.get(item.getCode());
+        if (stacks != null && removeGroup(stacks, group) && stacks.isEmpty()) {
+            stacksByCode.remove(item.getCode());
         }
     }
 
+    private static boolean removeGroup(List<List<SolItem>> groups, List<SolItem> group) {
+        for (int i = 0, n = groups.size(); i < n; i++) {
+            if (groups.get(i) == group) {
+                groups.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
     public List<SolItem> getSelectionAfterRemove(List<SolItem> selected) {
         if (selected.size() > 1) {
             return selected;
@@ -162,7 +200,7 @@ public int getCount(int groupIdx) {
     }
 
     public boolean containsGroup(List<SolItem> group) {
-        return groups.contains(group);
+        return group != null && !group.isEmpty() && itemGroups.get(group.get(0)) == group;
     }
 
     public List<SolItem> getGroup(int groupIdx) {
@@ -172,6 +210,8 @@ public List<SolItem> getGroup(int groupIdx) {
     public void clear() {
         groups.clear();
         newGroups.clear();
+        stacksByCode.clear();
+        itemGroups.clear();
     }
 
     private class ItemContainerIterator implements Iterator<List<SolItem>> {
@@ -16,14 +16,13 @@
 package org.destinationsol.game.item;
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
-import org.destinationsol.assets.Assets;
 import org.destinationsol.common.SolRandom;
-import org.destinationsol.game.GameColors;
-import org.destinationsol.game.particle.EffectTypes;
+import org.destinationsol.game.ConfigRegistry;
 import org.destinationsol.game.projectile.ProjectileConfigs;
 import org.destinationsol.game.sound.OggSoundManager;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
@@ -34,26 +33,24 @@ public class ItemManager {
     public final TextureAtlas.AtlasRegion bigMoneyIcon;
     public final TextureAtlas.AtlasRegion repairIcon;
     private final HashMap<String, SolItem> myM = new HashMap<>();
+    private final HashMap<String, List<ItemConfig>> itemPlans = new HashMap<>();
     private final ArrayList<SolItem> myL= new ArrayList<>();
-    private final HashMap<String, Engine.Config> engineConfigs = new HashMap<>();
     private final SolItemTypes myTypes;
     private final RepairItem myRepairExample;
     private final OggSoundManager soundManager;
-    private final EffectTypes effectTypes;
-    private final GameColors gameColors;
+    private final ConfigRegistry configRegistry;
 
-    public ItemManager(OggSoundManager soundManager, EffectTypes effectTypes, GameColors gameColors) {
+    public ItemManager(OggSoundManager soundManager, ConfigRegistry configRegistry) {
         this.soundManager = soundManager;
-        this.effectTypes = effectTypes;
-        this.gameColors = gameColors;
+        this.configRegistry = configRegistry;
 
-        moneyIcon = Assets.getAtlasRegion("engine:iconMoney");
-        medMoneyIcon = Assets.getAtlasRegion("engine:iconMedMoney");
-        bigMoneyIcon = Assets.getAtlasRegion("engine:iconBigMoney");
-        repairIcon = Assets.getAtlasRegion("engine:iconRepairItem");
+        moneyIcon = configRegistry.getAtlasRegion("engine:iconMoney");
+        medMoneyIcon = configRegistry.getAtlasRegion("engine:iconMedMoney");
+        bigMoneyIcon = configRegistry.getAtlasRegion("engine:iconBigMoney");
+        repairIcon = configRegistry.getAtlasRegion("engine:iconRepairItem");
 
-        myTypes = new SolItemTypes(soundManager, gameColors);
-        projConfigs = new ProjectileConfigs(soundManager, effectTypes, gameColors);
+        myTypes = new SolItemTypes(soundManager, configRegistry.getGameColors());
+        projConfigs = new ProjectileConfigs(soundManager, configRegistry);
 
         myRepairExample = new RepairItem(myTypes.repair);
         myM.put(myRepairExample.getCode(), myRepairExample);
@@ -62,8 +59,9 @@ public ItemManager(OggSoundManager soundManager, EffectTypes effectTypes, GameCo
     }
 
     public void fillContainer(ItemContainer itemContainer, String items) {
-        List<ItemConfig> list = parseItems(items);
-        for (ItemConfig itemConfig : list) {
+        List<ItemConfig> plan = getItemPlan(items);
+        for (int j = 0, size = plan.size(); j < size; j++) {
+            ItemConfig itemConfig = plan.get(j);
             for (int i = 0; i < itemConfig.amount; i++) {
                 if (SolRandom.test(itemConfig.chance)) {
                     SolItem item = SolRandom.randomElement(itemConfig.examples).copy();
@@ -73,7 +71,29 @@ public void fillContainer(ItemContainer itemContainer, String items) {
         }
     }
 
+    /**
+     * Parses an item list, like the items of a {@link org.destinationsol.game.ShipConfig}.
+     *
+     * @return a new list, the item configs in it are shared and must not be changed
+     */
     public List<ItemConfig> parseItems(String items) {
+        return new ArrayList<>(getItemPlan(items));
+    }
+
+    /**
+     * Returns the parsed item list, parsing it only the first time the same string is seen. Ships of the same config
+     * are spawned with the same string many times.
+     */
+    private List<ItemConfig> getItemPlan(String items) {
+        List<ItemConfig> plan = itemPlans.get(items);
+        if (plan == null) {
+            plan = Collections.unmodifiableList(compileItems(items));
+            itemPlans.put(items, plan);
+        }
+        return plan;
+    }
+
+    private List<ItemConfig> compileItems(String items) {
         ArrayList<ItemConfig> result = new ArrayList<>();
 
         if (items.isEmpty()) {
@@ -162,7 +182,7 @@ public List<ItemConfig> parseItems(String items) {
                 throw new AssertionError("No item specified @ " + parts[0] + " @ " + rec + " @ " + items);
             }
 
-            ItemConfig itemConfig = new ItemConfig(examples, amt, chance);
+            ItemConfig itemConfig = new ItemConfig(Collections.unmodifiableList(examples), amt, chance);
             result.add(itemConfig);
         }
 
@@ -174,7 +194,11 @@ public SolItem getExample(String name) {
     }
 
     public Engine.Config getEngineConfig(String engineName) {
-        return engineConfigs.computeIfAbsent(engineName, engineConfig -> Engine.Config.load(engineConfig, soundManager, effectTypes, gameColors));
+        return configRegistry.getEngineConfig(engineName);
+    }
+
+    public ConfigRegistry getConfigRegistry() {
+        return configRegistry;
     }
 
     public SolItem random() {
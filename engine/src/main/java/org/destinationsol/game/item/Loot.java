@@ -73,27 +73,7 @@ public void update(SolGame game) {
                 owner = null;
             }
         }
-        SolShip puller = null;
-        float minDist = Float.MAX_VALUE;
-        List<SolObject> objs = game.getObjectManager().getObjects();
-        for (SolObject o : objs) {
-            if (!(o instanceof SolShip)) {
-                continue;
-            }
-            SolShip ship = (SolShip) o;
-            if (!ship.getPilot().collectsItems()) {
-                continue;
-            }
-            if (!(item instanceof MoneyItem) && !ship.getItemContainer().canAdd(item)) {
-                continue;
-            }
-            float dst = ship.getPosition().dst(position);
-            if (minDist < dst) {
-                continue;
-            }
-            puller = ship;
-            minDist = dst;
-        }
+        SolShip puller = game.getObjectManager().getLootCollectors().findPuller(item, position);
         if (puller != null) {
             maybePulled(puller, puller.getPosition(), puller.getPullDist());
         }
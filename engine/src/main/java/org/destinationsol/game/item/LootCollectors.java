@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.item;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.SolObject;
+import org.destinationsol.game.ship.SolShip;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ships that collect items, with their positions and pull distances as of the start of the tick.
+ * <p>
+ * Rebuilt once per tick by the {@link org.destinationsol.game.ObjectManager}, so that every {@link Loot} looks for its
+ * puller among the few collectors rather than among all the objects.
+ */
+public class LootCollectors {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<SolShip> ships;
+    private float[] positions;
+    private float[] pullDists;
+
+    public LootCollectors() {
+        ships = new ArrayList<>();
+        positions = new float[INITIAL_CAPACITY * 2];
+        pullDists = new float[INITIAL_CAPACITY];
+    }
+
+    public void rebuild(List<SolObject> objs) {
+        ships.clear();
+        for (SolObject o : objs) {
+            if (!(o instanceof SolShip)) {
+                continue;
+            }
+            SolShip ship = (SolShip) o;
+            if (!ship.getPilot().collectsItems()) {
+                continue;
+            }
+            int idx = ships.size();
+            if (idx == pullDists.length) {
+                grow();
+            }
+            Vector2 position = ship.getPosition();
+            positions[idx * 2] = position.x;
+            positions[idx * 2 + 1] = position.y;
+            pullDists[idx] = ship.getPullDist();
+            ships.add(ship);
+        }
+    }
+
+    private void grow() {
+        float[] newPositions = new float[positions.length * 2];
+        System.arraycopy(positions, 0, newPositions, 0, positions.length);
+        positions = newPositions;
+        float[] newPullDists = new float[pullDists.length * 2];
+        System.arraycopy(pullDists, 0, newPullDists, 0, pullDists.length);
+        pullDists = newPullDists;
+    }
+
+    /**
+     * Finds the nearest collector that has the loot within its pull distance and has room for the item.
+     * The room is checked only for the nearest candidates, until one of them has it.
+     *
+     * @return the collector, or null if there is none
+     */
+    public SolShip findPuller(SolItem item, Vector2 position) {
+        boolean needsRoom = !(item instanceof MoneyItem);
+        // the candidates are checked by distance, then by index for collectors at the same distance
+        float checkedDist = -1;
+        int checkedIdx = -1;
+        while (true) {
+            int nearest = -1;
+            float minDist = Float.MAX_VALUE;
+            for (int i = 0, n = ships.size(); i < n; i++) {
+                float dst = Vector2.dst(positions[i * 2], positions[i * 2 + 1], position.x, position.y);
+                boolean unchecked = checkedDist < dst || (dst == checkedDist && checkedIdx < i);
+                if (dst < pullDists[i] && unchecked && (nearest < 0 || dst < minDist)) {
+                    nearest = i;
+                    minDist = dst;
+                }
+            }
+            if (nearest < 0) {
+                return null;
+            }
+            SolShip ship = ships.get(nearest);
+            if (!needsRoom || ship.getItemContainer().canAdd(item)) {
+                return ship;
+            }
+            checkedDist = minDist;
+            checkedIdx = nearest;
+        }
+    }
+}
@@ -201,8 +201,8 @@ public static void load(String shieldName, ItemManager itemManager, OggSoundMana
 
             json.dispose();
 
-            TextureAtlas.AtlasRegion tex = Assets.getAtlasRegion(shieldName);
-            TextureAtlas.AtlasRegion icon = Assets.getAtlasRegion(shieldName + "Icon");
+            TextureAtlas.AtlasRegion tex = itemManager.getConfigRegistry().getAtlasRegion(shieldName);
+            TextureAtlas.AtlasRegion icon = itemManager.getConfigRegistry().getAtlasRegion(shieldName + "Icon");
 
             Config config = new Config(maxLife, idleTime, regenSpeed, bulletDmgFactor, energyDmgFactor, explosionDmgFactor, displayName, price, absorbSound, regenSound, icon, tex,
                     types.shield, shieldName);
@@ -18,15 +18,29 @@
 
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.Const;
+import org.destinationsol.game.GenerationExecutor;
 import org.destinationsol.game.HardnessCalc;
+import org.destinationsol.game.ObjectManager;
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
 
+import java.util.concurrent.Future;
+
 public class Maze {
+    // the plan is computed in the background from this distance, see MazeBuilder#plan
+    private static final float PLAN_DIST = Const.CAM_VIEW_DIST_JOURNEY * 4;
+    // and added to the game from this one, waiting for it if needed, so that the maze comes at the same tick every time
+    private static final float COMMIT_DIST = Const.CAM_VIEW_DIST_JOURNEY * 2;
+    private static final int TILES_PER_TICK = 128;
+    private static final int ENEMIES_PER_TICK = 2;
     private final MazeConfig config;
     private final Vector2 position;
     private final float radius;
     private final float damagePerSecond;
+    private Future<MazePlan> planFuture;
+    private MazePlan plan;
+    private int committedTiles;
+    private int committedEnemies;
     private boolean areObjectsCreated;
 
     public Maze(MazeConfig config, Vector2 position, float radius) {
@@ -39,8 +53,41 @@ public Maze(MazeConfig config, Vector2 position, float radius) {
     public void update(SolGame game) {
         SolCam cam = game.getCam();
         Vector2 camPos = cam.getPosition();
-        if (!areObjectsCreated && camPos.dst(position) < radius + Const.CAM_VIEW_DIST_JOURNEY * 2) {
-            new MazeBuilder().build(game, this);
+        if (areObjectsCreated) {
+            return;
+        }
+        float dst = camPos.dst(position) - radius;
+        if (planFuture == null && dst < PLAN_DIST) {
+            planFuture = game.getGenerationExecutor().submit(() -> new MazeBuilder().plan(this));
+        }
+        if (plan == null && planFuture != null && dst < COMMIT_DIST) {
+            plan = GenerationExecutor.join(planFuture);
+            planFuture = null;
+        }
+        if (plan != null) {
+            commit(game);
+        }
+    }
+
+    /**
+     * Adds the next few tiles and enemies of the plan to the game. The tiles go first, they are cheap far objects, the
+     * enemies need their ships and inventories built.
+     */
+    private void commit(SolGame game) {
+        ObjectManager objectManager = game.getObjectManager();
+        int tileEnd = Math.min(plan.tiles.size(), committedTiles + TILES_PER_TICK);
+        for (; committedTiles < tileEnd; committedTiles++) {
+            objectManager.addFarObjNow(plan.tiles.get(committedTiles));
+        }
+        if (committedTiles < plan.tiles.size()) {
+            return;
+        }
+        int enemyEnd = Math.min(plan.enemies.size(), committedEnemies + ENEMIES_PER_TICK);
+        for (; committedEnemies < enemyEnd; committedEnemies++) {
+            objectManager.addFarObjNow(MazeBuilder.buildEnemy(game, plan.enemies.get(committedEnemies)));
+        }
+        if (committedEnemies == plan.enemies.size()) {
+            plan = null;
             areObjectsCreated = true;
         }
     }
@@ -18,6 +18,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.Const;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.Faction;
@@ -31,27 +32,38 @@
 
 import java.util.ArrayList;
 
+/**
+ * Works out the content of a maze from its seed, see {@link #plan(Maze)}, and builds its enemies. The plan only reads
+ * the maze config, so it runs on the {@link org.destinationsol.game.GenerationExecutor}.
+ */
 public class MazeBuilder {
     public static final float BORDER = 4f;
     public static final float TILE_SZ = 3.5f;
+    private final RandomStream random = new RandomStream(0);
     private int size;
     private Vector2 mazePosition;
     private float mazeAngle;
     private float innerRadius;
 
-    public void build(SolGame game, Maze maze) {
+    /**
+     * Computes the layout, the tiles and the enemy placements of the maze. The result only depends on the maze, as the
+     * maze stream is seeded from its position.
+     */
+    MazePlan plan(Maze maze) {
         innerRadius = maze.getRadius() - BORDER;
         size = (int) (innerRadius * 2 / TILE_SZ);
         mazePosition = maze.getPos();
-        mazeAngle = SolRandom.seededRandomFloat(180);
+        random.reset(SolRandom.streamSeed(SolRandom.Domain.MAZE, SolRandom.positionKey(mazePosition)));
+        mazeAngle = random.randomFloat(180);
 
-        MazeLayout layout = buildMaze(game, maze);
-        buildEnemies(game, maze, layout);
+        MazePlan plan = new MazePlan();
+        planTiles(maze, plan);
+        planEnemies(maze, plan);
+        return plan;
     }
 
-    private MazeLayout buildMaze(SolGame game, Maze maze) {
-        MazeLayout layout = new MazeLayoutBuilder(size).build();
-        new MazeTileObject.Builder();
+    private void planTiles(Maze maze, MazePlan plan) {
+        MazeLayout layout = new MazeLayoutBuilder(size, random).build();
         MazeConfig config = maze.getConfig();
         for (int col = 0; col < size; col++) {
             for (int row = 0; row < size; row++) {
@@ -71,9 +83,8 @@ private MazeLayout buildMaze(SolGame game, Maze maze) {
                     } else {
                         tiles = inner ? config.innerPasses : config.borderPasses;
                     }
-                    MazeTile tile = SolRandom.seededRandomElement(tiles);
-                    MazeTileObject.MyFar mto = new MazeTileObject.MyFar(tile, tileAngle, new Vector2(tilePos), SolRandom.test(.5f));
-                    game.getObjectManager().addFarObjNow(mto);
+                    MazeTile tile = random.randomElement(tiles);
+                    plan.tiles.add(new MazeTileObject.MyFar(tile, tileAngle, tilePos, random.test(.5f)));
                 }
 
                 boolean dInner = col > 0 && row < size - 1 && layout.inners[col][row + 1];
@@ -91,13 +102,11 @@ private MazeLayout buildMaze(SolGame game, Maze maze) {
                     } else {
                         tiles = inner ? config.innerPasses : config.borderPasses;
                     }
-                    MazeTile tile = SolRandom.seededRandomElement(tiles);
-                    MazeTileObject.MyFar mto = new MazeTileObject.MyFar(tile, tileAngle, new Vector2(tilePos), SolRandom.test(.5f));
-                    game.getObjectManager().addFarObjNow(mto);
+                    MazeTile tile = random.randomElement(tiles);
+                    plan.tiles.add(new MazeTileObject.MyFar(tile, tileAngle, tilePos, random.test(.5f)));
                 }
             }
         }
-        return layout;
     }
 
     private Vector2 cellPos(int col, int row, float xOffset, float yOffset) {
@@ -107,7 +116,7 @@ private Vector2 cellPos(int col, int row, float xOffset, float yOffset) {
         return res;
     }
 
-    private void buildEnemies(SolGame game, Maze maze, MazeLayout layout) {
+    private void planEnemies(Maze maze, MazePlan plan) {
         MazeConfig config = maze.getConfig();
         float dist = maze.getRadius() - BORDER / 2;
         float circleLen = dist * SolMath.PI * 2;
@@ -115,9 +124,9 @@ private void buildEnemies(SolGame game, Maze maze, MazeLayout layout) {
             int count = (int) (enemy.density * circleLen);
             for (int i = 0; i < count; i++) {
                 Vector2 position = new Vector2();
-                SolMath.fromAl(position, SolRandom.randomFloat(180), dist);
+                SolMath.fromAl(position, random.randomFloat(180), dist);
                 position.add(mazePosition);
-                buildEnemy(position, game, enemy, false);
+                planEnemy(plan, position, enemy, false);
             }
         }
 
@@ -128,19 +137,19 @@ private void buildEnemies(SolGame game, Maze maze, MazeLayout layout) {
             for (int i = 0; i < count; i++) {
                 Vector2 position = getFreeCellPos(occupiedCells);
                 if (position != null) {
-                    buildEnemy(position, game, e, true);
+                    planEnemy(plan, position, e, true);
                 }
             }
         }
-        ShipConfig bossConfig = SolRandom.randomElement(config.bosses);
+        ShipConfig bossConfig = random.randomElement(config.bosses);
         Vector2 position = cellPos(size / 2, size / 2, 0f, 0f);
-        buildEnemy(position, game, bossConfig, true);
+        planEnemy(plan, position, bossConfig, true);
     }
 
     private Vector2 getFreeCellPos(boolean[][] occupiedCells) {
         for (int i = 0; i < 10; i++) {
-            int col = SolRandom.seededRandomInt(size);
-            int row = SolRandom.seededRandomInt(size);
+            int col = random.randomInt(size);
+            int row = random.randomInt(size);
             if (occupiedCells[col][row]) {
                 continue;
             }
@@ -154,17 +163,24 @@ private Vector2 getFreeCellPos(boolean[][] occupiedCells) {
         return null;
     }
 
-    private void buildEnemy(Vector2 position, SolGame game, ShipConfig e, boolean inner) {
-        float angle = SolRandom.randomFloat(180);
+    private void planEnemy(MazePlan plan, Vector2 position, ShipConfig e, boolean inner) {
+        float angle = random.randomFloat(180);
+        plan.enemies.add(new MazePlan.Enemy(e, position, angle, inner));
+    }
+
+    /**
+     * Builds a planned enemy, this has to run on the main thread.
+     */
+    static FarShip buildEnemy(SolGame game, MazePlan.Enemy enemy) {
+        ShipConfig e = enemy.config;
         ShipBuilder sb = game.getShipBuilder();
         float viewDist = Const.AI_DET_DIST;
-        if (inner) {
+        if (enemy.inner) {
             viewDist = TILE_SZ * 1.25f;
         }
-        Pilot pilot = new AiPilot(new StillGuard(position, game, e), false, Faction.EHAR, true, null, viewDist);
+        Pilot pilot = new AiPilot(new StillGuard(enemy.position, game, e), false, Faction.EHAR, true, null, viewDist);
         int money = e.money;
-        FarShip s = sb.buildNewFar(game, position, new Vector2(), angle, 0, pilot, e.items, e.hull, null, false, money, null, true);
-        game.getObjectManager().addFarObjNow(s);
+        return sb.buildNewFar(game, enemy.position, new Vector2(), enemy.angle, 0, pilot, e.items, e.hull, null, false, money, null, true);
     }
 
 }
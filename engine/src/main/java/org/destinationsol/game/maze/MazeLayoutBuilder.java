@@ -17,19 +17,21 @@
 package org.destinationsol.game.maze;
 
 import org.destinationsol.common.SolMath;
-import org.destinationsol.common.SolRandom;
+import org.destinationsol.common.RandomStream;
 
 public class MazeLayoutBuilder {
     private static final float HOLE_PERCENTAGE = 0.2f;
     private static final float WALL_PERCENTAGE = 0.5f;
     private final int size;
+    private final RandomStream random;
     private final boolean[][] inners;
     private final boolean[][] holes;
     private final boolean[][] right;
     private final boolean[][] down;
 
-    MazeLayoutBuilder(int size) {
+    MazeLayoutBuilder(int size, RandomStream random) {
         this.size = size;
+        this.random = random;
         inners = new boolean[size][size];
         holes = new boolean[size][size];
         right = new boolean[size][size];
@@ -43,8 +45,8 @@ public MazeLayout build() {
                 boolean inner = inners[col][row];
                 boolean rInner = col < size - 1 && inners[col + 1][row];
                 boolean dInner = row < size - 1 && inners[col][row + 1];
-                right[col][row] = (inner || rInner) && SolRandom.test(WALL_PERCENTAGE);
-                down[col][row] = (inner || dInner) && SolRandom.test(WALL_PERCENTAGE);
+                right[col][row] = (inner || rInner) && random.test(WALL_PERCENTAGE);
+                down[col][row] = (inner || dInner) && random.test(WALL_PERCENTAGE);
             }
         }
         makeAllAccessible();
@@ -104,7 +106,7 @@ private void setInners() {
         float[][] values = new float[size][size];
         for (int i = 0; i < size; i++) {
             for (int j = 0; j < size; j++) {
-                values[i][j] = SolRandom.seededRandomFloat(0, 1);
+                values[i][j] = random.randomFloat(0, 1);
             }
         }
         smooth(values);
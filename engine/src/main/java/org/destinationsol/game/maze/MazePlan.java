@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.maze;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.ShipConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The content of a maze as computed by {@link MazeBuilder#plan(Maze)}: the far tiles and where the enemies go. It holds
+ * no game objects, so it can be built off the main thread and added to the game a few objects per tick.
+ */
+class MazePlan {
+    final List<MazeTileObject.MyFar> tiles = new ArrayList<>();
+    final List<Enemy> enemies = new ArrayList<>();
+
+    static class Enemy {
+        final ShipConfig config;
+        final Vector2 position;
+        final float angle;
+        // the inner enemies guard a cell and only see as far as the next walls
+        final boolean inner;
+
+        Enemy(ShipConfig config, Vector2 position, float angle, boolean inner) {
+            this.config = config;
+            this.position = position;
+            this.angle = angle;
+            this.inner = inner;
+        }
+    }
+}
@@ -175,6 +175,18 @@ public String toDebugString() {
         public boolean hasBody() {
             return true;
         }
+
+        public MazeTile getTile() {
+            return tile;
+        }
+
+        public float getAngle() {
+            return angle;
+        }
+
+        public boolean isFlipped() {
+            return isFlipped;
+        }
     }
 
     public static class Builder {
@@ -16,11 +16,8 @@
 package org.destinationsol.game.particle;
 
 import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
-import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
 import com.google.common.base.Preconditions;
 import org.destinationsol.common.NotNull;
 import org.destinationsol.common.SolMath;
@@ -40,8 +37,12 @@ public class DSParticleEmitter {
 
     private static final float JUMP_SPEED_THRESHOLD = 0.9f;
     private static final float JUMP_SIZE_THRESHOLD = 0.7f;
-    private static final float MAX_BOUNDINGBOX_RECALC_AWAIT = .5f;
     private static final float MAX_TIME_BETWEEN_POSITION_CHANGE = .25f;
+    /**
+     * Emitters that were not drawn in the last frame are only simulated this often, with the whole time since the last
+     * simulation. It is also the most time an emitter catches up on in one step when it is drawn again.
+     */
+    private static final float OFF_SCREEN_UPDATE_INTERVAL = .25f;
 
     private Vector2 position;
     private String trigger;
@@ -50,16 +51,34 @@ public class DSParticleEmitter {
     private EffectConfig config;
 
     private List<Drawable> drawables;
-    private ParticleEmitter particleEmitter;
+    private ParticleEmitter prototype;
+    private ParticlePool pool;
     private DrawableLevel drawableLevel;
     private Vector2 relativePosition, originalRelativePosition;
-    private float relativeAngle, areaSize, timeSinceLastPositionChange, boundingBoxRecalcAwait;
+    private float relativeAngle, areaSize, timeSinceLastPositionChange, offScreenTime;
     private ParticleEmitter.ScaledNumericValue originalSpeedAngle, originalRotation;
     private boolean inheritsSpeed, working, floatedUp;
-    private BoundingBox boundingBox;
     private LightSource light;
     private SolGame game;
 
+    // the values of the prototype this emitter changes, read by the pool when spawning its particles
+    ParticleEmitter.ScaledNumericValue emissionValue, spawnWidthValue, spawnHeightValue, velocityValue, scaleValue,
+            angleValue, rotationValue, windValue, gravityValue;
+
+    // the emission state, as in ParticleEmitter
+    private float accumulator, delay, delayTimer;
+    float duration = 1, durationTimer;
+    private int emission, emissionDiff, emissionDelta;
+    int life, lifeDiff, lifeOffset, lifeOffsetDiff;
+    float spawnWidth, spawnWidthDiff, spawnHeight, spawnHeightDiff;
+    private boolean firstUpdate, allowCompletion, continuous;
+    int activeCount, maxParticleCount;
+    float x, y;
+
+    // the bounds of the particles, collected by the pool on every update
+    private float minX, minY, maxX, maxY;
+    private long boundsTick = -1;
+
     public DSParticleEmitter(@NotNull Vector2 position, @NotNull String trigger, float angleOffset, boolean hasLight, EffectConfig config) {
         Preconditions.checkNotNull(position, "position cannot be null");
         this.position = new Vector2(position);
@@ -69,7 +88,7 @@ public DSParticleEmitter(@NotNull Vector2 position, @NotNull String trigger, flo
         this.config = config;
 
         drawables = null;
-        particleEmitter = null;
+        prototype = null;
         drawableLevel = null;
         relativePosition = null;
         originalRelativePosition = null;
@@ -102,7 +121,8 @@ private void initialiseEmitter(EffectConfig config, float size, DrawableLevel dr
         drawables.add(drawable);
 
         this.config = config;
-        this.particleEmitter = config.emitter.newEmitter();
+        this.prototype = config.emitter.getEmitter();
+        this.pool = game.getParticleEngine().getPool(config, drawableLevel);
         this.drawableLevel = drawableLevel;
         this.relativePosition = new Vector2(relativePosition);
         this.originalRelativePosition = new Vector2(this.relativePosition);
@@ -119,54 +139,190 @@ private void initialiseEmitter(EffectConfig config, float size, DrawableLevel dr
             size = config.size;
         }
 
+        emissionValue = copyValue(prototype.getEmission());
+        spawnWidthValue = copyValue(prototype.getSpawnWidth());
+        spawnHeightValue = copyValue(prototype.getSpawnHeight());
+        velocityValue = copyValue(prototype.getVelocity());
+        scaleValue = copyValue(prototype.getScale());
+        angleValue = copyValue(prototype.getAngle());
+        rotationValue = copyValue(prototype.getRotation());
+        windValue = copyValue(prototype.getWind());
+        gravityValue = copyValue(prototype.getGravity());
+        maxParticleCount = prototype.getMaxParticleCount();
+
         // has area
-        if (particleEmitter.getSpawnShape().getShape() != ParticleEmitter.SpawnShape.point) {
-            multiplyValue(particleEmitter.getEmission(), size * size);
-            multiplyValue(particleEmitter.getSpawnWidth(), size);
-            multiplyValue(particleEmitter.getSpawnHeight(), size);
+        if (prototype.getSpawnShape().getShape() != ParticleEmitter.SpawnShape.point) {
+            multiplyValue(emissionValue, size * size);
+            multiplyValue(spawnWidthValue, size);
+            multiplyValue(spawnHeightValue, size);
             areaSize = 0;
         }
         // moves fast
-        else if (JUMP_SPEED_THRESHOLD < particleEmitter.getVelocity().getHighMax()) {
-            multiplyValue(particleEmitter.getEmission(), size * size);
-            ParticleEmitter.ScaledNumericValue velocity = particleEmitter.getVelocity();
-            velocity.setHigh(velocity.getHighMin() * size, velocity.getHighMax() * size);
+        else if (JUMP_SPEED_THRESHOLD < velocityValue.getHighMax()) {
+            multiplyValue(emissionValue, size * size);
+            velocityValue.setHigh(velocityValue.getHighMin() * size, velocityValue.getHighMax() * size);
             areaSize = 0;
         }
         // large scale
-        else if (JUMP_SIZE_THRESHOLD < particleEmitter.getScale().getHighMax()) {
-            ParticleEmitter.ScaledNumericValue scale = particleEmitter.getScale();
-            scale.setHigh(scale.getHighMin() * size, scale.getHighMax() * size);
+        else if (JUMP_SIZE_THRESHOLD < scaleValue.getHighMax()) {
+            scaleValue.setHigh(scaleValue.getHighMin() * size, scaleValue.getHighMax() * size);
             areaSize = 0;
         }
         else {
             areaSize = size;
         }
 
-        particleEmitter.setSprite(new Sprite(config.tex));
-        float[] tint = particleEmitter.getTint().getColors();
-        tint[0] = config.tint.r;
-        tint[1] = config.tint.g;
-        tint[2] = config.tint.b;
-
         originalSpeedAngle = new ParticleEmitter.ScaledNumericValue();
         originalRotation = new ParticleEmitter.ScaledNumericValue();
-        transferAngle(particleEmitter.getAngle(), originalSpeedAngle, 0f);
-        transferAngle(particleEmitter.getRotation(), originalRotation, 0f);
+        transferAngle(angleValue, originalSpeedAngle, 0f);
+        transferAngle(rotationValue, originalRotation, 0f);
 
         this.inheritsSpeed = inheritsSpeed;
         updateSpeed(game, baseSpeed, basePosition);
 
-        if (config.emitter.continuous) {
-            // making it continuous after setting initial speed
-            particleEmitter.setContinuous(true);
-            // this is needed because making effect continuous starts it
-            particleEmitter.allowCompletion();
-            // ... and still initial speed is not applied : (
+        continuous = config.emitter.continuous;
+        if (continuous) {
+            // continuous effects wait for setWorking(true)
+            allowCompletion();
+        } else {
+            start();
+        }
+    }
+
+    /**
+     * Copies a value of the prototype, sharing its timeline and scaling, which this emitter never changes.
+     */
+    private static ParticleEmitter.ScaledNumericValue copyValue(ParticleEmitter.ScaledNumericValue from) {
+        ParticleEmitter.ScaledNumericValue to = new ParticleEmitter.ScaledNumericValue();
+        to.setActive(from.isActive());
+        to.setLow(from.getLowMin(), from.getLowMax());
+        to.setHigh(from.getHighMin(), from.getHighMax());
+        to.setRelative(from.isRelative());
+        to.setScaling(from.getScaling());
+        to.setTimeline(from.getTimeline());
+        return to;
+    }
+
+    private void start() {
+        firstUpdate = true;
+        allowCompletion = false;
+        restart();
+    }
+
+    private void restart() {
+        ParticleEmitter.RangedNumericValue delayValue = prototype.getDelay();
+        delay = delayValue.isActive() ? delayValue.newLowValue() : 0;
+        delayTimer = 0;
+
+        durationTimer -= duration;
+        duration = prototype.getDuration().newLowValue();
+
+        emission = (int) emissionValue.newLowValue();
+        emissionDiff = (int) emissionValue.newHighValue();
+        if (!emissionValue.isRelative()) {
+            emissionDiff -= emission;
+        }
+
+        ParticleEmitter.ScaledNumericValue lifeValue = prototype.getLife();
+        life = (int) lifeValue.newLowValue();
+        lifeDiff = (int) lifeValue.newHighValue();
+        if (!lifeValue.isRelative()) {
+            lifeDiff -= life;
+        }
+
+        ParticleEmitter.ScaledNumericValue lifeOffsetValue = prototype.getLifeOffset();
+        lifeOffset = lifeOffsetValue.isActive() ? (int) lifeOffsetValue.newLowValue() : 0;
+        lifeOffsetDiff = (int) lifeOffsetValue.newHighValue();
+        if (!lifeOffsetValue.isRelative()) {
+            lifeOffsetDiff -= lifeOffset;
+        }
+
+        spawnWidth = spawnWidthValue.newLowValue();
+        spawnWidthDiff = spawnWidthValue.newHighValue();
+        if (!spawnWidthValue.isRelative()) {
+            spawnWidthDiff -= spawnWidth;
+        }
+
+        spawnHeight = spawnHeightValue.newLowValue();
+        spawnHeightDiff = spawnHeightValue.newHighValue();
+        if (!spawnHeightValue.isRelative()) {
+            spawnHeightDiff -= spawnHeight;
+        }
+    }
+
+    private void allowCompletion() {
+        allowCompletion = true;
+        durationTimer = duration;
+    }
+
+    /**
+     * Spawns the particles due in the given time, the same way {@link ParticleEmitter#update(float)} does. Moving the
+     * particles is left to the {@link ParticleEngine}.
+     */
+    void emit(float delta) {
+        accumulator += delta * 1000;
+        if (accumulator < 1) {
+            return;
+        }
+        int deltaMillis = (int) accumulator;
+        accumulator -= deltaMillis;
+
+        if (delayTimer < delay) {
+            delayTimer += deltaMillis;
+            return;
+        }
+        if (firstUpdate) {
+            firstUpdate = false;
+            pool.add(this, 1);
+        }
+
+        if (durationTimer < duration) {
+            durationTimer += deltaMillis;
+        } else if (!continuous || allowCompletion) {
+            return;
         } else {
-            particleEmitter.start();
+            restart();
+        }
+
+        emissionDelta += deltaMillis;
+        float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / duration);
+        if (emissionTime > 0) {
+            emissionTime = 1000 / emissionTime;
+            if (emissionDelta >= emissionTime) {
+                int emitCount = (int) (emissionDelta / emissionTime);
+                emitCount = Math.min(emitCount, maxParticleCount - activeCount);
+                emissionDelta -= emitCount * emissionTime;
+                emissionDelta %= emissionTime;
+                pool.add(this, emitCount);
+            }
         }
-        boundingBox = particleEmitter.getBoundingBox();
+        int minParticleCount = prototype.getMinParticleCount();
+        if (activeCount < minParticleCount) {
+            pool.add(this, minParticleCount - activeCount);
+        }
+    }
+
+    private void setEmitterPosition(float x, float y) {
+        if (prototype.isAttached() && activeCount > 0) {
+            pool.translate(this, x - this.x, y - this.y);
+        }
+        this.x = x;
+        this.y = y;
+    }
+
+    void extendBounds(long tick, float x, float y, float radius) {
+        if (boundsTick != tick) {
+            boundsTick = tick;
+            minX = x - radius;
+            maxX = x + radius;
+            minY = y - radius;
+            maxY = y + radius;
+            return;
+        }
+        minX = Math.min(minX, x - radius);
+        maxX = Math.max(maxX, x + radius);
+        minY = Math.min(minY, y - radius);
+        maxY = Math.max(maxY, y + radius);
     }
 
     private void multiplyValue(ParticleEmitter.ScaledNumericValue value, float multiplier) {
@@ -206,7 +362,10 @@ public void onRemove(SolGame game, Vector2 basePos) {
     }
 
     public boolean isComplete() {
-        return particleEmitter.isComplete();
+        if (delayTimer < delay) {
+            return false;
+        }
+        return durationTimer >= duration && activeCount == 0;
     }
 
     public boolean isContinuous() {
@@ -229,22 +388,20 @@ public void setWorking(boolean working) {
 
         this.working = working;
         if (working) {
-            particleEmitter.start();
+            start();
         } else {
-            particleEmitter.allowCompletion();
+            allowCompletion();
         }
     }
 
     private void setSpeed(Vector2 speed) {
-        ParticleEmitter.ScaledNumericValue wind = particleEmitter.getWind();
-        wind.setActive(true);
-        wind.setHigh(speed.x);
-        wind.setLow(speed.x);
-
-        ParticleEmitter.ScaledNumericValue gravity = particleEmitter.getGravity();
-        gravity.setActive(true);
-        gravity.setHigh(speed.y);
-        gravity.setLow(speed.y);
+        windValue.setActive(true);
+        windValue.setHigh(speed.x);
+        windValue.setLow(speed.x);
+
+        gravityValue.setActive(true);
+        gravityValue.setHigh(speed.y);
+        gravityValue.setLow(speed.y);
     }
 
     /**
@@ -312,22 +469,45 @@ public void update(SolGame game, SolObject object) {
             float timeStep = game.getTimeStep();
 
             // fix speed bug
-            position.x -= particleEmitter.getWind().getLowMin() * timeStep;
-            position.y -= particleEmitter.getGravity().getLowMin() * timeStep;
+            position.x -= windValue.getLowMin() * timeStep;
+            position.y -= gravityValue.getLowMin() * timeStep;
 
-            particleEmitter.setPosition(position.x, position.y);
-            transferAngle(originalSpeedAngle, particleEmitter.getAngle(), baseAngle + relativeAngle);
-            transferAngle(originalRotation, particleEmitter.getRotation(), baseAngle + relativeAngle);
+            setEmitterPosition(position.x, position.y);
+            transferAngle(originalSpeedAngle, angleValue, baseAngle + relativeAngle);
+            transferAngle(originalRotation, rotationValue, baseAngle + relativeAngle);
 
             updateSpeed(game, object.getSpeed(), object.getPosition());
-            particleEmitter.update(timeStep);
+            simulate(game, timeStep);
+        }
 
-            if (boundingBoxRecalcAwait > 0) {
-                boundingBoxRecalcAwait -= game.getTimeStep();
+        /**
+         * Spawns the particles of a visible emitter every tick, together with the ones due while it was off-screen.
+         * Off-screen emitters spawn every {@link #OFF_SCREEN_UPDATE_INTERVAL}. The ones that stopped emitting drop their
+         * particles at their first off-screen step, nobody sees them fade.
+         */
+        private void simulate(SolGame game, float timeStep) {
+            float simulatedTime;
+            if (game.getDrawableManager().isVisible(this)) {
+                simulatedTime = timeStep + offScreenTime;
             } else {
-                boundingBoxRecalcAwait = MAX_BOUNDINGBOX_RECALC_AWAIT;
-                particleEmitter.getBoundingBox();
+                offScreenTime += timeStep;
+                if (offScreenTime < OFF_SCREEN_UPDATE_INTERVAL) {
+                    return;
+                }
+                simulatedTime = offScreenTime;
+                if (isEmissionOver()) {
+                    pool.removeAll(DSParticleEmitter.this);
+                }
             }
+            emit(simulatedTime);
+            offScreenTime = 0;
+        }
+
+        private boolean isEmissionOver() {
+            if (isContinuous() && working) {
+                return false;
+            }
+            return activeCount > 0 && delayTimer >= delay && durationTimer >= duration;
         }
 
         private void maybeSwitchRelativePosition(SolGame game) {
@@ -360,16 +540,17 @@ public Vector2 getRelativePosition() {
 
         @Override
         public float getRadius() {
-            Vector3 center = new Vector3();
-            center = boundingBox.getCenter(center);
-            float toCenter = position.dst(center.x, center.y);
-            float radius = boundingBox.getDimensions(center).len() / 2;
-            return radius > 0 ? toCenter + radius : 0;
+            if (activeCount == 0) {
+                return 0;
+            }
+            float toCenter = position.dst((minX + maxX) / 2, (minY + maxY) / 2);
+            float radius = Vector2.len(maxX - minX, maxY - minY) / 2;
+            return toCenter + radius;
         }
 
         @Override
         public void draw(GameDrawer drawer, SolGame game) {
-            drawer.draw(particleEmitter, config.tex, config.emitter.additive);
+            // the particles are drawn by the ParticleEngine, together with the ones of the other emitters
         }
 
         @Override
@@ -18,8 +18,7 @@
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.utils.JsonValue;
-import org.destinationsol.assets.Assets;
-import org.destinationsol.game.GameColors;
+import org.destinationsol.game.ConfigRegistry;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,24 +38,22 @@ public EffectConfig(EffectType emitter, float size, TextureAtlas.AtlasRegion tex
         this.tint = tint;
     }
 
-    public static EffectConfig load(JsonValue node, EffectTypes types, GameColors cols) {
+    public static EffectConfig load(JsonValue node, ConfigRegistry configRegistry) {
         if (node == null) {
             return null;
         }
         String emitter = node.getString("effectFile");
-        EffectType effectType = types.forName(emitter);
         float size = node.getFloat("size", 0);
         String texName = node.getString("tex");
         boolean floatsUp = node.getBoolean("floatsUp", false);
-        Color tint = cols.load(node.getString("tint"));
-        TextureAtlas.AtlasRegion tex = Assets.getAtlasRegion(texName + "Particle");
-        return new EffectConfig(effectType, size, tex, floatsUp, tint);
+        String tint = node.getString("tint");
+        return configRegistry.getEffectConfig(emitter, size, texName, floatsUp, tint);
     }
 
-    public static List<EffectConfig> loadList(JsonValue listNode, EffectTypes types, GameColors cols) {
+    public static List<EffectConfig> loadList(JsonValue listNode, ConfigRegistry configRegistry) {
         ArrayList<EffectConfig> res = new ArrayList<>();
         for (JsonValue node : listNode) {
-            EffectConfig ec = load(node, types, cols);
+            EffectConfig ec = load(node, configRegistry);
             res.add(ec);
         }
         return res;
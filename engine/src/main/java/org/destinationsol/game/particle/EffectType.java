@@ -28,10 +28,13 @@ public EffectType(String effectName) {
         continuous = myEmitter.isContinuous();
         myEmitter.setContinuous(false);
         additive = myEmitter.isAdditive();
-        myEmitter.setAdditive(false);
     }
 
-    public ParticleEmitter newEmitter() {
-        return new ParticleEmitter(myEmitter);
+    /**
+     * @return the emitter loaded from the effect file, shared by all the {@link DSParticleEmitter}s of this type. It must
+     * not be changed.
+     */
+    public ParticleEmitter getEmitter() {
+        return myEmitter;
     }
 }
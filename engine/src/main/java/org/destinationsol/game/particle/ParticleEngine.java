@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.particle;
+
+import org.destinationsol.game.GameDrawer;
+import org.destinationsol.game.SolCam;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.game.drawables.DrawableLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owns the particles of all the {@link DSParticleEmitter}s of the game. The emitters only decide when to spawn particles,
+ * the particles of one {@link EffectConfig} on one {@link DrawableLevel} are kept together, updated in one loop after
+ * the objects and drawn in one batch at their level.
+ */
+public class ParticleEngine {
+    private final Map<EffectConfig, ParticlePool[]> poolsByConfig;
+    private final List<List<ParticlePool>> poolsByLevel;
+    private float accumulator;
+    private long tick;
+
+    public ParticleEngine() {
+        poolsByConfig = new HashMap<>();
+        poolsByLevel = new ArrayList<>();
+        for (DrawableLevel ignored : DrawableLevel.values()) {
+            poolsByLevel.add(new ArrayList<>());
+        }
+    }
+
+    ParticlePool getPool(EffectConfig config, DrawableLevel level) {
+        ParticlePool[] pools = poolsByConfig.computeIfAbsent(config, c -> new ParticlePool[DrawableLevel.values().length]);
+        ParticlePool pool = pools[level.ordinal()];
+        if (pool == null) {
+            pool = new ParticlePool(config, level);
+            pools[level.ordinal()] = pool;
+            poolsByLevel.get(level.ordinal()).add(pool);
+        }
+        return pool;
+    }
+
+    public void update(SolGame game) {
+        float timeStep = game.getTimeStep();
+        accumulator += timeStep * 1000;
+        if (accumulator < 1) {
+            return;
+        }
+        int deltaMillis = (int) accumulator;
+        accumulator -= deltaMillis;
+        tick++;
+        for (int i = 0, levels = poolsByLevel.size(); i < levels; i++) {
+            List<ParticlePool> pools = poolsByLevel.get(i);
+            for (int j = 0, size = pools.size(); j < size; j++) {
+                pools.get(j).update(timeStep, deltaMillis, tick);
+            }
+        }
+    }
+
+    public void draw(GameDrawer drawer, DrawableLevel level, SolCam cam) {
+        List<ParticlePool> pools = poolsByLevel.get(level.ordinal());
+        float viewDistance = cam.getViewDistance() * level.depth;
+        for (int i = 0, size = pools.size(); i < size; i++) {
+            pools.get(i).draw(drawer, cam.getPosition(), viewDistance);
+        }
+    }
+}
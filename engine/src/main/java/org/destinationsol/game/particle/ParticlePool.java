@@ -0,0 +1,596 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.particle;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.GameDrawer;
+import org.destinationsol.game.drawables.DrawableLevel;
+
+import java.util.Arrays;
+
+/**
+ * The live particles of all the emitters of one {@link EffectConfig} on one {@link DrawableLevel}, kept as columns of
+ * primitives. The particles are spawned and moved the same way {@link ParticleEmitter} does it, with the values of the
+ * emitter that spawned them, and drawn with a single texture.
+ */
+class ParticlePool {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int VERTEX_SIZE = 20;
+
+    private static final int UPDATE_SCALE = 1;
+    private static final int UPDATE_ANGLE = 1 << 1;
+    private static final int UPDATE_ROTATION = 1 << 2;
+    private static final int UPDATE_VELOCITY = 1 << 3;
+    private static final int UPDATE_TINT = 1 << 4;
+
+    final DrawableLevel level;
+    private final Texture texture;
+    private final float u, v, u2, v2;
+    private final float heightRatio;
+    private final boolean aligned;
+    private final int updateFlags;
+    private final ParticleEmitter.ScaledNumericValue scaleValue;
+    private final ParticleEmitter.ScaledNumericValue velocityValue;
+    private final ParticleEmitter.ScaledNumericValue angleValue;
+    private final ParticleEmitter.ScaledNumericValue rotationValue;
+    private final ParticleEmitter.ScaledNumericValue windValue;
+    private final ParticleEmitter.ScaledNumericValue gravityValue;
+    private final ParticleEmitter.ScaledNumericValue transparencyValue;
+    private final ParticleEmitter.ScaledNumericValue lifeValue;
+    private final ParticleEmitter.ScaledNumericValue lifeOffsetValue;
+    private final ParticleEmitter.RangedNumericValue xOffsetValue;
+    private final ParticleEmitter.RangedNumericValue yOffsetValue;
+    private final ParticleEmitter.SpawnShapeValue spawnShapeValue;
+    private final ParticleEmitter.GradientColorValue tintValue;
+    private final float[] startTint;
+
+    private int size;
+    private DSParticleEmitter[] owners;
+    private int[] lives;
+    private int[] currentLives;
+    private float[] xs;
+    private float[] ys;
+    private float[] scales;
+    private float[] scaleDiffs;
+    private float[] rotations;
+    private float[] rotationDiffs;
+    private float[] velocities;
+    private float[] velocityDiffs;
+    private float[] angles;
+    private float[] angleDiffs;
+    private float[] angleCoss;
+    private float[] angleSins;
+    private float[] transparencies;
+    private float[] transparencyDiffs;
+    private float[] winds;
+    private float[] windDiffs;
+    private float[] gravities;
+    private float[] gravityDiffs;
+    // the current world width, rotation and packed color
+    private float[] sizes;
+    private float[] spriteRotations;
+    private float[] colors;
+    private float[] vertices;
+
+    ParticlePool(EffectConfig config, DrawableLevel level) {
+        this.level = level;
+        TextureAtlas.AtlasRegion tex = config.tex;
+        texture = tex.getTexture();
+        u = tex.getU();
+        v = tex.getV();
+        u2 = tex.getU2();
+        v2 = tex.getV2();
+        heightRatio = tex.getRegionHeight() / (float) tex.getRegionWidth();
+
+        ParticleEmitter emitter = config.emitter.getEmitter();
+        aligned = emitter.isAligned();
+        scaleValue = emitter.getScale();
+        velocityValue = emitter.getVelocity();
+        angleValue = emitter.getAngle();
+        rotationValue = emitter.getRotation();
+        windValue = emitter.getWind();
+        gravityValue = emitter.getGravity();
+        transparencyValue = emitter.getTransparency();
+        lifeValue = emitter.getLife();
+        lifeOffsetValue = emitter.getLifeOffset();
+        xOffsetValue = emitter.getXOffsetValue();
+        yOffsetValue = emitter.getYOffsetValue();
+        spawnShapeValue = emitter.getSpawnShape();
+        tintValue = new ParticleEmitter.GradientColorValue();
+        tintValue.load(emitter.getTint());
+        float[] tintColors = tintValue.getColors();
+        tintColors[0] = config.tint.r;
+        tintColors[1] = config.tint.g;
+        tintColors[2] = config.tint.b;
+        startTint = tintValue.getColor(0).clone();
+
+        int flags = 0;
+        if (angleValue.isActive() && angleValue.getTimeline().length > 1) {
+            flags |= UPDATE_ANGLE;
+        }
+        if (velocityValue.isActive()) {
+            flags |= UPDATE_VELOCITY;
+        }
+        if (scaleValue.getTimeline().length > 1) {
+            flags |= UPDATE_SCALE;
+        }
+        if (rotationValue.isActive() && rotationValue.getTimeline().length > 1) {
+            flags |= UPDATE_ROTATION;
+        }
+        if (tintValue.getTimeline().length > 1) {
+            flags |= UPDATE_TINT;
+        }
+        updateFlags = flags;
+
+        owners = new DSParticleEmitter[INITIAL_CAPACITY];
+        lives = new int[INITIAL_CAPACITY];
+        currentLives = new int[INITIAL_CAPACITY];
+        xs = new float[INITIAL_CAPACITY];
+        ys = new float[INITIAL_CAPACITY];
+        scales = new float[INITIAL_CAPACITY];
+        scaleDiffs = new float[INITIAL_CAPACITY];
+        rotations = new float[INITIAL_CAPACITY];
+        rotationDiffs = new float[INITIAL_CAPACITY];
+        velocities = new float[INITIAL_CAPACITY];
+        velocityDiffs = new float[INITIAL_CAPACITY];
+        angles = new float[INITIAL_CAPACITY];
+        angleDiffs = new float[INITIAL_CAPACITY];
+        angleCoss = new float[INITIAL_CAPACITY];
+        angleSins = new float[INITIAL_CAPACITY];
+        transparencies = new float[INITIAL_CAPACITY];
+        transparencyDiffs = new float[INITIAL_CAPACITY];
+        winds = new float[INITIAL_CAPACITY];
+        windDiffs = new float[INITIAL_CAPACITY];
+        gravities = new float[INITIAL_CAPACITY];
+        gravityDiffs = new float[INITIAL_CAPACITY];
+        sizes = new float[INITIAL_CAPACITY];
+        spriteRotations = new float[INITIAL_CAPACITY];
+        colors = new float[INITIAL_CAPACITY];
+        vertices = new float[INITIAL_CAPACITY * VERTEX_SIZE];
+    }
+
+    int size() {
+        return size;
+    }
+
+    // the state of the particle at an index, for comparing the pool with ParticleEmitter
+
+    int getLife(int i) {
+        return lives[i];
+    }
+
+    int getCurrentLife(int i) {
+        return currentLives[i];
+    }
+
+    float getX(int i) {
+        return xs[i];
+    }
+
+    float getY(int i) {
+        return ys[i];
+    }
+
+    float getSize(int i) {
+        return sizes[i];
+    }
+
+    float getVelocity(int i) {
+        return velocities[i];
+    }
+
+    float getVelocityDiff(int i) {
+        return velocityDiffs[i];
+    }
+
+    float getColor(int i) {
+        return colors[i];
+    }
+
+    /**
+     * Spawns particles at the position of the emitter, like {@link ParticleEmitter#addParticles(int)}.
+     */
+    void add(DSParticleEmitter owner, int count) {
+        count = Math.min(count, owner.maxParticleCount - owner.activeCount);
+        for (int c = 0; c < count; c++) {
+            if (size == owners.length) {
+                grow();
+            }
+            activate(owner, size++);
+            owner.activeCount++;
+        }
+    }
+
+    private void activate(DSParticleEmitter owner, int i) {
+        float percent = owner.durationTimer / owner.duration;
+        owners[i] = owner;
+        lives[i] = currentLives[i] = owner.life + (int) (owner.lifeDiff * lifeValue.getScale(percent));
+
+        ParticleEmitter.ScaledNumericValue velocity = owner.velocityValue;
+        if (velocity.isActive()) {
+            velocities[i] = velocity.newLowValue();
+            velocityDiffs[i] = velocity.newHighValue();
+            if (!velocity.isRelative()) {
+                velocityDiffs[i] -= velocities[i];
+            }
+        }
+
+        ParticleEmitter.ScaledNumericValue angleRange = owner.angleValue;
+        angles[i] = angleRange.newLowValue();
+        angleDiffs[i] = angleRange.newHighValue();
+        if (!angleRange.isRelative()) {
+            angleDiffs[i] -= angles[i];
+        }
+        float angle = 0;
+        if ((updateFlags & UPDATE_ANGLE) == 0) {
+            angle = angles[i] + angleDiffs[i] * angleValue.getScale(0);
+            angles[i] = angle;
+            angleCoss[i] = MathUtils.cosDeg(angle);
+            angleSins[i] = MathUtils.sinDeg(angle);
+        }
+
+        ParticleEmitter.ScaledNumericValue scale = owner.scaleValue;
+        scales[i] = scale.newLowValue();
+        scaleDiffs[i] = scale.newHighValue();
+        if (!scale.isRelative()) {
+            scaleDiffs[i] -= scales[i];
+        }
+        sizes[i] = scales[i] + scaleDiffs[i] * scaleValue.getScale(0);
+
+        ParticleEmitter.ScaledNumericValue rotation = owner.rotationValue;
+        spriteRotations[i] = 0;
+        if (rotation.isActive()) {
+            rotations[i] = rotation.newLowValue();
+            rotationDiffs[i] = rotation.newHighValue();
+            if (!rotation.isRelative()) {
+                rotationDiffs[i] -= rotations[i];
+            }
+            float spriteRotation = rotations[i] + rotationDiffs[i] * rotationValue.getScale(0);
+            if (aligned) {
+                spriteRotation += angle;
+            }
+            spriteRotations[i] = spriteRotation;
+        }
+
+        ParticleEmitter.ScaledNumericValue wind = owner.windValue;
+        winds[i] = 0;
+        windDiffs[i] = 0;
+        if (wind.isActive()) {
+            winds[i] = wind.newLowValue();
+            windDiffs[i] = wind.newHighValue();
+            if (!wind.isRelative()) {
+                windDiffs[i] -= winds[i];
+            }
+        }
+
+        ParticleEmitter.ScaledNumericValue gravity = owner.gravityValue;
+        gravities[i] = 0;
+        gravityDiffs[i] = 0;
+        if (gravity.isActive()) {
+            gravities[i] = gravity.newLowValue();
+            gravityDiffs[i] = gravity.newHighValue();
+            if (!gravity.isRelative()) {
+                gravityDiffs[i] -= gravities[i];
+            }
+        }
+
+        transparencies[i] = transparencyValue.newLowValue();
+        transparencyDiffs[i] = transparencyValue.newHighValue() - transparencies[i];
+        colors[i] = Color.toFloatBits(startTint[0], startTint[1], startTint[2], transparencies[i]);
+
+        spawn(owner, i, percent);
+
+        int offsetTime = (int) (owner.lifeOffset + owner.lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+        if (offsetTime > 0) {
+            if (offsetTime >= currentLives[i]) {
+                offsetTime = currentLives[i] - 1;
+            }
+            updateParticle(i, offsetTime / 1000f, offsetTime);
+        }
+    }
+
+    private void spawn(DSParticleEmitter owner, int i, float percent) {
+        float x = owner.x;
+        if (xOffsetValue.isActive()) {
+            x += xOffsetValue.newLowValue();
+        }
+        float y = owner.y;
+        if (yOffsetValue.isActive()) {
+            y += yOffsetValue.newLowValue();
+        }
+        float width = owner.spawnWidth + owner.spawnWidthDiff * owner.spawnWidthValue.getScale(percent);
+        float height = owner.spawnHeight + owner.spawnHeightDiff * owner.spawnHeightValue.getScale(percent);
+        switch (spawnShapeValue.getShape()) {
+            case square:
+                x += MathUtils.random(width) - width / 2;
+                y += MathUtils.random(height) - height / 2;
+                break;
+            case ellipse:
+                float radiusX = width / 2;
+                float radiusY = height / 2;
+                if (radiusX == 0 || radiusY == 0) {
+                    break;
+                }
+                float scaleY = radiusX / radiusY;
+                if (spawnShapeValue.isEdges()) {
+                    float spawnAngle;
+                    switch (spawnShapeValue.getSide()) {
+                        case top:
+                            spawnAngle = -MathUtils.random(179f);
+                            break;
+                        case bottom:
+                            spawnAngle = MathUtils.random(179f);
+                            break;
+                        default:
+                            spawnAngle = MathUtils.random(360f);
+                            break;
+                    }
+                    float cos = MathUtils.cosDeg(spawnAngle);
+                    float sin = MathUtils.sinDeg(spawnAngle);
+                    x += cos * radiusX;
+                    y += sin * radiusX / scaleY;
+                    if ((updateFlags & UPDATE_ANGLE) == 0) {
+                        angles[i] = spawnAngle;
+                        angleCoss[i] = cos;
+                        angleSins[i] = sin;
+                    }
+                } else {
+                    float radius2 = radiusX * radiusX;
+                    while (true) {
+                        float px = MathUtils.random(width) - radiusX;
+                        float py = MathUtils.random(height) - radiusY;
+                        if (px * px + py * py <= radius2) {
+                            x += px;
+                            y += py / scaleY;
+                            break;
+                        }
+                    }
+                }
+                break;
+            case line:
+                if (width != 0) {
+                    float lineX = width * MathUtils.random();
+                    x += lineX;
+                    y += lineX * (height / width);
+                } else {
+                    y += height * MathUtils.random();
+                }
+                break;
+            default:
+                break;
+        }
+        xs[i] = x;
+        ys[i] = y;
+    }
+
+    /**
+     * Moves all the particles forward and drops the dead ones, like {@link ParticleEmitter#update(float)} does for its own.
+     * Also collects the bounds of the particles of every emitter.
+     */
+    void update(float delta, int deltaMillis, long tick) {
+        int i = 0;
+        while (i < size) {
+            if (!updateParticle(i, delta, deltaMillis)) {
+                removeAt(i);
+                continue;
+            }
+            float halfDiagonal = sizes[i] * .5f * (1 + heightRatio);
+            owners[i].extendBounds(tick, xs[i], ys[i], halfDiagonal);
+            i++;
+        }
+    }
+
+    private boolean updateParticle(int i, float delta, int deltaMillis) {
+        int life = currentLives[i] - deltaMillis;
+        if (life <= 0) {
+            return false;
+        }
+        currentLives[i] = life;
+
+        float percent = 1 - life / (float) lives[i];
+        int updateFlags = this.updateFlags;
+
+        if ((updateFlags & UPDATE_SCALE) != 0) {
+            sizes[i] = scales[i] + scaleDiffs[i] * scaleValue.getScale(percent);
+        }
+
+        if ((updateFlags & UPDATE_VELOCITY) != 0) {
+            float velocity = (velocities[i] + velocityDiffs[i] * velocityValue.getScale(percent)) * delta;
+            float velocityX;
+            float velocityY;
+            if ((updateFlags & UPDATE_ANGLE) != 0) {
+                float angle = angles[i] + angleDiffs[i] * angleValue.getScale(percent);
+                velocityX = velocity * MathUtils.cosDeg(angle);
+                velocityY = velocity * MathUtils.sinDeg(angle);
+                if ((updateFlags & UPDATE_ROTATION) != 0) {
+                    float rotation = rotations[i] + rotationDiffs[i] * rotationValue.getScale(percent);
+                    if (aligned) {
+                        rotation += angle;
+                    }
+                    spriteRotations[i] = rotation;
+                }
+            } else {
+                velocityX = velocity * angleCoss[i];
+                velocityY = velocity * angleSins[i];
+                if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+                    float rotation = rotations[i] + rotationDiffs[i] * rotationValue.getScale(percent);
+                    if (aligned) {
+                        rotation += angles[i];
+                    }
+                    spriteRotations[i] = rotation;
+                }
+            }
+            velocityX += (winds[i] + windDiffs[i] * windValue.getScale(percent)) * delta;
+            velocityY += (gravities[i] + gravityDiffs[i] * gravityValue.getScale(percent)) * delta;
+            xs[i] += velocityX;
+            ys[i] += velocityY;
+        } else if ((updateFlags & UPDATE_ROTATION) != 0) {
+            spriteRotations[i] = rotations[i] + rotationDiffs[i] * rotationValue.getScale(percent);
+        }
+
+        float[] color = (updateFlags & UPDATE_TINT) != 0 ? tintValue.getColor(percent) : startTint;
+        float alpha = transparencies[i] + transparencyDiffs[i] * transparencyValue.getScale(percent);
+        colors[i] = Color.toFloatBits(color[0], color[1], color[2], alpha);
+        return true;
+    }
+
+    /**
+     * Moves the particles of an attached emitter along with it.
+     */
+    void translate(DSParticleEmitter owner, float dx, float dy) {
+        for (int i = 0; i < size; i++) {
+            if (owners[i] == owner) {
+                xs[i] += dx;
+                ys[i] += dy;
+            }
+        }
+    }
+
+    void removeAll(DSParticleEmitter owner) {
+        int i = 0;
+        while (i < size && owner.activeCount > 0) {
+            if (owners[i] == owner) {
+                removeAt(i);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Draws the particles within the view distance from the camera in one batch.
+     */
+    void draw(GameDrawer drawer, Vector2 camPos, float viewDistance) {
+        float[] vertices = this.vertices;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            float halfWidth = sizes[i] * .5f;
+            float halfHeight = halfWidth * heightRatio;
+            float x = xs[i];
+            float y = ys[i];
+            float reach = viewDistance + halfWidth + halfHeight;
+            float dx = x - camPos.x;
+            float dy = y - camPos.y;
+            if (dx * dx + dy * dy > reach * reach) {
+                continue;
+            }
+            float cos = MathUtils.cosDeg(spriteRotations[i]);
+            float sin = MathUtils.sinDeg(spriteRotations[i]);
+            float widthCos = halfWidth * cos;
+            float widthSin = halfWidth * sin;
+            float heightCos = halfHeight * cos;
+            float heightSin = halfHeight * sin;
+            float color = colors[i];
+
+            int idx = count * VERTEX_SIZE;
+            float x1 = -widthCos + heightSin + x;
+            float y1 = -heightCos - widthSin + y;
+            float x2 = -widthCos - heightSin + x;
+            float y2 = heightCos - widthSin + y;
+            float x3 = widthCos - heightSin + x;
+            float y3 = heightCos + widthSin + y;
+            vertices[idx] = x1;
+            vertices[idx + 1] = y1;
+            vertices[idx + 2] = color;
+            vertices[idx + 3] = u;
+            vertices[idx + 4] = v2;
+            vertices[idx + 5] = x2;
+            vertices[idx + 6] = y2;
+            vertices[idx + 7] = color;
+            vertices[idx + 8] = u;
+            vertices[idx + 9] = v;
+            vertices[idx + 10] = x3;
+            vertices[idx + 11] = y3;
+            vertices[idx + 12] = color;
+            vertices[idx + 13] = u2;
+            vertices[idx + 14] = v;
+            vertices[idx + 15] = x1 + (x3 - x2);
+            vertices[idx + 16] = y3 - (y2 - y1);
+            vertices[idx + 17] = color;
+            vertices[idx + 18] = u2;
+            vertices[idx + 19] = v2;
+            count++;
+        }
+        if (count > 0) {
+            // blended normally, as ParticleEmitter drew them, whatever the effect file says
+            drawer.draw(texture, vertices, count * VERTEX_SIZE, false);
+        }
+    }
+
+    private void removeAt(int i) {
+        owners[i].activeCount--;
+        int last = --size;
+        owners[i] = owners[last];
+        lives[i] = lives[last];
+        currentLives[i] = currentLives[last];
+        xs[i] = xs[last];
+        ys[i] = ys[last];
+        scales[i] = scales[last];
+        scaleDiffs[i] = scaleDiffs[last];
+        rotations[i] = rotations[last];
+        rotationDiffs[i] = rotationDiffs[last];
+        velocities[i] = velocities[last];
+        velocityDiffs[i] = velocityDiffs[last];
+        angles[i] = angles[last];
+        angleDiffs[i] = angleDiffs[last];
+        angleCoss[i] = angleCoss[last];
+        angleSins[i] = angleSins[last];
+        transparencies[i] = transparencies[last];
+        transparencyDiffs[i] = transparencyDiffs[last];
+        winds[i] = winds[last];
+        windDiffs[i] = windDiffs[last];
+        gravities[i] = gravities[last];
+        gravityDiffs[i] = gravityDiffs[last];
+        sizes[i] = sizes[last];
+        spriteRotations[i] = spriteRotations[last];
+        colors[i] = colors[last];
+        owners[last] = null;
+    }
+
+    private void grow() {
+        int capacity = owners.length * 2;
+        owners = Arrays.copyOf(owners, capacity);
+        lives = Arrays.copyOf(lives, capacity);
+        currentLives = Arrays.copyOf(currentLives, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        scales = Arrays.copyOf(scales, capacity);
+        scaleDiffs = Arrays.copyOf(scaleDiffs, capacity);
+        rotations = Arrays.copyOf(rotations, capacity);
+        rotationDiffs = Arrays.copyOf(rotationDiffs, capacity);
+        velocities = Arrays.copyOf(velocities, capacity);
+        velocityDiffs = Arrays.copyOf(velocityDiffs, capacity);
+        angles = Arrays.copyOf(angles, capacity);
+        angleDiffs = Arrays.copyOf(angleDiffs, capacity);
+        angleCoss = Arrays.copyOf(angleCoss, capacity);
+        angleSins = Arrays.copyOf(angleSins, capacity);
+        transparencies = Arrays.copyOf(transparencies, capacity);
+        transparencyDiffs = Arrays.copyOf(transparencyDiffs, capacity);
+        winds = Arrays.copyOf(winds, capacity);
+        windDiffs = Arrays.copyOf(windDiffs, capacity);
+        gravities = Arrays.copyOf(gravities, capacity);
+        gravityDiffs = Arrays.copyOf(gravityDiffs, capacity);
+        sizes = Arrays.copyOf(sizes, capacity);
+        spriteRotations = Arrays.copyOf(spriteRotations, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        vertices = Arrays.copyOf(vertices, capacity * VERTEX_SIZE);
+    }
+}
@@ -19,7 +19,7 @@
 import com.badlogic.gdx.utils.JsonValue;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.json.Json;
-import org.destinationsol.game.GameColors;
+import org.destinationsol.game.ConfigRegistry;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.drawables.DrawableLevel;
 
@@ -38,19 +38,19 @@ public class SpecialEffects {
     private final EffectConfig myAsteroidDust;
     private final EffectConfig myForceBeacon;
 
-    public SpecialEffects(EffectTypes effectTypes, GameColors cols) {
+    public SpecialEffects(ConfigRegistry configRegistry) {
         Json json = Assets.getJson("core:specialEffectsConfig");
         JsonValue rootNode = json.getJsonValue();
 
-        mySmoke = EffectConfig.load(rootNode.get("smoke"), effectTypes, cols);
-        myFire = EffectConfig.load(rootNode.get("fire"), effectTypes, cols);
-        myElectricity = EffectConfig.load(rootNode.get("electricity"), effectTypes, cols);
-        myShipExplSmoke = EffectConfig.load(rootNode.get("shipExplosionSmoke"), effectTypes, cols);
-        myShipExplFire = EffectConfig.load(rootNode.get("shipExplosionFire"), effectTypes, cols);
-        myAsteroidDust = EffectConfig.load(rootNode.get("asteroidDust"), effectTypes, cols);
-        myForceBeacon = EffectConfig.load(rootNode.get("forceBeacon"), effectTypes, cols);
-        starPortFlow = EffectConfig.load(rootNode.get("starPortFlow"), effectTypes, cols);
-        transcendentWork = EffectConfig.load(rootNode.get("transcendentWork"), effectTypes, cols);
+        mySmoke = EffectConfig.load(rootNode.get("smoke"), configRegistry);
+        myFire = EffectConfig.load(rootNode.get("fire"), configRegistry);
+        myElectricity = EffectConfig.load(rootNode.get("electricity"), configRegistry);
+        myShipExplSmoke = EffectConfig.load(rootNode.get("shipExplosionSmoke"), configRegistry);
+        myShipExplFire = EffectConfig.load(rootNode.get("shipExplosionFire"), configRegistry);
+        myAsteroidDust = EffectConfig.load(rootNode.get("asteroidDust"), configRegistry);
+        myForceBeacon = EffectConfig.load(rootNode.get("forceBeacon"), configRegistry);
+        starPortFlow = EffectConfig.load(rootNode.get("starPortFlow"), configRegistry);
+        transcendentWork = EffectConfig.load(rootNode.get("transcendentWork"), configRegistry);
 
         json.dispose();
     }
@@ -93,4 +93,12 @@ public float getSz() {
     public Tile getTile() {
         return myTile;
     }
+
+    public float getToPlanetAngle() {
+        return myToPlanetAngle;
+    }
+
+    public float getDist() {
+        return myDist;
+    }
 }
@@ -15,7 +15,7 @@
  */
 package org.destinationsol.game.planet;
 
-import org.destinationsol.common.SolRandom;
+import org.destinationsol.common.RandomStream;
 
 public class GroundBuilder {
     private static final int PURE_GROUND_ROWS = 0;
@@ -25,13 +25,15 @@ public class GroundBuilder {
     private final int rows;
     private final boolean[][] dungeon;
     private final Tile[][] map;
+    private final RandomStream random;
 
-    GroundBuilder(PlanetConfig planetConfig, int cols, int rows) {
+    GroundBuilder(PlanetConfig planetConfig, int cols, int rows, RandomStream random) {
         config = planetConfig;
         columns = cols;
         this.rows = rows;
         dungeon = new boolean[cols][rows];
         map = new Tile[cols][rows];
+        this.random = random;
     }
 
     public Tile[][] build() {
@@ -40,7 +42,7 @@ public Tile[][] build() {
         float desiredMax = rows - PURE_GROUND_ROWS;
 
         for (int x = 0; x < columns; x++) {
-            ds0[x] = SolRandom.randomFloat(desiredMin, desiredMax);
+            ds0[x] = random.randomFloat(desiredMin, desiredMax);
         }
         float[] ds = new float[columns];
         if (config.smoothLandscape) {
@@ -69,7 +71,7 @@ public Tile[][] build() {
                 if (from == SurfaceDirection.DOWN && to == SurfaceDirection.DOWN) {
                     continue;
                 }
-                map[col][row] = config.planetTiles.getGround(from, to);
+                map[col][row] = config.planetTiles.getGround(from, to, random);
             }
         }
         return map;
@@ -125,7 +127,7 @@ private Tile getDungeonTile(int col, int row) {
     }
 
     private void buildNode(int col) {
-        int row = rows - SolRandom.randomInt(0, PURE_GROUND_ROWS / 2);
+        int row = rows - random.randomInt(0, PURE_GROUND_ROWS / 2);
         buildTunnel(col, row, true);
         buildTunnel(col, row, false);
     }
@@ -136,7 +138,7 @@ private void buildTunnel(int col, int row, boolean toLeft) {
         while (true) {
             //      if (!isCorner)
             col = toLeft ? left(col) : right(col);
-            currSpace += SolRandom.randomFloat(.5f, SolRandom.test(.3f) ? 4 : 1);
+            currSpace += random.randomFloat(.5f, random.test(.3f) ? 4 : 1);
             if (addToDungeon(col, row)) {
                 return;
             }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.common.SolColor;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.game.GameDrawer;
+import org.destinationsol.game.drawables.SpriteVertexCache;
+
+/**
+ * The ground tile sprites of a planet, in planet coordinates. The ground turns with the planet as a whole, so the
+ * vertices are computed once from the tile map and drawn under the planet transform. They are split into angular
+ * sectors, only the ones near the camera are drawn.
+ * <p>
+ * The {@link TileObject}s keep the bodies, the damage and the sounds of the tiles, but don't draw them.
+ */
+public class GroundMesh {
+    private static final int COLUMNS_PER_SECTOR = 4;
+
+    private final SpriteVertexCache[] sectors;
+    private final float[] sectorXs;
+    private final float[] sectorYs;
+    private final float[] sectorRadii;
+    private final float outerRadius;
+    private final Matrix4 transform;
+
+    GroundMesh(PlanetPlan plan) {
+        int sectorCount = (plan.columns + COLUMNS_PER_SECTOR - 1) / COLUMNS_PER_SECTOR;
+        sectors = new SpriteVertexCache[sectorCount];
+        sectorXs = new float[sectorCount];
+        sectorYs = new float[sectorCount];
+        sectorRadii = new float[sectorCount];
+        transform = new Matrix4();
+
+        float maxRadius = plan.radii[0] + plan.tileSizes[0];
+        float minRadius = plan.minRadius;
+        outerRadius = maxRadius;
+        for (int sector = 0; sector < sectorCount; sector++) {
+            SpriteVertexCache cache = new SpriteVertexCache();
+            int firstCol = sector * COLUMNS_PER_SECTOR;
+            int endCol = Math.min(plan.columns, firstCol + COLUMNS_PER_SECTOR);
+            for (int col = firstCol; col < endCol; col++) {
+                float tileAngle = plan.getTileAngle(col);
+                for (int row = 0; row < plan.rows; row++) {
+                    Tile tile = plan.tileMap[col][row];
+                    if (tile != null) {
+                        float distance = plan.radii[row];
+                        cache.addCentered(tile.tex, plan.tileSizes[row] * 2, SolMath.cos(tileAngle) * distance,
+                                SolMath.sin(tileAngle) * distance, tileAngle + 90, SolColor.WHITE);
+                    }
+                }
+            }
+            sectors[sector] = cache;
+
+            // a circle around the sector, with a tile of margin on each side for the overlapping sprites
+            float firstAngle = plan.getTileAngle(firstCol) - 360f / plan.columns;
+            float endAngle = plan.getTileAngle(endCol);
+            float midAngle = (firstAngle + endAngle) / 2;
+            float midRadius = (minRadius + maxRadius) / 2;
+            sectorXs[sector] = SolMath.cos(midAngle) * midRadius;
+            sectorYs[sector] = SolMath.sin(midAngle) * midRadius;
+            float halfArc = maxRadius * SolMath.sin((endAngle - firstAngle) / 2);
+            float halfDepth = (maxRadius - minRadius) / 2;
+            sectorRadii[sector] = SolMath.sqrt(halfArc * halfArc + halfDepth * halfDepth) + plan.tileSizes[0];
+        }
+    }
+
+    /**
+     * Draws the sectors that are within the view distance of the camera.
+     */
+    public void draw(GameDrawer drawer, Planet planet, Vector2 camPos, float viewDistance) {
+        Vector2 planetPos = planet.getPosition();
+        if (outerRadius < camPos.dst(planetPos) - viewDistance) {
+            return;
+        }
+        float planetAngle = planet.getAngle();
+        float cos = SolMath.cos(planetAngle);
+        float sin = SolMath.sin(planetAngle);
+        boolean transformSet = false;
+        for (int i = 0; i < sectors.length; i++) {
+            float x = planetPos.x + cos * sectorXs[i] - sin * sectorYs[i];
+            float y = planetPos.y + sin * sectorXs[i] + cos * sectorYs[i];
+            if (sectorRadii[i] < camPos.dst(x, y) - viewDistance || sectors[i].isEmpty()) {
+                continue;
+            }
+            if (!transformSet) {
+                transform.idt().translate(planetPos.x, planetPos.y, 0).rotate(0, 0, 1, planetAngle);
+                drawer.setTransform(transform);
+                transformSet = true;
+            }
+            drawer.draw(sectors[i]);
+        }
+        if (transformSet) {
+            drawer.resetTransform();
+        }
+    }
+}
@@ -20,13 +20,21 @@
 import org.destinationsol.common.Bound;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
+import org.destinationsol.game.DebugOptions;
+import org.destinationsol.game.GenerationExecutor;
 import org.destinationsol.game.HardnessCalc;
 import org.destinationsol.game.SolGame;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Future;
 
 public class Planet {
+    // the objects are added to the game from this distance above the ground, waiting for the plan if needed, so that
+    // they come at the same tick every time
+    private static final float COMMIT_DIST = Const.MAX_SKY_HEIGHT_FROM_GROUND;
+    // and planned in the background from this one, see PlanetObjectsBuilder#plan
+    private static final float PLAN_DIST = COMMIT_DIST + Const.CAM_VIEW_DIST_JOURNEY * 4;
     private final SolSystem system;
     private final Vector2 position;
     private final float distance;
@@ -40,6 +48,10 @@ public class Planet {
     private final float groundDamagePerSecond;
     private final float atmosphereDamagePerSecond;
     private boolean areObjectsCreated;
+    private PlanetObjectsBuilder objectsBuilder;
+    private Future<PlanetPlan> planFuture;
+    private PlanetPlan plan;
+    private GroundMesh groundMesh;
 
     private float angleInSystem;
     private float angle;
@@ -76,19 +88,45 @@ public void update(SolGame game) {
 
         setSecondaryParams();
         Vector2 camPos = game.getCam().getPosition();
-        if (!areObjectsCreated && camPos.dst(position) < getGroundHeight() + Const.MAX_SKY_HEIGHT_FROM_GROUND) {
-            minGroundHeight = new PlanetObjectsBuilder().createPlanetObjs(game, this);
+        if (!areObjectsCreated) {
+            updateObjectCreation(game, camPos.dst(position) - getGroundHeight());
+        }
+    }
+
+    private void updateObjectCreation(SolGame game, float dst) {
+        if (DebugOptions.NO_OBJS) {
+            if (dst < COMMIT_DIST) {
+                minGroundHeight = 0;
+                fillLangingPlaces(game);
+                areObjectsCreated = true;
+            }
+            return;
+        }
+        if (planFuture == null && plan == null && dst < PLAN_DIST) {
+            objectsBuilder = new PlanetObjectsBuilder();
+            planFuture = game.getGenerationExecutor().submit(() -> objectsBuilder.plan(this));
+        }
+        if (plan == null && planFuture != null && dst < COMMIT_DIST) {
+            plan = GenerationExecutor.join(planFuture);
+            planFuture = null;
+            minGroundHeight = plan.minRadius;
+            groundMesh = plan.groundMesh;
+        }
+        if (plan != null && objectsBuilder.commit(game, this, plan)) {
             fillLangingPlaces(game);
+            plan = null;
+            objectsBuilder = null;
             areObjectsCreated = true;
         }
     }
 
     private void setSecondaryParams() {
+        // the orbit is thousands of units wide, so the table error would move the planet noticeably
         SolMath.fromAl(position, angleInSystem, distance, true);
         position.add(system.getPosition());
         float speedLen = SolMath.angleToArc(rotationSpeedInSystem, distance);
         float speedAngle = angleInSystem + 90;
-        SolMath.fromAl(speed, speedAngle, speedLen);
+        SolMath.fromAl(speed, speedAngle, speedLen, false);
     }
 
     private void fillLangingPlaces(SolGame game) {
@@ -169,6 +207,13 @@ public List<Vector2> getLandingPlaces() {
         return landingPlaces;
     }
 
+    /**
+     * @return the ground sprites, null until the planet objects are being created
+     */
+    public GroundMesh getGroundMesh() {
+        return groundMesh;
+    }
+
     public float getMinGroundHeight() {
         return minGroundHeight;
     }
@@ -18,7 +18,7 @@
 import com.badlogic.gdx.utils.JsonValue;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.json.Json;
-import org.destinationsol.common.SolRandom;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.files.HullConfigManager;
 import org.destinationsol.game.GameColors;
 import org.destinationsol.game.item.ItemManager;
@@ -66,9 +66,9 @@ public PlanetConfig getConfig(String name) {
         return allConfigs.get(name);
     }
 
-    public PlanetConfig getRandom(boolean easy, boolean hard) {
+    public PlanetConfig getRandom(boolean easy, boolean hard, RandomStream random) {
         List<PlanetConfig> cfg = easy ? this.easy : hard ? this.hard : medium;
-        return SolRandom.seededRandomElement(cfg);
+        return random.randomElement(cfg);
     }
 
     public Map<String, PlanetConfig> getAllConfigs() {
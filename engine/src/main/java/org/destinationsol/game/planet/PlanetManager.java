@@ -22,8 +22,8 @@
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.files.HullConfigManager;
+import org.destinationsol.game.ConfigRegistry;
 import org.destinationsol.game.DebugOptions;
-import org.destinationsol.game.GameColors;
 import org.destinationsol.game.GameDrawer;
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
@@ -53,9 +53,9 @@ public class PlanetManager {
     private final PlanetCoreSingleton planetCoreSingleton;
     private Planet nearestPlanet;
 
-    public PlanetManager(HullConfigManager hullConfigs, GameColors cols,
+    public PlanetManager(HullConfigManager hullConfigs, ConfigRegistry configRegistry,
                             ItemManager itemManager) {
-        planetConfigs = new PlanetConfigs(hullConfigs, cols, itemManager);
+        planetConfigs = new PlanetConfigs(hullConfigs, configRegistry.getGameColors(), itemManager);
         sysConfigs = new SysConfigs(hullConfigs, itemManager);
         mazeConfigs = new MazeConfigs(hullConfigs, itemManager);
 
@@ -261,4 +261,19 @@ public void drawSunHack(SolGame game, GameDrawer drawer) {
     public void drawPlanetCoreHack(SolGame game, GameDrawer drawer) {
         planetCoreSingleton.draw(game, drawer);
     }
+
+    /**
+     * Draws the ground of the planets near the camera, see {@link GroundMesh}.
+     */
+    public void drawGround(GameDrawer drawer, SolCam cam) {
+        Vector2 camPos = cam.getPosition();
+        float viewDistance = cam.getViewDistance();
+        for (int i = 0, size = planets.size(); i < size; i++) {
+            Planet planet = planets.get(i);
+            GroundMesh groundMesh = planet.getGroundMesh();
+            if (groundMesh != null) {
+                groundMesh.draw(drawer, planet, camPos, viewDistance);
+            }
+        }
+    }
 }
@@ -17,14 +17,13 @@
 
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.physics.box2d.RayCastCallback;
-import com.badlogic.gdx.physics.box2d.World;
 import org.destinationsol.Const;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
-import org.destinationsol.game.DebugOptions;
 import org.destinationsol.game.Faction;
+import org.destinationsol.game.ObjectManager;
 import org.destinationsol.game.ShipConfig;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.drawables.Drawable;
@@ -43,6 +42,11 @@
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Works out the content of a planet from its seed, see {@link #plan(Planet)}, and adds it to the game a few objects per
+ * tick, see {@link #commit(SolGame, Planet, PlanetPlan)}. The plan only reads the planet config, so it runs on the
+ * {@link org.destinationsol.game.GenerationExecutor}. The bodies, the sky and the ships are created on the main thread.
+ */
 public class PlanetObjectsBuilder {
     private static final float TOP_TILE_SZ = 2f;
 
@@ -57,46 +61,115 @@ public class PlanetObjectsBuilder {
     private static final float DECO_PACK_SZ = 5f;
     private static final float DECO_PACK_ANGULAR_WIDTH = 360 * DECO_PACK_SZ / (2 * SolMath.PI * Const.MAX_GROUND_HEIGHT);
 
-    public float createPlanetObjs(SolGame game, Planet planet) {
-        if (DebugOptions.NO_OBJS) {
-            return 0;
-        }
-        float minRadius = createGround(game, planet);
-        createClouds(game, planet);
-        createDecorations(game, planet);
-        if (planet.getConfig().skyConfig != null) {
-            Sky sky = new Sky(game, planet);
-            game.getObjectManager().addObjDelayed(sky);
-        }
-        createShips(game, planet);
-        return minRadius;
+    private static final int TILES_PER_TICK = 64;
+    private static final int SPRITES_PER_TICK = 128;
+    private static final int GROUND_SHIPS_PER_TICK = 1;
+    private static final int ORBIT_ENEMIES_PER_TICK = 2;
+
+    private final TileObjBuilder tileObjBuilder = new TileObjBuilder();
+
+    /**
+     * Computes the ground tile map, the clouds, the decorations and the orbit enemies of the planet. The result only
+     * depends on the planet config and its place in the system, the planet streams are seeded from it.
+     */
+    PlanetPlan plan(Planet planet) {
+        long planetKey = getPlanetKey(planet);
+        PlanetPlan plan = planGround(planet, SolRandom.stream(SolRandom.Domain.GROUND, planetKey));
+        RandomStream random = SolRandom.stream(SolRandom.Domain.PLANET, planetKey);
+        planClouds(planet, plan, random);
+        planDecorations(planet, plan, random);
+
+        float groundHeight = planet.getGroundHeight();
+        PlanetConfig config = planet.getConfig();
+        planOrbitEnemies(plan, random, groundHeight, 0, .1f, config.lowOrbitEnemies, Const.AUTO_SHOOT_SPACE);
+        planOrbitEnemies(plan, random, groundHeight, .1f, .6f, config.highOrbitEnemies, Const.AI_DET_DIST);
+        return plan;
     }
 
-    private void createShips(SolGame game, Planet planet) {
-        ConsumedAngles takenAngles = new ConsumedAngles();
+    private long getPlanetKey(Planet planet) {
+        SolSystem system = planet.getSystem();
+        return SolRandom.positionKey(system.getPosition()) + system.getPlanets().indexOf(planet);
+    }
 
-        ShipConfig stationConfig = planet.getConfig().stationConfig;
-        if (stationConfig != null) {
-            FarShip station = buildGroundShip(game, planet, stationConfig, planet.getConfig().tradeConfig, Faction.LAANI, takenAngles, "Station");
-            game.getObjectManager().addFarObjNow(station);
+    /**
+     * Adds the next part of the plan to the game: the ground tiles first, as the ground ships are placed on them, then
+     * the clouds and decorations, the sky and the ships.
+     *
+     * @return true once the whole plan is in the game
+     */
+    boolean commit(SolGame game, Planet planet, PlanetPlan plan) {
+        int tileCount = plan.columns * plan.rows;
+        if (plan.committedTiles < tileCount) {
+            commitGround(game, planet, plan, Math.min(tileCount, plan.committedTiles + TILES_PER_TICK));
+            return false;
         }
+        if (plan.committedSprites < plan.sprites.size()) {
+            int end = Math.min(plan.sprites.size(), plan.committedSprites + SPRITES_PER_TICK);
+            for (; plan.committedSprites < end; plan.committedSprites++) {
+                game.getObjectManager().addFarObjNow(plan.sprites.get(plan.committedSprites));
+            }
+            return false;
+        }
+        if (!plan.skyCommitted) {
+            if (planet.getConfig().skyConfig != null) {
+                game.getObjectManager().addObjDelayed(new Sky(game, planet));
+            }
+            plan.skyCommitted = true;
+        }
+        if (!commitGroundShips(game, planet, plan)) {
+            return false;
+        }
+        int end = Math.min(plan.orbitEnemies.size(), plan.committedOrbitEnemies + ORBIT_ENEMIES_PER_TICK);
+        for (; plan.committedOrbitEnemies < end; plan.committedOrbitEnemies++) {
+            FarShip enemy = buildOrbitEnemy(game, planet, plan.orbitEnemies.get(plan.committedOrbitEnemies));
+            game.getObjectManager().addFarObjNow(enemy);
+        }
+        return plan.committedOrbitEnemies == plan.orbitEnemies.size();
+    }
 
+    /**
+     * Builds the ground ships, the station first. They are placed with raycasts against the tile bodies, so this can
+     * only run once the ground is in.
+     *
+     * @return true once all of them are built
+     */
+    private boolean commitGroundShips(SolGame game, Planet planet, PlanetPlan plan) {
+        PlanetConfig config = planet.getConfig();
+        ShipConfig stationConfig = config.stationConfig;
+        int stationCount = stationConfig == null ? 0 : 1;
+        int groundShipCount = stationCount;
         float groundHeight = planet.getGroundHeight();
+        for (ShipConfig groundEnemy : config.groundEnemies) {
+            groundShipCount += (int) (groundEnemy.density * groundHeight);
+        }
 
-        PlanetConfig config = planet.getConfig();
+        int end = Math.min(groundShipCount, plan.committedGroundShips + GROUND_SHIPS_PER_TICK);
+        for (; plan.committedGroundShips < end; plan.committedGroundShips++) {
+            FarShip ship;
+            if (plan.committedGroundShips < stationCount) {
+                ship = buildGroundShip(game, planet, stationConfig, config.tradeConfig, Faction.LAANI, plan.takenAngles, "Station");
+            } else {
+                ship = buildGroundShip(game, planet, getGroundEnemy(config, groundHeight, plan.committedGroundShips - stationCount),
+                        null, Faction.EHAR, plan.takenAngles, null);
+            }
+            game.getObjectManager().addFarObjNow(ship);
+        }
+        return plan.committedGroundShips == groundShipCount;
+    }
+
+    private ShipConfig getGroundEnemy(PlanetConfig config, float groundHeight, int index) {
         for (ShipConfig groundEnemy : config.groundEnemies) {
             int count = (int) (groundEnemy.density * groundHeight);
-            for (int i = 0; i < count; i++) {
-                FarShip enemy = buildGroundShip(game, planet, groundEnemy, null, Faction.EHAR, takenAngles, null);
-                game.getObjectManager().addFarObjNow(enemy);
+            if (index < count) {
+                return groundEnemy;
             }
+            index -= count;
         }
-
-        buildOrbitEnemies(game, planet, groundHeight, 0, .1f, config.lowOrbitEnemies, Const.AUTO_SHOOT_SPACE);
-        buildOrbitEnemies(game, planet, groundHeight, .1f, .6f, config.highOrbitEnemies, Const.AI_DET_DIST);
+        throw new AssertionError("No ground enemy " + index);
     }
 
-    private void buildOrbitEnemies(SolGame game, Planet planet, float groundHeight, float offsetPercentage, float atmPercentage, List<ShipConfig> configs, float detDist) {
+    private void planOrbitEnemies(PlanetPlan plan, RandomStream random, float groundHeight, float offsetPercentage, float atmPercentage,
+                                  List<ShipConfig> configs, float detDist) {
         if (configs.isEmpty()) {
             return;
         }
@@ -115,14 +188,16 @@ private void buildOrbitEnemies(SolGame game, Planet planet, float groundHeight,
         for (ShipConfig shipConfig : configs) {
             int count = counts.get(shipConfig);
             for (int i = 0; i < count; i++) {
-                FarShip enemy = buildOrbitEnemy(game, planet, heightPercentage, shipConfig, detDist);
-                game.getObjectManager().addFarObjNow(enemy);
+                float height = groundHeight + heightPercentage * Const.ATM_HEIGHT;
+                float relAngle = random.randomFloat(180);
+                boolean clockwise = random.test(.5f);
+                plan.orbitEnemies.add(new PlanetPlan.OrbitEnemy(shipConfig, height, relAngle, clockwise, detDist));
                 heightPercentage += stepPercentage;
             }
         }
     }
 
-    private float createGround(SolGame game, Planet planet) {
+    private PlanetPlan planGround(Planet planet, RandomStream groundRandom) {
         // helper values
         float maxRadius = planet.getGroundHeight() - TOP_TILE_SZ / 2;
         int columns = (int) (2 * SolMath.PI * maxRadius / TOP_TILE_SZ);
@@ -141,151 +216,146 @@ private float createGround(SolGame game, Planet planet) {
             tileSizes[row] = tileSize;
             currentRadius -= tileSize;
         }
-        float minRadius = radii[rows - 1] - tileSizes[rows - 1] / 2;
 
-        Tile[][] tileMap = new GroundBuilder(planet.getConfig(), columns, rows).build();
+        Tile[][] tileMap = new GroundBuilder(planet.getConfig(), columns, rows, groundRandom).build();
+        PlanetPlan plan = new PlanetPlan(columns, rows, radii, tileSizes, tileMap);
+        plan.groundMesh = new GroundMesh(plan);
+        return plan;
+    }
 
-        // create ground
-        for (int row = 0; row < rows; row++) {
-            float tileDistance = radii[row];
-            float tileSize = tileSizes[row];
-            for (int col = 0; col < columns; col++) {
-                Tile tile = tileMap[col][row];
-                if (tile == null) {
-                    continue;
-                }
-                float toPlanetRelAngle = 360f * col / columns;
-                if (tile.points.isEmpty()) {
-                    FarTileObject farTileObject = new FarTileObject(planet, toPlanetRelAngle, tileDistance, tileSize, tile);
-                    game.getObjectManager().addFarObjNow(farTileObject);
-                } else {
-                    TileObject tileObject = new TileObjBuilder().build(game, tileSize, toPlanetRelAngle, tileDistance, tile, planet);
-                    game.getObjectManager().addObjNow(game, tileObject);
-                }
+    /**
+     * Adds the tiles up to the given one, row by row from the top. The tiles without a collision shape stay far objects.
+     */
+    private void commitGround(SolGame game, Planet planet, PlanetPlan plan, int end) {
+        ObjectManager objectManager = game.getObjectManager();
+        for (; plan.committedTiles < end; plan.committedTiles++) {
+            int row = plan.committedTiles / plan.columns;
+            int col = plan.committedTiles % plan.columns;
+            Tile tile = plan.tileMap[col][row];
+            if (tile == null) {
+                continue;
+            }
+            float tileDistance = plan.radii[row];
+            float tileSize = plan.tileSizes[row];
+            float toPlanetRelAngle = plan.getTileAngle(col);
+            if (tile.points.isEmpty()) {
+                FarTileObject farTileObject = new FarTileObject(planet, toPlanetRelAngle, tileDistance, tileSize, tile);
+                objectManager.addFarObjNow(farTileObject);
+            } else {
+                TileObject tileObject = tileObjBuilder.build(game, tileSize, toPlanetRelAngle, tileDistance, tile, planet);
+                objectManager.addObjNow(game, tileObject);
             }
         }
-
-        return minRadius;
     }
 
-    private void createClouds(SolGame game, Planet planet) {
+    private void planClouds(Planet planet, PlanetPlan plan, RandomStream random) {
         List<TextureAtlas.AtlasRegion> cloudTextures = planet.getConfig().cloudTextures;
         if (cloudTextures.isEmpty()) {
             return;
         }
-        int cloudCount = SolRandom.randomInt(.7f, (int) (CLOUD_DENSITY * Const.ATM_HEIGHT * planet.getGroundHeight()));
+        int maxCloudCount = (int) (CLOUD_DENSITY * Const.ATM_HEIGHT * planet.getGroundHeight());
+        int cloudCount = random.randomInt((int) (maxCloudCount * .7f), maxCloudCount);
         for (int i = 0; i < cloudCount; i++) {
-            FarPlanetSprites cloud = createCloud(planet, cloudTextures);
-            game.getObjectManager().addFarObjNow(cloud);
+            plan.sprites.add(createCloud(planet, cloudTextures, random));
         }
     }
 
-    private FarPlanetSprites createCloud(Planet planet, List<TextureAtlas.AtlasRegion> cloudTextures) {
-        float distancePercentage = SolRandom.randomFloat(0, 1);
+    private FarPlanetSprites createCloud(Planet planet, List<TextureAtlas.AtlasRegion> cloudTextures, RandomStream random) {
+        float distancePercentage = random.randomFloat(0, 1);
         float distance = planet.getGroundHeight() - TOP_TILE_SZ + .9f * Const.ATM_HEIGHT * distancePercentage;
-        float angle = SolRandom.randomFloat(180);
+        float angle = random.randomFloat(180);
 
         List<Drawable> drawables = new ArrayList<>();
-        float sizePercentage = SolRandom.randomFloat(.2f, 1);
+        float sizePercentage = random.randomFloat(.2f, 1);
         float linearWidth = sizePercentage * (distancePercentage + .5f) * AVG_CLOUD_LINEAR_WIDTH;
         float maxAngleShift = SolMath.arcToAngle(linearWidth, distance);
         float maxDistanceShift = (1 - distancePercentage) * MAX_CLOUD_PIECE_DIST_SHIFT;
 
         int pieceCount = (int) (sizePercentage * MAX_CLOUD_PIECE_COUNT);
         for (int i = 0; i < pieceCount; i++) {
-            RectSprite cloudSprite = createCloudSprite(cloudTextures, maxAngleShift, maxDistanceShift, distance);
+            RectSprite cloudSprite = createCloudSprite(cloudTextures, maxAngleShift, maxDistanceShift, distance, random);
             drawables.add(cloudSprite);
         }
-        float rotationSpeed = SolRandom.randomFloat(.1f, 1) * SolMath.arcToAngle(MAX_CLOUD_LINEAR_SPD, distance);
+        float rotationSpeed = random.randomFloat(.1f, 1) * SolMath.arcToAngle(MAX_CLOUD_LINEAR_SPD, distance);
 
         return new FarPlanetSprites(planet, angle, distance, drawables, rotationSpeed);
     }
 
-    private RectSprite createCloudSprite(List<TextureAtlas.AtlasRegion> cloudTextures, float maxAngleShift, float maxDistanceShift, float baseDistance) {
-        TextureAtlas.AtlasRegion texture = new TextureAtlas.AtlasRegion(SolRandom.randomElement(cloudTextures));
-        if (SolRandom.test(.5f)) {
+    private RectSprite createCloudSprite(List<TextureAtlas.AtlasRegion> cloudTextures, float maxAngleShift, float maxDistanceShift,
+                                         float baseDistance, RandomStream random) {
+        TextureAtlas.AtlasRegion texture = new TextureAtlas.AtlasRegion(random.randomElement(cloudTextures));
+        if (random.test(.5f)) {
             texture.flip(!texture.isFlipX(), !texture.isFlipY());
         }
-        float relativeAngleShift = SolRandom.randomFloat(1);
+        float relativeAngleShift = random.randomFloat(1);
         float distancePercentage = 1 - SolMath.abs(relativeAngleShift);
         float size = .5f * (1 + distancePercentage) * MAX_CLOUD_PIECE_SZ;
 
-        float relativeAngle = SolRandom.randomFloat(30);
-        float rotationSpeed = SolRandom.randomFloat(MAX_CLOUT_PIECE_ROT_SPD);
+        float relativeAngle = random.randomFloat(30);
+        float rotationSpeed = random.randomFloat(MAX_CLOUT_PIECE_ROT_SPD);
         float angleShift = relativeAngleShift * maxAngleShift;
-        float distanceShift = maxDistanceShift == 0 ? 0 : distancePercentage * SolRandom.randomFloat(0, maxDistanceShift);
+        float distanceShift = maxDistanceShift == 0 ? 0 : distancePercentage * random.randomFloat(0, maxDistanceShift);
         float distance = baseDistance + distanceShift;
-        Vector2 basePosition = SolMath.getVec(0, -baseDistance);
         Vector2 relativePosition = new Vector2(0, -distance);
         SolMath.rotate(relativePosition, angleShift, true);
-        relativePosition.sub(basePosition);
-        SolMath.free(basePosition);
+        relativePosition.y += baseDistance;
 
         return new RectSprite(texture, size, 0, 0, relativePosition, DrawableLevel.CLOUDS, relativeAngle, rotationSpeed, SolColor.WHITE, false);
     }
 
-    private void createDecorations(SolGame game, Planet planet) {
+    private void planDecorations(Planet planet, PlanetPlan plan, RandomStream random) {
         float groundHeight = planet.getGroundHeight();
-        Vector2 planetPos = planet.getPosition();
-        float planetAngle = planet.getAngle();
         Map<Vector2, List<Drawable>> collector = new HashMap<>();
         PlanetConfig config = planet.getConfig();
         for (DecoConfig decoConfig : config.deco) {
-            addDeco(game, groundHeight, planetPos, collector, decoConfig);
+            addDeco(plan, groundHeight, collector, decoConfig, random);
         }
 
         for (Map.Entry<Vector2, List<Drawable>> entry : collector.entrySet()) {
             Vector2 position = entry.getKey();
             List<Drawable> drawables = entry.getValue();
-            float angle = SolMath.angle(planetPos, position, true) - planetAngle;
-            float distance = position.dst(planetPos);
-            FarPlanetSprites planetSprites = new FarPlanetSprites(planet, angle, distance, drawables, 0);
-            game.getObjectManager().addFarObjNow(planetSprites);
+            float angle = SolMath.angle(position, true);
+            float distance = position.len();
+            plan.sprites.add(new FarPlanetSprites(planet, angle, distance, drawables, 0));
         }
     }
 
-    private void addDeco(SolGame game, float groundHeight, Vector2 planetPos,
-                         Map<Vector2, List<Drawable>> collector, DecoConfig decoConfig) {
-        World world = game.getObjectManager().getWorld();
+    /**
+     * Places the decorations of one kind, relative to the planet. They stand on the ground as found by
+     * {@link PlanetPlan#getGroundDistance(float, float)}, the tile bodies don't exist yet.
+     */
+    private void addDeco(PlanetPlan plan, float groundHeight, Map<Vector2, List<Drawable>> collector, DecoConfig decoConfig,
+                         RandomStream random) {
         ConsumedAngles consumed = new ConsumedAngles();
-
-        final Vector2 rayCasted = new Vector2();
-        RayCastCallback rayCastCallback = (fixture, point, normal, fraction) -> {
-            if (!(fixture.getBody().getUserData() instanceof TileObject)) {
-                    return -1;
-                }
-                rayCasted.set(point);
-                return fraction;
-            };
+        Vector2 decorationPosition = new Vector2();
+        Vector2 basePosition = new Vector2();
 
         int decorationCount = (int) (2 * SolMath.PI * groundHeight * decoConfig.density);
         for (int i = 0; i < decorationCount; i++) {
-            float decorationSize = SolRandom.randomFloat(decoConfig.szMin, decoConfig.szMax);
+            float decorationSize = random.randomFloat(decoConfig.szMin, decoConfig.szMax);
             float angularHalfWidth = SolMath.angularWidthOfSphere(decorationSize / 2, groundHeight);
 
             float decorationAngle = 0;
             for (int j = 0; j < 5; j++) {
-                decorationAngle = SolRandom.randomFloat(180);
+                decorationAngle = random.randomFloat(180);
                 if (!consumed.isConsumed(decorationAngle, angularHalfWidth)) {
                     consumed.add(decorationAngle, angularHalfWidth);
                     break;
                 }
             }
 
-            SolMath.fromAl(rayCasted, decorationAngle, groundHeight, true);
-            rayCasted.add(planetPos);
-            world.rayCast(rayCastCallback, rayCasted, planetPos);
-            float decorationDistance = rayCasted.dst(planetPos);
+            float decorationDistance = plan.getGroundDistance(decorationAngle, groundHeight);
+            SolMath.fromAl(decorationPosition, decorationAngle, decorationDistance, true);
 
             float baseAngle = SolMath.windowCenter(decorationAngle, DECO_PACK_ANGULAR_WIDTH);
             float baseDistance = SolMath.windowCenter(decorationDistance, DECO_PACK_SZ);
-            Vector2 basePosition = SolMath.fromAl(baseAngle, baseDistance).add(planetPos);
-            Vector2 decoRelativePosition = new Vector2(rayCasted).sub(basePosition);
+            SolMath.fromAl(basePosition, baseAngle, baseDistance);
+            Vector2 decoRelativePosition = new Vector2(decorationPosition).sub(basePosition);
             SolMath.rotate(decoRelativePosition, -baseAngle - 90, true);
             float decorationRelativeAngle = decorationAngle - baseAngle;
 
-            TextureAtlas.AtlasRegion decorationTexture = new TextureAtlas.AtlasRegion(SolRandom.randomElement(decoConfig.texs));
-            if (decoConfig.allowFlip && SolRandom.test(.5f)) {
+            TextureAtlas.AtlasRegion decorationTexture = new TextureAtlas.AtlasRegion(random.randomElement(decoConfig.texs));
+            if (decoConfig.allowFlip && random.test(.5f)) {
                 decorationTexture.flip(!decorationTexture.isFlipX(), !decorationTexture.isFlipY());
             }
 
@@ -296,7 +366,6 @@ private void addDeco(SolGame game, float groundHeight, Vector2 planetPos,
                 collector.put(new Vector2(basePosition), drawables);
             }
             drawables.add(sprite);
-            SolMath.free(basePosition);
         }
     }
 
@@ -332,14 +401,15 @@ private FarShip buildGroundShip(SolGame game, Planet planet, ShipConfig shipConf
                 null, hasRepairer, money, tradeConfig, true);
     }
 
-    private FarShip buildOrbitEnemy(SolGame game, Planet planet, float heightPercentage, ShipConfig shipConfig, float detectionDistance) {
-        float height = planet.getGroundHeight() + heightPercentage * Const.ATM_HEIGHT;
+    private FarShip buildOrbitEnemy(SolGame game, Planet planet, PlanetPlan.OrbitEnemy orbitEnemy) {
+        ShipConfig shipConfig = orbitEnemy.config;
+        float height = orbitEnemy.height;
         Vector2 position = new Vector2();
-        SolMath.fromAl(position, SolRandom.randomFloat(180), height);
+        SolMath.fromAl(position, planet.getAngle() + orbitEnemy.relAngle, height);
         Vector2 planetPosition = planet.getPosition();
         position.add(planetPosition);
         float speedLen = SolMath.sqrt(planet.getGravitationConstant() / height);
-        boolean clockwise = SolRandom.test(.5f);
+        boolean clockwise = orbitEnemy.clockwise;
         if (!clockwise) {
             speedLen *= -1;
         }
@@ -349,7 +419,7 @@ private FarShip buildOrbitEnemy(SolGame game, Planet planet, float heightPercent
         SolMath.free(directionToPlanet);
 
         OrbiterDestProvider destProvider = new OrbiterDestProvider(planet, height, clockwise);
-        Pilot provider = new AiPilot(destProvider, false, Faction.EHAR, true, null, detectionDistance);
+        Pilot provider = new AiPilot(destProvider, false, Faction.EHAR, true, null, orbitEnemy.detectionDistance);
 
         int money = shipConfig.money;
 
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.planet;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.common.SolMath;
+import org.destinationsol.game.ShipConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The content of a planet as computed by {@link PlanetObjectsBuilder#plan(Planet)}: the ground tile map, the clouds and
+ * decorations and the orbit enemies. Everything is relative to the planet, so it doesn't matter that the planet moves
+ * on while the plan is built off the main thread. The plan is added to the game a few objects per tick, the counters
+ * keep track of how far that got.
+ */
+class PlanetPlan {
+    final int columns;
+    final int rows;
+    final float[] radii;
+    final float[] tileSizes;
+    // by column, then row, null where there is no ground
+    final Tile[][] tileMap;
+    final float minRadius;
+    GroundMesh groundMesh;
+    final List<FarPlanetSprites> sprites = new ArrayList<>();
+    final List<OrbitEnemy> orbitEnemies = new ArrayList<>();
+    // the angles taken by the ground ships placed so far
+    final ConsumedAngles takenAngles = new ConsumedAngles();
+
+    int committedTiles;
+    int committedSprites;
+    boolean skyCommitted;
+    int committedGroundShips;
+    int committedOrbitEnemies;
+
+    PlanetPlan(int columns, int rows, float[] radii, float[] tileSizes, Tile[][] tileMap) {
+        this.columns = columns;
+        this.rows = rows;
+        this.radii = radii;
+        this.tileSizes = tileSizes;
+        this.tileMap = tileMap;
+        minRadius = radii[rows - 1] - tileSizes[rows - 1] / 2;
+    }
+
+    float getTileAngle(int col) {
+        return 360f * col / columns;
+    }
+
+    /**
+     * Finds where a ray from the top of the ground towards the planet center first hits the tile collision shapes, the
+     * way a raycast against the tile bodies would.
+     *
+     * @param relAngle the angle of the ray relative to the planet
+     * @param groundHeight the distance the ray starts at
+     * @return the distance of the hit from the planet center, groundHeight if nothing is hit
+     */
+    float getGroundDistance(float relAngle, float groundHeight) {
+        float result = 0;
+        float nearestCol = SolMath.norm(relAngle) * columns / 360f;
+        int centerCol = Math.round(nearestCol);
+        float cos = SolMath.cos(-relAngle);
+        float sin = SolMath.sin(-relAngle);
+        // the sprites, and so the shapes, are twice the tile size, so they reach into the neighbour columns
+        for (int colShift = -1; colShift <= 1; colShift++) {
+            int col = ((centerCol + colShift) % columns + columns) % columns;
+            float tileAngle = getTileAngle(col);
+            float radialX = SolMath.cos(tileAngle);
+            float radialY = SolMath.sin(tileAngle);
+            for (int row = 0; row < rows; row++) {
+                Tile tile = tileMap[col][row];
+                if (tile == null || tile.points.isEmpty()) {
+                    continue;
+                }
+                float dist = radii[row];
+                float scale = tileSizes[row] * 2;
+                List<Vector2> points = tile.points;
+                Vector2 prev = points.get(points.size() - 1);
+                // tile x goes along the surface, tile y towards the planet center, then the ray is rotated onto the x axis
+                float prevX = dist * radialX + scale * (-prev.x * radialY - prev.y * radialX);
+                float prevY = dist * radialY + scale * (prev.x * radialX - prev.y * radialY);
+                float prevRayX = prevX * cos - prevY * sin;
+                float prevRayY = prevX * sin + prevY * cos;
+                for (int i = 0, size = points.size(); i < size; i++) {
+                    Vector2 point = points.get(i);
+                    float x = dist * radialX + scale * (-point.x * radialY - point.y * radialX);
+                    float y = dist * radialY + scale * (point.x * radialX - point.y * radialY);
+                    float rayX = x * cos - y * sin;
+                    float rayY = x * sin + y * cos;
+                    if ((prevRayY <= 0) != (rayY <= 0)) {
+                        float hit = prevRayX + (rayX - prevRayX) * prevRayY / (prevRayY - rayY);
+                        if (result < hit && hit <= groundHeight) {
+                            result = hit;
+                        }
+                    }
+                    prevRayX = rayX;
+                    prevRayY = rayY;
+                }
+            }
+        }
+        return result == 0 ? groundHeight : result;
+    }
+
+    static class OrbitEnemy {
+        final ShipConfig config;
+        final float height;
+        final float relAngle;
+        final boolean clockwise;
+        final float detectionDistance;
+
+        OrbitEnemy(ShipConfig config, float height, float relAngle, boolean clockwise, float detectionDistance) {
+            this.config = config;
+            this.height = height;
+            this.relAngle = relAngle;
+            this.clockwise = clockwise;
+            this.detectionDistance = detectionDistance;
+        }
+    }
+}
@@ -18,7 +18,7 @@
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.assets.Assets;
-import org.destinationsol.common.SolRandom;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.game.CollisionMeshLoader;
 import org.destinationsol.game.DebugOptions;
 
@@ -120,9 +120,9 @@ private List<Vector2> getDefaultRawPoints(SurfaceDirection from, SurfaceDirectio
         return result;
     }
 
-    public Tile getGround(SurfaceDirection from, SurfaceDirection to) {
+    public Tile getGround(SurfaceDirection from, SurfaceDirection to, RandomStream random) {
         List<Tile> list = groundTiles.get(from).get(to);
-        return SolRandom.randomElement(list);
+        return random.randomElement(list);
     }
 
     public Tile getDungeonEntrance(boolean down, boolean left, boolean right) {
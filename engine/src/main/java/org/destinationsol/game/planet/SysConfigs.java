@@ -18,7 +18,7 @@
 import com.badlogic.gdx.utils.JsonValue;
 import org.destinationsol.assets.Assets;
 import org.destinationsol.assets.json.Json;
-import org.destinationsol.common.SolRandom;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.files.HullConfigManager;
 import org.destinationsol.game.ShipConfig;
 import org.destinationsol.game.chunk.SpaceEnvConfig;
@@ -96,9 +96,9 @@ private void load(String configName, HullConfigManager hullConfigs, boolean belt
         }
     }
 
-    public SysConfig getRandomBelt(boolean hard) {
+    public SysConfig getRandomBelt(boolean hard, RandomStream random) {
         Map<String, SysConfig> config = hard ? hardBeltConfigs : beltConfigs;
-        return SolRandom.seededRandomElement(new ArrayList<>(config.values()));
+        return random.randomElement(new ArrayList<>(config.values()));
     }
 
     public SysConfig getConfig(String name) {
@@ -109,9 +109,9 @@ public SysConfig getConfig(String name) {
         return hardConfigs.get(name);
     }
 
-    public SysConfig getRandomCfg(boolean hard) {
+    public SysConfig getRandomCfg(boolean hard, RandomStream random) {
         Map<String, SysConfig> config = hard ? hardConfigs : configs;
-        return SolRandom.seededRandomElement(new ArrayList<>(config.values()));
+        return random.randomElement(new ArrayList<>(config.values()));
     }
 
     public void addAllConfigs(ArrayList<ShipConfig> shipConfigs) {
@@ -17,6 +17,7 @@
 
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.Const;
+import org.destinationsol.common.RandomStream;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.DebugOptions;
@@ -42,24 +43,27 @@ public List<SolSystem> build(List<SolSystem> systems, List<Planet> planets, Arra
                                  PlanetConfigs planetConfigs,
                                  MazeConfigs mazeConfigs, ArrayList<Maze> mazes, SysConfigs sysConfigs, SolNames names) {
         
+        // the layout gets one stream, the contents of every system another one
+        RandomStream random = SolRandom.stream(SolRandom.Domain.SYSTEMS, 0);
         int sysLeft = SYS_COUNT;
         int mazesLeft = MAZE_COUNT;
         while (sysLeft > 0 || mazesLeft > 0) {
             boolean createSys = sysLeft > 0;
             if (createSys && mazesLeft > 0 && !systems.isEmpty()) {
-                createSys = SolRandom.seededTest(.5f);
+                createSys = random.test(.5f);
             }
             if (createSys) {
-                List<Float> ghs = generatePlanetGhs();
+                List<Float> ghs = generatePlanetGhs(random);
                 float sysRadius = calcSysRadius(ghs);
-                Vector2 position = getBodyPos(systems, mazes, sysRadius);
-                SolSystem s = createSystem(ghs, position, planets, belts, planetConfigs, sysRadius, sysConfigs, names, systems.isEmpty());
+                Vector2 position = getBodyPos(random, systems, mazes, sysRadius);
+                RandomStream systemRandom = SolRandom.stream(SolRandom.Domain.SYSTEMS, systems.size() + 1);
+                SolSystem s = createSystem(systemRandom, ghs, position, planets, belts, planetConfigs, sysRadius, sysConfigs, names, systems.isEmpty());
                 systems.add(s);
                 sysLeft--;
             } else {
-                MazeConfig mc = SolRandom.seededRandomElement(mazeConfigs.configs);
-                float mazeRadius = SolRandom.seededRandomFloat(.7f, 1) * MAX_MAZE_RADIUS;
-                Vector2 position = getBodyPos(systems, mazes, mazeRadius + MAZE_GAP);
+                MazeConfig mc = random.randomElement(mazeConfigs.configs);
+                float mazeRadius = random.randomFloat(.7f, 1) * MAX_MAZE_RADIUS;
+                Vector2 position = getBodyPos(random, systems, mazes, mazeRadius + MAZE_GAP);
                 Maze m = new Maze(mc, position, mazeRadius);
                 mazes.add(m);
                 mazesLeft--;
@@ -68,14 +72,14 @@ public List<SolSystem> build(List<SolSystem> systems, List<Planet> planets, Arra
         return systems;
     }
 
-    private List<Float> generatePlanetGhs() {
+    private List<Float> generatePlanetGhs(RandomStream random) {
         ArrayList<Float> res = new ArrayList<>();
         boolean beltCreated = false;
         for (int i = 0; i < PLANET_COUNT; i++) {
-            boolean createBelt = !beltCreated && 0 < i && i < .5f * PLANET_COUNT && SolRandom.seededTest(.6f);
+            boolean createBelt = !beltCreated && 0 < i && i < .5f * PLANET_COUNT && random.test(.6f);
             float groundHeight;
             if (!createBelt) {
-                groundHeight = SolRandom.seededRandomFloat(.5f, 1) * Const.MAX_GROUND_HEIGHT;
+                groundHeight = random.randomFloat(.5f, 1) * Const.MAX_GROUND_HEIGHT;
             } else {
                 groundHeight = -BELT_HALF_WIDTH;
                 beltCreated = true;
@@ -104,12 +108,12 @@ private float calcSysRadius(List<Float> ghs) {
         return r;
     }
 
-    private Vector2 getBodyPos(List<SolSystem> systems, ArrayList<Maze> mazes, float bodyRadius) {
+    private Vector2 getBodyPos(RandomStream random, List<SolSystem> systems, ArrayList<Maze> mazes, float bodyRadius) {
         Vector2 res = new Vector2();
         float dist = 0;
         while (true) {
             for (int i = 0; i < 20; i++) {
-                float angle = SolRandom.seededRandomFloat(180);
+                float angle = random.randomFloat(180);
                 SolMath.fromAl(res, angle, dist);
                 boolean good = true;
                 for (SolSystem system : systems) {
@@ -132,18 +136,18 @@ private Vector2 getBodyPos(List<SolSystem> systems, ArrayList<Maze> mazes, float
         }
     }
 
-    private SolSystem createSystem(List<Float> groundHeights, Vector2 systemPosition, List<Planet> planets, ArrayList<SystemBelt> belts,
+    private SolSystem createSystem(RandomStream random, List<Float> groundHeights, Vector2 systemPosition, List<Planet> planets, ArrayList<SystemBelt> belts,
                                    PlanetConfigs planetConfigs,
                                    float systemRadius, SysConfigs sysConfigs, SolNames names, boolean firstSys) {
         boolean hard = !firstSys;
         String systemType = DebugOptions.FORCE_SYSTEM_TYPE;
         SysConfig sysConfig;
         if (systemType.isEmpty()) {
-            sysConfig = sysConfigs.getRandomCfg(hard);
+            sysConfig = sysConfigs.getRandomCfg(hard, random);
         } else {
             sysConfig = sysConfigs.getConfig(systemType);
         }
-        String name = firstSys ? SolRandom.seededRandomElement(names.systems) : "Sol"; //hack
+        String name = firstSys ? random.randomElement(names.systems) : "Sol"; //hack
         SolSystem system = new SolSystem(systemPosition, sysConfig, name, systemRadius);
         float planetDist = Const.SUN_RADIUS;
         for (Float groundHeight : groundHeights) {
@@ -159,15 +163,15 @@ private SolSystem createSystem(List<Float> groundHeights, Vector2 systemPosition
                 PlanetConfig planetConfig;
                 if (pt.isEmpty()) {
                     boolean inner = planetDist < systemRadius / 2;
-                    planetConfig = planetConfigs.getRandom(!inner && !hard, inner && hard);
+                    planetConfig = planetConfigs.getRandom(!inner && !hard, inner && hard, random);
                 } else {
                     planetConfig = planetConfigs.getConfig(pt);
                 }
-                Planet planet = createPlanet(planetDist, system, groundHeight, planetConfig, names);
+                Planet planet = createPlanet(random, planetDist, system, groundHeight, planetConfig, names);
                 planets.add(planet);
                 system.getPlanets().add(planet);
             } else {
-                SysConfig beltConfig = sysConfigs.getRandomBelt(hard);
+                SysConfig beltConfig = sysConfigs.getRandomBelt(hard, random);
                 SystemBelt belt = new SystemBelt(-groundHeight, planetDist, system, beltConfig);
                 belts.add(belt);
                 system.addBelt(belt);
@@ -180,11 +184,11 @@ private SolSystem createSystem(List<Float> groundHeights, Vector2 systemPosition
         return system;
     }
 
-    private Planet createPlanet(float planetDist, SolSystem s, float groundHeight, PlanetConfig planetConfig,
+    private Planet createPlanet(RandomStream random, float planetDist, SolSystem s, float groundHeight, PlanetConfig planetConfig,
                                 SolNames names) {
-        float toSysRotationSpeed = SolMath.arcToAngle(PLANET_SPD, planetDist) * SolMath.toInt(SolRandom.seededTest(.5f));
-        float rotationSpeed = SolMath.arcToAngle(GROUND_SPD, groundHeight) * SolMath.toInt(SolRandom.seededTest(.5f));
-        String name = SolRandom.seededRandomElement(names.planets);
-        return new Planet(s, SolRandom.seededRandomFloat(180), planetDist, SolRandom.seededRandomFloat(180), toSysRotationSpeed, rotationSpeed, groundHeight, false, planetConfig, name);
+        float toSysRotationSpeed = SolMath.arcToAngle(PLANET_SPD, planetDist) * SolMath.toInt(random.test(.5f));
+        float rotationSpeed = SolMath.arcToAngle(GROUND_SPD, groundHeight) * SolMath.toInt(random.test(.5f));
+        String name = random.randomElement(names.planets);
+        return new Planet(s, random.randomFloat(180), planetDist, random.randomFloat(180), toSysRotationSpeed, rotationSpeed, groundHeight, false, planetConfig, name);
     }
 }
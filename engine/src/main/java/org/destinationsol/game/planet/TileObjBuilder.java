@@ -21,11 +21,8 @@
 import com.badlogic.gdx.physics.box2d.ChainShape;
 import com.badlogic.gdx.physics.box2d.Fixture;
 import org.destinationsol.Const;
-import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.drawables.DrawableLevel;
-import org.destinationsol.game.drawables.RectSprite;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -33,12 +30,11 @@
 public class TileObjBuilder {
     public TileObject build(SolGame game, float size, float toPlanetRelAngle, float distance, Tile tile, Planet planet) {
         float spriteSize = size * 2;
-        RectSprite sprite = new RectSprite(tile.tex, spriteSize, 0, 0, new Vector2(), DrawableLevel.GROUND, 0, 0f, SolColor.WHITE, false);
         Body body = null;
         if (tile.points.size() > 0) {
             body = buildBody(game, toPlanetRelAngle, distance, tile, planet, spriteSize);
         }
-        TileObject res = new TileObject(planet, toPlanetRelAngle, distance, size, sprite, body, tile);
+        TileObject res = new TileObject(planet, toPlanetRelAngle, distance, size, body, tile);
         if (body != null) {
             body.setUserData(res);
         }
@@ -23,9 +23,8 @@
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
 import org.destinationsol.game.drawables.Drawable;
-import org.destinationsol.game.drawables.RectSprite;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class TileObject implements SolObject {
@@ -44,9 +43,12 @@ public class TileObject implements SolObject {
 
     private float angle;
 
-    TileObject(Planet planet, float relativeAngleToPlanet, float distance, float size, RectSprite sprite, Body body, Tile tile) {
+    /**
+     * The tile has no drawables, its sprite is drawn by the {@link GroundMesh} of the planet.
+     */
+    TileObject(Planet planet, float relativeAngleToPlanet, float distance, float size, Body body, Tile tile) {
         this.tile = tile;
-        drawables = new ArrayList<>();
+        drawables = Collections.emptyList();
 
         this.planet = planet;
         this.relativeAngleToPlanet = relativeAngleToPlanet;
@@ -55,7 +57,6 @@ public class TileObject implements SolObject {
         this.body = body;
         position = new Vector2();
 
-        drawables.add(sprite);
         setDependentParams();
     }
 
@@ -78,7 +79,8 @@ public void update(SolGame game) {
 
     private void setDependentParams() {
         float toPlanetAngle = planet.getAngle() + relativeAngleToPlanet;
-        SolMath.fromAl(position, toPlanetAngle, distance, true);
+        // the tables are off by less than a thousandth of a unit at ground distance, the tiles don't need more
+        SolMath.fromAl(position, toPlanetAngle, distance, false);
         position.add(planet.getPosition());
         angle = toPlanetAngle + 90;
     }
@@ -153,6 +155,12 @@ public boolean hasBody() {
         return true;
     }
 
+    @Override
+    public float getRadiusWithoutDrawables() {
+        // the half diagonal of the square tile sprite, which is twice the size across
+        return size * SolMath.sqrt(2);
+    }
+
     public Planet getPlanet() {
         return planet;
     }
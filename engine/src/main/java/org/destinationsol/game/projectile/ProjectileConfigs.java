@@ -22,10 +22,9 @@
 import org.destinationsol.assets.audio.OggSound;
 import org.destinationsol.assets.json.Json;
 import org.destinationsol.common.SolMath;
+import org.destinationsol.game.ConfigRegistry;
 import org.destinationsol.game.DmgType;
-import org.destinationsol.game.GameColors;
 import org.destinationsol.game.particle.EffectConfig;
-import org.destinationsol.game.particle.EffectTypes;
 import org.destinationsol.game.sound.OggSoundManager;
 import org.terasology.assets.ResourceUrn;
 
@@ -37,7 +36,7 @@ public class ProjectileConfigs {
 
     private final Map<String, ProjectileConfig> configs;
 
-    public ProjectileConfigs(OggSoundManager soundManager, EffectTypes effectTypes, GameColors cols) {
+    public ProjectileConfigs(OggSoundManager soundManager, ConfigRegistry configRegistry) {
         configs = new HashMap<>();
 
         Set<ResourceUrn> projectileConfigurationFiles = Assets.getAssetHelper().list(Json.class, "[a-zA-Z]*:projectilesConfig");
@@ -57,10 +56,10 @@ public ProjectileConfigs(OggSoundManager soundManager, EffectTypes effectTypes,
                 String collisionSoundUrn = node.getString("collisionSound", "");
                 OggSound collisionSound = collisionSoundUrn.isEmpty() ? null : soundManager.getSound(collisionSoundUrn);
                 float lightSz = node.getFloat("lightSz", 0);
-                EffectConfig trailEffect = EffectConfig.load(node.get("trailEffect"), effectTypes, cols);
-                EffectConfig bodyEffect = EffectConfig.load(node.get("bodyEffect"), effectTypes, cols);
-                EffectConfig collisionEffect = EffectConfig.load(node.get("collisionEffect"), effectTypes, cols);
-                EffectConfig collisionEffectBackground = EffectConfig.load(node.get("collisionEffectBg"), effectTypes, cols);
+                EffectConfig trailEffect = EffectConfig.load(node.get("trailEffect"), configRegistry);
+                EffectConfig bodyEffect = EffectConfig.load(node.get("bodyEffect"), configRegistry);
+                EffectConfig collisionEffect = EffectConfig.load(node.get("collisionEffect"), configRegistry);
+                EffectConfig collisionEffectBackground = EffectConfig.load(node.get("collisionEffectBg"), configRegistry);
                 float guideRotationSpeed = node.getFloat("guideRotationSpeed", 0);
                 boolean zeroAbsSpeed = node.getBoolean("zeroAbsSpd", false);
                 Vector2 origin = SolMath.readV2(node.getString("texOrig", "0 0"));
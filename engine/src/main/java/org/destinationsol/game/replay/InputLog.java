@@ -0,0 +1,190 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import org.destinationsol.GameOptions;
+import org.destinationsol.common.SolRandom;
+import org.destinationsol.game.DebugOptions;
+import org.destinationsol.game.input.Pilot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * The binary format of recorded sessions.
+ * <p>
+ * A log starts with a {@link Header} describing how to start the same game, followed by records: runs of ticks with
+ * the same hero inputs, and beacon clicks, which are applied before the tick following them.
+ */
+public final class InputLog {
+    public static final String FILE_EXTENSION = ".dsr";
+    static final int MAGIC = 0x44535250; // DSRP
+    static final int VERSION = 1;
+
+    static final byte TAG_INPUTS = 1;
+    static final byte TAG_BEACON_CLICK = 2;
+    static final byte TAG_END = 3;
+
+    static final int UP = 1;
+    static final int LEFT = 1 << 1;
+    static final int RIGHT = 1 << 2;
+    static final int SHOOT = 1 << 3;
+    static final int SHOOT2 = 1 << 4;
+    static final int ABILITY = 1 << 5;
+
+    private InputLog() { }
+
+    static int packInputs(Pilot pilot) {
+        int inputs = 0;
+        if (pilot.isUp()) {
+            inputs |= UP;
+        }
+        if (pilot.isLeft()) {
+            inputs |= LEFT;
+        }
+        if (pilot.isRight()) {
+            inputs |= RIGHT;
+        }
+        if (pilot.isShoot()) {
+            inputs |= SHOOT;
+        }
+        if (pilot.isShoot2()) {
+            inputs |= SHOOT2;
+        }
+        if (pilot.isAbility()) {
+            inputs |= ABILITY;
+        }
+        return inputs;
+    }
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Everything besides the inputs that the simulation depends on.
+     */
+    public static class Header {
+        public long worldSeed;
+        public long randomSeed;
+        public String shipName;
+        public boolean tutorial;
+        public int width;
+        public int height;
+        public int controlType;
+        public float gameSpeed;
+        public String spawnPlace;
+        public String forcePlanetType;
+        public String forceSystemType;
+        public boolean noObjs;
+        public float physicsLodDist;
+
+        /**
+         * Describes a new game that is about to start with the current seeds and options.
+         */
+        public static Header capture(GameOptions options, String shipName, boolean tutorial, int width, int height) {
+            Header header = new Header();
+            header.worldSeed = SolRandom.getSeed();
+            header.randomSeed = SolRandom.getRandomSeed();
+            header.shipName = shipName;
+            header.tutorial = tutorial;
+            header.width = width;
+            header.height = height;
+            header.controlType = options.controlType;
+            header.gameSpeed = DebugOptions.GAME_SPEED_MULTIPLIER;
+            header.spawnPlace = DebugOptions.SPAWN_PLACE;
+            header.forcePlanetType = DebugOptions.FORCE_PLANET_TYPE;
+            header.forceSystemType = DebugOptions.FORCE_SYSTEM_TYPE;
+            header.noObjs = DebugOptions.NO_OBJS;
+            header.physicsLodDist = DebugOptions.PHYSICS_LOD_DIST;
+            return header;
+        }
+
+        /**
+         * Restores the seeds and options the recorded game was started with. The window size is up to the launcher.
+         */
+        public void apply(GameOptions options) {
+            SolRandom.setSeed(worldSeed);
+            SolRandom.setRandomSeed(randomSeed);
+            options.controlType = controlType;
+            DebugOptions.GAME_SPEED_MULTIPLIER = gameSpeed;
+            DebugOptions.SPAWN_PLACE = spawnPlace;
+            DebugOptions.FORCE_PLANET_TYPE = forcePlanetType;
+            DebugOptions.FORCE_SYSTEM_TYPE = forceSystemType;
+            DebugOptions.NO_OBJS = noObjs;
+            DebugOptions.PHYSICS_LOD_DIST = physicsLodDist;
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(worldSeed);
+            out.writeLong(randomSeed);
+            out.writeUTF(shipName);
+            out.writeBoolean(tutorial);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(controlType);
+            out.writeFloat(gameSpeed);
+            out.writeUTF(spawnPlace);
+            out.writeUTF(forcePlanetType);
+            out.writeUTF(forceSystemType);
+            out.writeBoolean(noObjs);
+            out.writeFloat(physicsLodDist);
+        }
+
+        public static Header read(DataInputStream in) throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a recorded session");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported recording version " + version);
+            }
+            Header header = new Header();
+            header.worldSeed = in.readLong();
+            header.randomSeed = in.readLong();
+            header.shipName = in.readUTF();
+            header.tutorial = in.readBoolean();
+            header.width = in.readInt();
+            header.height = in.readInt();
+            header.controlType = in.readInt();
+            header.gameSpeed = in.readFloat();
+            header.spawnPlace = in.readUTF();
+            header.forcePlanetType = in.readUTF();
+            header.forceSystemType = in.readUTF();
+            header.noObjs = in.readBoolean();
+            header.physicsLodDist = in.readFloat();
+            return header;
+        }
+    }
+}
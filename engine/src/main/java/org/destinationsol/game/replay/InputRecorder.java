@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.Hero;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+/**
+ * Writes the hero's inputs of every tick into an {@link InputLog}, so that the session can be replayed.
+ * <p>
+ * Only the inputs steering the hero ship are recorded. Actions done through the screens (trading, equipping,
+ * hiring) are not, so sessions meant for replaying should stick to flying and fighting.
+ */
+public class InputRecorder {
+    private static final Logger logger = LoggerFactory.getLogger(InputRecorder.class);
+
+    private final String fileName;
+    private DataOutputStream out;
+    private int runInputs;
+    private int runLength;
+
+    public InputRecorder(String fileName, InputLog.Header header) {
+        this.fileName = fileName;
+        try {
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)));
+            header.write(out);
+        } catch (IOException e) {
+            fail(e);
+        }
+        logger.info("Recording the session to " + fileName);
+    }
+
+    public void recordTick(Hero hero) {
+        int inputs = hero.isAlive() ? InputLog.packInputs(hero.getPilot()) : 0;
+        if (runLength > 0 && inputs != runInputs) {
+            flushRun();
+        }
+        runInputs = inputs;
+        runLength++;
+    }
+
+    /**
+     * Records a click that sets the beacon, it is replayed right before the next tick.
+     */
+    public void recordBeaconClick(Vector2 position, boolean onMap) {
+        flushRun();
+        if (out == null) {
+            return;
+        }
+        try {
+            out.writeByte(InputLog.TAG_BEACON_CLICK);
+            out.writeFloat(position.x);
+            out.writeFloat(position.y);
+            out.writeBoolean(onMap);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    private void flushRun() {
+        if (runLength == 0 || out == null) {
+            return;
+        }
+        try {
+            out.writeByte(InputLog.TAG_INPUTS);
+            out.writeByte(runInputs);
+            InputLog.writeVarInt(out, runLength);
+        } catch (IOException e) {
+            fail(e);
+        }
+        runLength = 0;
+    }
+
+    public void close() {
+        flushRun();
+        if (out == null) {
+            return;
+        }
+        try {
+            out.writeByte(InputLog.TAG_END);
+            out.close();
+        } catch (IOException e) {
+            fail(e);
+        }
+        out = null;
+    }
+
+    private void fail(IOException e) {
+        logger.error("Could not record the session to " + fileName + ", " + e.getMessage());
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ignore) { }
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.game.SolGame;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Reads an {@link InputLog} back, feeding the recorded inputs to the game tick by tick.
+ */
+public class InputReplayer {
+    private final DataInputStream in;
+    private final InputLog.Header header;
+    private final Vector2 clickPosition;
+    private int inputs;
+    private int runLeft;
+    private boolean finished;
+
+    public InputReplayer(String fileName) throws IOException {
+        in = new DataInputStream(new BufferedInputStream(new FileInputStream(fileName)));
+        header = InputLog.Header.read(in);
+        clickPosition = new Vector2();
+    }
+
+    public InputLog.Header getHeader() {
+        return header;
+    }
+
+    /**
+     * Applies the beacon clicks recorded before the tick and makes the tick's inputs current.
+     *
+     * @return false if the recording has ended
+     */
+    public boolean startTick(SolGame game) throws IOException {
+        if (finished) {
+            return false;
+        }
+        while (runLeft == 0) {
+            byte tag = in.readByte();
+            if (tag == InputLog.TAG_INPUTS) {
+                inputs = in.readUnsignedByte();
+                runLeft = InputLog.readVarInt(in);
+            } else if (tag == InputLog.TAG_BEACON_CLICK) {
+                clickPosition.set(in.readFloat(), in.readFloat());
+                boolean onMap = in.readBoolean();
+                game.getBeaconHandler().processMouse(game, clickPosition, true, onMap);
+            } else if (tag == InputLog.TAG_END) {
+                finished = true;
+                in.close();
+                return false;
+            } else {
+                throw new IOException("Corrupted recording, unknown record " + tag);
+            }
+        }
+        runLeft--;
+        return true;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isUp() {
+        return (inputs & InputLog.UP) != 0;
+    }
+
+    public boolean isLeft() {
+        return (inputs & InputLog.LEFT) != 0;
+    }
+
+    public boolean isRight() {
+        return (inputs & InputLog.RIGHT) != 0;
+    }
+
+    public boolean isShoot() {
+        return (inputs & InputLog.SHOOT) != 0;
+    }
+
+    public boolean isShoot2() {
+        return (inputs & InputLog.SHOOT2) != 0;
+    }
+
+    public boolean isAbility() {
+        return (inputs & InputLog.ABILITY) != 0;
+    }
+}
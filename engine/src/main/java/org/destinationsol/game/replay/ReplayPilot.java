@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import org.destinationsol.game.input.UiControlledPilot;
+import org.destinationsol.game.screens.MainScreen;
+
+/**
+ * Flies the hero ship with the inputs from a recording instead of the ones from the keyboard.
+ */
+public class ReplayPilot extends UiControlledPilot {
+    private final InputReplayer replayer;
+
+    public ReplayPilot(MainScreen screen, InputReplayer replayer) {
+        super(screen);
+        this.replayer = replayer;
+    }
+
+    @Override
+    public boolean isUp() {
+        return replayer.isUp();
+    }
+
+    @Override
+    public boolean isLeft() {
+        return replayer.isLeft();
+    }
+
+    @Override
+    public boolean isRight() {
+        return replayer.isRight();
+    }
+
+    @Override
+    public boolean isShoot() {
+        return replayer.isShoot();
+    }
+
+    @Override
+    public boolean isShoot2() {
+        return replayer.isShoot2();
+    }
+
+    @Override
+    public boolean isAbility() {
+        return replayer.isAbility();
+    }
+}
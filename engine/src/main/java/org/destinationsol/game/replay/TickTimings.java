@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import com.badlogic.gdx.utils.LongArray;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * The time every replayed tick took and the bytes it allocated.
+ */
+public class TickTimings {
+    private final LongArray nanos;
+    private final LongArray allocatedBytes;
+
+    public TickTimings() {
+        nanos = new LongArray(false, 1 << 16);
+        allocatedBytes = new LongArray(false, 1 << 16);
+    }
+
+    /**
+     * @param tickAllocatedBytes the bytes allocated during the tick, negative if not known
+     */
+    public void add(long tickNanos, long tickAllocatedBytes) {
+        nanos.add(tickNanos);
+        allocatedBytes.add(tickAllocatedBytes);
+    }
+
+    /**
+     * Writes the timings as csv, one tick per line.
+     */
+    public void write(String fileName) throws FileNotFoundException {
+        try (PrintWriter writer = new PrintWriter(fileName)) {
+            writer.println("tick,nanos,allocatedBytes");
+            for (int i = 0; i < nanos.size; i++) {
+                writer.print(i + 1);
+                writer.print(',');
+                writer.print(nanos.get(i));
+                writer.print(',');
+                writer.println(allocatedBytes.get(i));
+            }
+        }
+    }
+
+    public String getSummary() {
+        if (nanos.size == 0) {
+            return "no ticks";
+        }
+        long[] sorted = nanos.toArray();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long tickNanos : sorted) {
+            total += tickNanos;
+        }
+        String summary = String.format("%d ticks, mean %.3f ms, median %.3f ms, 99th percentile %.3f ms, max %.3f ms",
+                sorted.length, total / 1e6 / sorted.length, sorted[sorted.length / 2] / 1e6,
+                sorted[(int) (sorted.length * .99)] / 1e6, sorted[sorted.length - 1] / 1e6);
+        if (allocatedBytes.get(0) < 0) {
+            return summary;
+        }
+        long[] sortedBytes = allocatedBytes.toArray();
+        Arrays.sort(sortedBytes);
+        long totalBytes = 0;
+        for (long tickBytes : sortedBytes) {
+            totalBytes += tickBytes;
+        }
+        return summary + String.format(", allocated per tick: mean %d B, median %d B, max %d B",
+                totalBytes / sortedBytes.length, sortedBytes[sortedBytes.length / 2], sortedBytes[sortedBytes.length - 1]);
+    }
+}
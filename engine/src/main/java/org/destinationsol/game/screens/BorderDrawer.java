@@ -29,19 +29,16 @@
 import org.destinationsol.game.Hero;
 import org.destinationsol.game.MapDrawer;
 import org.destinationsol.game.SolCam;
+import org.destinationsol.game.ShipSnapshot;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
 import org.destinationsol.game.StarPort;
 import org.destinationsol.game.planet.Planet;
 import org.destinationsol.game.planet.PlanetManager;
 import org.destinationsol.game.planet.SolSystem;
 import org.destinationsol.game.planet.SunSingleton;
-import org.destinationsol.game.ship.FarShip;
-import org.destinationsol.game.ship.SolShip;
 import org.destinationsol.ui.UiDrawer;
 
 import java.util.ArrayList;
-import java.util.List;
 
 public class BorderDrawer {
 
@@ -51,6 +48,7 @@ public class BorderDrawer {
     private static final float MAX_DRAW_DIST = (Const.MAX_GROUND_HEIGHT + Const.ATM_HEIGHT) * 2;
     private final ArrayList<PlanetProximityIndicator> planetProximityIndicators;
     private final Vector2 myTmpVec = new Vector2();
+    private final Vector2 myTmpPos = new Vector2();
 
     BorderDrawer(float dimensionsRatio) {
         TextureAtlas.AtlasRegion texture = Assets.getAtlasRegion("engine:uiPlanetProximityIndicator");
@@ -89,39 +87,24 @@ public void draw(UiDrawer drawer, SolApplication application) {
         FactionManager factionManager = game.getFactionMan();
         float heroDamageCap = hero.isTranscendent() ? Float.MAX_VALUE : HardnessCalc.getShipDmgCap(hero.getShip());
 
-        List<SolObject> objects = game.getObjectManager().getObjects();
-        for (SolObject object : objects) {
-            if ((object instanceof SolShip)) {
-                SolShip ship = (SolShip) object;
-                Vector2 shipPosition = ship.getPosition();
-                Faction shipFaction = ship.getPilot().getFaction();
-                float shipSize = ship.getHull().config.getSize();
-                float shipAngle = ship.getAngle();
-                maybeDrawIcon(drawer, shipPosition, cam, shipSize, shipAngle, mapDrawer, factionManager, hero, shipFaction, object, heroDamageCap, ship.getHull().config.getIcon());
+        ShipSnapshot snapshot = game.getShipSnapshot();
+        for (int i = 0, count = snapshot.getShipCount(); i < count; i++) {
+            if (snapshot.getKind(i) == ShipSnapshot.TRANSCENDENT) {
+                continue;
             }
-            if ((object instanceof StarPort)) {
-                StarPort starPort = (StarPort) object;
-                maybeDrawIcon(drawer, starPort.getPosition(), cam, StarPort.SIZE, starPort.getAngle(), mapDrawer, null, null, null, null, -1, mapDrawer.getStarPortTex());
-            }
-        }
-
-        List<FarShip> farShips = game.getObjectManager().getFarShips();
-        for (FarShip ship : farShips) {
-            Vector2 shipPos = ship.getPosition();
-            Faction shipFaction = ship.getPilot().getFaction();
-            float shipSize = ship.getHullConfig().getSize();
-            float shipAngle = ship.getAngle();
-            maybeDrawIcon(drawer, shipPos, cam, shipSize, shipAngle, mapDrawer, factionManager, hero, shipFaction, ship, heroDamageCap, ship.getHullConfig().getIcon());
+            myTmpPos.set(snapshot.getShipX(i), snapshot.getShipY(i));
+            maybeDrawIcon(drawer, myTmpPos, cam, snapshot.getSize(i), snapshot.getShipAngle(i), mapDrawer, factionManager, hero,
+                    snapshot.getFaction(i), snapshot.getDps(i), heroDamageCap, snapshot.getIcon(i));
         }
-        List<StarPort.FarStarPort> farPorts = game.getObjectManager().getFarPorts();
-        for (StarPort.FarStarPort starPort : farPorts) {
-            maybeDrawIcon(drawer, starPort.getPosition(), cam, StarPort.SIZE, starPort.getAngle(), mapDrawer, null, null, null, null, -1, mapDrawer.getStarPortTex());
+        for (int i = 0, count = snapshot.getPortCount(); i < count; i++) {
+            myTmpPos.set(snapshot.getPortX(i), snapshot.getPortY(i));
+            maybeDrawIcon(drawer, myTmpPos, cam, StarPort.SIZE, snapshot.getPortAngle(i), mapDrawer, null, null, null, 0, -1, mapDrawer.getStarPortTex());
         }
     }
 
     private void maybeDrawIcon(UiDrawer drawer, Vector2 position, SolCam cam, float objSize,
                                float objAngle, MapDrawer mapDrawer, FactionManager factionManager, Hero hero,
-                               Faction objFac, Object shipHack, float heroDmgCap, TextureAtlas.AtlasRegion icon) {
+                               Faction objFac, float objDps, float heroDmgCap, TextureAtlas.AtlasRegion icon) {
         Vector2 camPos = cam.getPosition();
         float closeness = 1 - position.dst(camPos) / MAX_ICON_DIST;
         if (closeness < 0) {
@@ -146,7 +129,7 @@ private void maybeDrawIcon(UiDrawer drawer, Vector2 position, SolCam cam, float
         myTmpVec.scl(mul);
         myTmpVec.add(drawer.r / 2, .5f);
 
-        mapDrawer.drawObjIcon(size, myTmpVec, objAngle - camAngle, factionManager, hero, objFac, heroDmgCap, shipHack, icon, drawer);
+        mapDrawer.drawObjIcon(size, myTmpVec, objAngle - camAngle, factionManager, hero, objFac, heroDmgCap, objDps, icon, drawer);
     }
 
     private void drawPlanetProximityIndicators(UiDrawer drawer, SolGame game, SolCam cam, Vector2 camPosition) {
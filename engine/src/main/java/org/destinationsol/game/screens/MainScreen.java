@@ -26,12 +26,13 @@
 import org.destinationsol.common.SolColor;
 import org.destinationsol.common.SolMath;
 import org.destinationsol.game.DebugOptions;
+import org.destinationsol.game.Faction;
 import org.destinationsol.game.FactionManager;
 import org.destinationsol.game.HardnessCalc;
 import org.destinationsol.game.Hero;
+import org.destinationsol.game.ShipSnapshot;
 import org.destinationsol.game.SolCam;
 import org.destinationsol.game.SolGame;
-import org.destinationsol.game.SolObject;
 import org.destinationsol.game.item.Gun;
 import org.destinationsol.game.item.ItemManager;
 import org.destinationsol.game.item.Shield;
@@ -285,24 +286,23 @@ private void updateTalk(SolGame game) {
         SolShip target = null;
         float minDist = TalkScreen.MAX_TALK_DIST;
         float har = hero.getHull().config.getApproxRadius();
-        List<SolObject> objs = game.getObjectManager().getObjects();
-        for (SolObject o : objs) {
-            if (!(o instanceof SolShip)) {
+        Faction heroFaction = hero.getPilot().getFaction();
+        Vector2 heroPosition = hero.getPosition();
+        ShipSnapshot snapshot = game.getShipSnapshot();
+        for (int i = 0, count = snapshot.getShipCount(); i < count; i++) {
+            // only near ships trade
+            if (!snapshot.isTrader(i)) {
                 continue;
             }
-            SolShip ship = (SolShip) o;
-            if (factionManager.areEnemies(hero.getShip(), ship)) {
+            if (factionManager.areEnemies(heroFaction, snapshot.getFaction(i))) {
                 continue;
             }
-            if (ship.getTradeContainer() == null) {
-                continue;
-            }
-            float dst = ship.getPosition().dst(hero.getPosition());
-            float ar = ship.getHull().config.getApproxRadius();
+            float dst = heroPosition.dst(snapshot.getShipX(i), snapshot.getShipY(i));
+            float ar = snapshot.getApproxRadius(i);
             if (minDist < dst - har - ar) {
                 continue;
             }
-            target = ship;
+            target = (SolShip) snapshot.getShip(i);
             minDist = dst;
         }
         talkControl.setEnabled(target != null);
@@ -580,28 +580,28 @@ protected boolean shouldWarn(SolGame game) {
             }
 
             float heroCap = HardnessCalc.getShipDmgCap(hero.getShip());
-            List<SolObject> objs = game.getObjectManager().getObjects();
+            ShipSnapshot snapshot = game.getShipSnapshot();
             FactionManager fm = game.getFactionMan();
             SolCam cam = game.getCam();
             float viewDist = cam.getViewDistance();
+            Faction heroFaction = hero.getPilot().getFaction();
+            Vector2 heroPosition = hero.getPosition();
             float dps = 0;
 
-            for (SolObject o : objs) {
-                if (!(o instanceof SolShip)) {
+            for (int i = 0, count = snapshot.getShipCount(); i < count; i++) {
+                if (snapshot.getKind(i) != ShipSnapshot.SHIP) {
                     continue;
                 }
 
-                SolShip ship = (SolShip) o;
-
-                if (viewDist < ship.getPosition().dst(hero.getPosition())) {
+                if (viewDist < heroPosition.dst(snapshot.getShipX(i), snapshot.getShipY(i))) {
                     continue;
                 }
 
-                if (!fm.areEnemies(hero.getShip(), ship)) {
+                if (!fm.areEnemies(heroFaction, snapshot.getFaction(i))) {
                     continue;
                 }
 
-                dps += HardnessCalc.getShipDps(ship);
+                dps += snapshot.getDps(i);
 
                 if (HardnessCalc.isDangerous(heroCap, dps)) {
                     return true;
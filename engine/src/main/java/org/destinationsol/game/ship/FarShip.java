@@ -18,8 +18,10 @@
 
 import com.badlogic.gdx.math.Vector2;
 import org.destinationsol.game.FarObject;
+import org.destinationsol.game.HardnessCalc;
 import org.destinationsol.game.RemoveController;
 import org.destinationsol.game.SolGame;
+import org.destinationsol.game.StrengthProfile;
 import org.destinationsol.game.input.Pilot;
 import org.destinationsol.game.item.Armor;
 import org.destinationsol.game.item.Engine;
@@ -47,6 +49,7 @@ public class FarShip implements FarObject {
     private float life;
     private ShipRepairer repairer;
     private float money;
+    private StrengthProfile strength;
 
     public FarShip(Vector2 position, Vector2 speed, float angle, float rotationSpeed, Pilot pilot, ItemContainer container,
                    HullConfig hullConfig, float life,
@@ -164,6 +167,16 @@ public Gun getGun(boolean secondary) {
         return secondary ? gun2 : gun1;
     }
 
+    /**
+     * @return the strength of the ship, see {@link HardnessCalc}. Far ships never change their loadout.
+     */
+    public StrengthProfile getStrength() {
+        if (strength == null) {
+            strength = HardnessCalc.calcShipStrength(hullConfig, gun1, gun2, armor, shield);
+        }
+        return strength;
+    }
+
     public Shield getShield() {
         return shield;
     }
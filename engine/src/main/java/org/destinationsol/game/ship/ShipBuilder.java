@@ -69,6 +69,10 @@ public ShipBuilder() {
         myCollisionMeshLoader = new CollisionMeshLoader();
     }
 
+    public void dispose() {
+        myCollisionMeshLoader.dispose();
+    }
+
     private static Fixture getBase(boolean hasBase, Body body) {
         if (!hasBase) {
             return null;
@@ -261,12 +265,14 @@ private Hull buildHull(SolGame game, Vector2 position, Vector2 speed, float angl
         //TODO: This logic belongs in the HullConfigManager/HullConfig
         String shipName = hullConfig.getInternalName();
 
-        Json json = Assets.getJson(shipName);
+        if (!myCollisionMeshLoader.hasRigidBody(shipName)) {
+            Json json = Assets.getJson(shipName);
 
-        JsonValue rigidBodyNode = json.getJsonValue().get("rigidBody");
-        myCollisionMeshLoader.readRigidBody(rigidBodyNode, hullConfig);
+            JsonValue rigidBodyNode = json.getJsonValue().get("rigidBody");
+            myCollisionMeshLoader.readRigidBody(rigidBodyNode, hullConfig);
 
-        json.dispose();
+            json.dispose();
+        }
 
         BodyDef.BodyType bodyType = hullConfig.getType() == HullConfig.Type.STATION ? BodyDef.BodyType.KinematicBody : BodyDef.BodyType.DynamicBody;
         DrawableLevel level = hullConfig.getType() == HullConfig.Type.STD ? DrawableLevel.BODIES : hullConfig.getType() == HullConfig.Type.BIG ? DrawableLevel.BIG_BODIES : DrawableLevel.STATIONS;
@@ -24,9 +24,11 @@
 import org.destinationsol.common.SolRandom;
 import org.destinationsol.game.AbilityCommonConfig;
 import org.destinationsol.game.DmgType;
+import org.destinationsol.game.HardnessCalc;
 import org.destinationsol.game.RemoveController;
 import org.destinationsol.game.SolGame;
 import org.destinationsol.game.SolObject;
+import org.destinationsol.game.StrengthProfile;
 import org.destinationsol.game.drawables.Drawable;
 import org.destinationsol.game.gun.GunMount;
 import org.destinationsol.game.input.Pilot;
@@ -79,6 +81,8 @@ public class SolShip implements SolObject {
     private float myAbilityAwait;
     private float myControlEnableAwait;
     private MercItem mercItem;
+    // null when the guns, the armor or the shield changed since the last estimate
+    private StrengthProfile myStrength;
 
     public SolShip(SolGame game, Pilot pilot, Hull hull, RemoveController removeController, List<Drawable> drawables,
                    ItemContainer container, ShipRepairer repairer, float money, TradeContainer tradeContainer, Shield shield,
@@ -232,6 +236,7 @@ public void update(SolGame game) {
         updateShield(game);
         if (myArmor != null && !myItemContainer.contains(myArmor)) {
             myArmor = null;
+            invalidateStrength();
         }
         if (myTradeContainer != null) {
             myTradeContainer.update(game);
@@ -301,6 +306,7 @@ private void updateShield(SolGame game) {
                 myShield.update(game, this);
             } else {
                 myShield = null;
+                invalidateStrength();
             }
         }
     }
@@ -489,6 +495,23 @@ public Hull getHull() {
         return myHull;
     }
 
+    /**
+     * @return the strength of the ship with its current loadout, see {@link HardnessCalc}
+     */
+    public StrengthProfile getStrength() {
+        if (myStrength == null) {
+            myStrength = HardnessCalc.calcShipStrength(myHull.config, myHull.getGun(false), myHull.getGun(true), myArmor, myShield);
+        }
+        return myStrength;
+    }
+
+    /**
+     * Makes the strength be estimated again, to be called whenever a gun, the armor or the shield of the ship changes.
+     */
+    public void invalidateStrength() {
+        myStrength = null;
+    }
+
     public float calcTimeToTurn(float destAngle) {
         float angle = myHull.getAngle();
         Engine e = myHull.getEngine();
@@ -519,6 +542,7 @@ public boolean maybeEquip(SolGame game, SolItem item, boolean secondarySlot, boo
                     maybeUnequip(game, myShield, false, true);
                     myShield = shield;
                     myShield.setEquipped(1);
+                    invalidateStrength();
                 }
                 return true;
             }
@@ -528,6 +552,7 @@ public boolean maybeEquip(SolGame game, SolItem item, boolean secondarySlot, boo
                     maybeUnequip(game, myArmor, false, true);
                     myArmor = armor;
                     myArmor.setEquipped(1);
+                    invalidateStrength();
                 }
                 return true;
             }
@@ -568,6 +593,7 @@ public boolean maybeUnequip(SolGame game, SolItem item, boolean secondarySlot, b
                 if (unequip && myShield != null) {
                     myShield.setEquipped(0);
                     myShield = null;
+                    invalidateStrength();
                 }
                 return true;
             }
@@ -575,6 +601,7 @@ public boolean maybeUnequip(SolGame game, SolItem item, boolean secondarySlot, b
                 if (unequip && myArmor != null) {
                     myArmor.setEquipped(0);
                     myArmor = null;
+                    invalidateStrength();
                 }
                 return true;
             }
@@ -23,6 +23,7 @@
 import org.destinationsol.assets.Assets;
 import org.destinationsol.common.SolColor;
 import org.destinationsol.game.SaveManager;
+import org.destinationsol.ui.FontSize;
 import org.destinationsol.ui.SolInputManager;
 import org.destinationsol.ui.SolUiControl;
 import org.destinationsol.ui.SolUiScreen;
@@ -38,6 +39,9 @@ public class NewGameScreen implements SolUiScreen {
     private final SolUiControl backControl;
     private final SolUiControl continueControl;
     private final SolUiControl newControl;
+    // the saved world is from an older world generation, continuing it has to be confirmed
+    private boolean oldWorld;
+    private boolean confirmingOldWorld;
 
     NewGameScreen(MenuLayout menuLayout, GameOptions gameOptions) {
         continueControl = new SolUiControl(menuLayout.buttonRect(-1, 1), true, gameOptions.getKeyShoot());
@@ -63,6 +67,9 @@ public List<SolUiControl> getControls() {
     @Override
     public void onAdd(SolApplication solApplication) {
         continueControl.setEnabled(SaveManager.hasPrevShip("prevShip.ini"));
+        continueControl.setDisplayName("Continue");
+        oldWorld = SaveManager.isWorldFromOlderGenerator();
+        confirmingOldWorld = false;
     }
 
     @Override
@@ -74,6 +81,11 @@ public void updateCustom(SolApplication solApplication, SolInputManager.InputPoi
             return;
         }
         if (continueControl.isJustOff()) {
+            if (oldWorld && !confirmingOldWorld) {
+                confirmingOldWorld = true;
+                continueControl.setDisplayName("Continue anyway");
+                return;
+            }
             solApplication.loadGame(false, null, false);
             return;
         }
@@ -82,6 +94,14 @@ public void updateCustom(SolApplication solApplication, SolInputManager.InputPoi
         }
     }
 
+    @Override
+    public void drawText(UiDrawer uiDrawer, SolApplication solApplication) {
+        if (confirmingOldWorld) {
+            uiDrawer.drawString("Warning: This save is from an older version, its galaxy will be a different one!",
+                    .5f * uiDrawer.r, .3f, FontSize.MENU, true, SolColor.WHITE);
+        }
+    }
+
     @Override
     public boolean isCursorOnBackground(SolInputManager.InputPointer inputPointer) {
         return true;
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the laid out glyphs of the most recently drawn strings, so that the text drawn every frame is only laid out once.
+ * <p>
+ * The glyph colors are set when laying out, so the color is a part of the key along with the string and the font size.
+ * The alignment is not, the layout is the same for all of them. The least recently used layout is dropped when the
+ * cache is full and reused for the next string.
+ */
+public class GlyphLayoutCache {
+    private final BitmapFont font;
+    private final Map<Key, GlyphLayout> layouts;
+    private final List<GlyphLayout> freeLayouts;
+    private final Key probe;
+
+    /**
+     * @param font     The font to lay the strings out with, its scale has to be set before calling {@link #get}
+     * @param capacity The number of layouts kept
+     */
+    public GlyphLayoutCache(BitmapFont font, int capacity) {
+        this.font = font;
+        freeLayouts = new ArrayList<>();
+        probe = new Key();
+        layouts = new LinkedHashMap<Key, GlyphLayout>(capacity * 2, .75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, GlyphLayout> eldest) {
+                if (size() <= capacity) {
+                    return false;
+                }
+                freeLayouts.add(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public GlyphLayout get(String s, float fontSize, Color color) {
+        int colorBits = color.toIntBits();
+        probe.set(s, fontSize, colorBits);
+        GlyphLayout layout = layouts.get(probe);
+        if (layout != null) {
+            return layout;
+        }
+        layout = freeLayouts.isEmpty() ? new GlyphLayout() : freeLayouts.remove(freeLayouts.size() - 1);
+        font.setColor(color);
+        layout.setText(font, s);
+        Key key = new Key();
+        key.set(s, fontSize, colorBits);
+        layouts.put(key, layout);
+        return layout;
+    }
+
+    public int size() {
+        return layouts.size();
+    }
+
+    private static class Key {
+        private String text;
+        private float fontSize;
+        private int colorBits;
+        private int hash;
+
+        void set(String text, float fontSize, int colorBits) {
+            this.text = text;
+            this.fontSize = fontSize;
+            this.colorBits = colorBits;
+            hash = (text.hashCode() * 31 + Float.floatToIntBits(fontSize)) * 31 + colorBits;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return hash == other.hash && fontSize == other.fontSize && colorBits == other.colorBits && text.equals(other.text);
+        }
+    }
+}
@@ -26,6 +26,7 @@ public class SolUiControl {
     private final Rectangle screenArea;
     private final boolean isWithSound;
     private String displayName;
+    private final StaticText displayNameText = new StaticText();
     private boolean isEnabled = true;
     private boolean isKeyPressed;
     private boolean wasKeyPressed;
@@ -179,8 +180,8 @@ public void drawDisplayName(UiDrawer uiDrawer) {
             return;
         }
         Color tint = isEnabled ? SolColor.WHITE : SolColor.G;
-        uiDrawer.drawString(displayName, screenArea.x + screenArea.width / 2, screenArea.y + screenArea.height / 2,
-                FontSize.MENU, true, tint);
+        uiDrawer.drawString(displayNameText, displayName, screenArea.x + screenArea.width / 2, screenArea.y + screenArea.height / 2,
+                FontSize.MENU, UiDrawer.TextAlignment.CENTER, true, tint);
     }
 
     public void blur() {
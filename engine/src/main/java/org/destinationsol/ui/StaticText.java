@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.ui;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+
+/**
+ * A label that keeps its glyph vertices between frames, for UI text that stays the same, like the names of the buttons.
+ * The vertices are only built again when the text, the position, the size or the color changes.
+ * See {@link UiDrawer#drawString(StaticText, String, float, float, float, UiDrawer.TextAlignment, boolean, Color)}.
+ */
+public class StaticText {
+    private final Color tint = new Color();
+    private BitmapFontCache cache;
+    private String text;
+    private float x;
+    private float y;
+    private float fontSize;
+    private UiDrawer.TextAlignment align;
+    private boolean verticalCentering;
+
+    /**
+     * @return true if any of the values changed since the last call
+     */
+    boolean set(String text, float x, float y, float fontSize, UiDrawer.TextAlignment align, boolean verticalCentering, Color tint) {
+        if (text.equals(this.text) && x == this.x && y == this.y && fontSize == this.fontSize && align == this.align
+                && verticalCentering == this.verticalCentering && tint.equals(this.tint)) {
+            return false;
+        }
+        this.text = text;
+        this.x = x;
+        this.y = y;
+        this.fontSize = fontSize;
+        this.align = align;
+        this.verticalCentering = verticalCentering;
+        this.tint.set(tint);
+        return true;
+    }
+
+    BitmapFontCache getCache() {
+        return cache;
+    }
+
+    void setCache(BitmapFontCache cache) {
+        this.cache = cache;
+    }
+}
@@ -66,6 +66,25 @@ public void drawString(String s, float x, float y, float scale, TextAlignment al
         drawer.drawString(s, x, y, scale * FONT_SIZE, align, centered, tint);
     }
 
+    /**
+     * Draws a label that stays the same from frame to frame, its glyphs are only laid out when something changes.
+     */
+    public void drawString(StaticText text, String s, float x, float y, float scale, TextAlignment align, boolean centered, Color tint) {
+        if (isTextMode != null && !isTextMode) {
+            throw new AssertionError("drawing text in atlas mode");
+        }
+        if (s == null) {
+            return;
+        }
+        if (text.getCache() == null) {
+            text.setCache(drawer.newFontCache());
+        }
+        if (text.set(s, x, y, scale, align, centered, tint)) {
+            drawer.cacheString(text.getCache(), s, x, y, scale * FONT_SIZE, align, centered, tint);
+        }
+        drawer.drawCachedString(text.getCache());
+    }
+
     private void check() {
         if (isTextMode != null && isTextMode) {
             throw new AssertionError("drawing atlas in text mode");
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.common;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link FastMath} with {@link Math} and the libGDX tables over a thousand angles and vectors, one call at a
+ * time and batched, the way the sprites of an object are turned to the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FastMathBenchmark {
+    private static final int COUNT = 1000;
+
+    private final float[] angles = new float[COUNT];
+    private final float[] xs = new float[COUNT];
+    private final float[] ys = new float[COUNT];
+    private final float[] results = new float[COUNT];
+    private final Vector2[] vectors = new Vector2[COUNT];
+
+    @Setup
+    public void setUp() {
+        RandomStream random = new RandomStream(42);
+        for (int i = 0; i < COUNT; i++) {
+            angles[i] = random.randomFloat(360);
+            xs[i] = random.randomFloat(1);
+            ys[i] = random.randomFloat(1);
+            vectors[i] = new Vector2(xs[i], ys[i]);
+        }
+    }
+
+    @Benchmark
+    public float sinCosMath() {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            double radians = Math.toRadians(angles[i]);
+            sum += (float) Math.sin(radians) + (float) Math.cos(radians);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float sinCosLibGdx() {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum += MathUtils.sinDeg(angles[i]) + MathUtils.cosDeg(angles[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float sinCosFast() {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum += FastMath.sin(angles[i]) + FastMath.cos(angles[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float atan2Math() {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum += (float) Math.toDegrees(Math.atan2(ys[i], xs[i]));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float atan2LibGdx() {
+        float sum = 0;
+        for (int i = 0; i < COUNT; i++) {
+            sum += MathUtils.atan2(ys[i], xs[i]) * MathUtils.radDeg;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float[] atan2FastBatch() {
+        FastMath.atan2(ys, xs, results, COUNT);
+        return results;
+    }
+
+    @Benchmark
+    public Vector2[] rotateVectors() {
+        for (int i = 0; i < COUNT; i++) {
+            SolMath.rotate(vectors[i], 1, false);
+        }
+        return vectors;
+    }
+
+    @Benchmark
+    public float[] rotateFastBatch() {
+        FastMath.rotate(xs, ys, COUNT, 1);
+        return xs;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.common;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FastMathTest {
+    private static final int SAMPLES = 1000000;
+
+    @Test
+    public void sinAndCosWithinError() {
+        RandomStream random = new RandomStream(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            float degrees = (random.nextFloat() * 2 - 1) * 720;
+            double radians = Math.toRadians(degrees);
+            assertEquals(Math.sin(radians), FastMath.sin(degrees), FastMath.SIN_MAX_ERROR);
+            assertEquals(Math.cos(radians), FastMath.cos(degrees), FastMath.SIN_MAX_ERROR);
+        }
+    }
+
+    @Test
+    public void sinAndCosExactOnQuarterTurns() {
+        for (int quarter = -8; quarter <= 8; quarter++) {
+            float degrees = quarter * 90;
+            assertEquals(Math.round(Math.sin(Math.toRadians(degrees))), FastMath.sin(degrees), 1e-7f);
+            assertEquals(Math.round(Math.cos(Math.toRadians(degrees))), FastMath.cos(degrees), 1e-7f);
+        }
+    }
+
+    @Test
+    public void sinAndCosWithinErrorForHugeAngles() {
+        float[] angles = {1e5f, 1e7f, 1.9e8f, 1e9f, -1e9f, 3e38f, -Float.MAX_VALUE};
+        for (float degrees : angles) {
+            double radians = Math.toRadians(degrees % 360);
+            assertEquals(Math.sin(radians), FastMath.sin(degrees), FastMath.SIN_MAX_ERROR);
+            assertEquals(Math.cos(radians), FastMath.cos(degrees), FastMath.SIN_MAX_ERROR);
+        }
+        assertTrue(Float.isNaN(FastMath.sin(Float.POSITIVE_INFINITY)));
+        assertTrue(Float.isNaN(FastMath.cos(Float.NaN)));
+    }
+
+    @Test
+    public void atan2WithinError() {
+        RandomStream random = new RandomStream(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            // long thin vectors as well as round ones, both sides of the diagonal
+            float scale = i % 3 == 0 ? 1000 : 1;
+            float y = (random.nextFloat() * 2 - 1) * scale;
+            float x = random.nextFloat() * 2 - 1;
+            assertEquals(Math.toDegrees(Math.atan2(y, x)), FastMath.atan2(y, x), FastMath.ATAN2_MAX_ERROR);
+        }
+    }
+
+    @Test
+    public void atan2OnAxes() {
+        assertEquals(0, FastMath.atan2(0, 0), 0);
+        assertEquals(0, FastMath.atan2(0, 1), 0);
+        assertEquals(90, FastMath.atan2(1, 0), 0);
+        assertEquals(180, FastMath.atan2(0, -1), 0);
+        assertEquals(-90, FastMath.atan2(-1, 0), 0);
+        assertTrue(Float.isNaN(FastMath.atan2(Float.NaN, 1)));
+    }
+
+    @Test
+    public void batchesMatchSingleCalls() {
+        RandomStream random = new RandomStream(42);
+        int count = 100;
+        float[] xs = new float[count];
+        float[] ys = new float[count];
+        float[] rotatedXs = new float[count];
+        float[] rotatedYs = new float[count];
+        for (int i = 0; i < count; i++) {
+            xs[i] = random.nextFloat() * 2 - 1;
+            ys[i] = random.nextFloat() * 2 - 1;
+        }
+        System.arraycopy(xs, 0, rotatedXs, 0, count);
+        System.arraycopy(ys, 0, rotatedYs, 0, count);
+        FastMath.rotate(rotatedXs, rotatedYs, count, 30);
+        float[] angles = new float[count];
+        FastMath.atan2(ys, xs, angles, count);
+        for (int i = 0; i < count; i++) {
+            assertEquals(xs[i] * FastMath.cos(30) - ys[i] * FastMath.sin(30), rotatedXs[i], 0);
+            assertEquals(xs[i] * FastMath.sin(30) + ys[i] * FastMath.cos(30), rotatedYs[i], 0);
+            assertEquals(FastMath.atan2(ys[i], xs[i]), angles[i], 0);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.common;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link RandomStream} with {@link Random}, both drawing single numbers and the way a chunk is filled:
+ * seeding a generator for the chunk and drawing the few dozen numbers its contents need.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RandomStreamBenchmark {
+    private static final int CHUNK_DRAWS = 64;
+
+    private final Random random = new Random(42);
+    private final RandomStream stream = new RandomStream(42);
+    private long chunkKey;
+
+    @Benchmark
+    public float nextFloatRandom() {
+        return random.nextFloat();
+    }
+
+    @Benchmark
+    public float nextFloatStream() {
+        return stream.nextFloat();
+    }
+
+    @Benchmark
+    public int nextIntRandom() {
+        return random.nextInt(100);
+    }
+
+    @Benchmark
+    public int nextIntStream() {
+        return stream.nextInt(100);
+    }
+
+    @Benchmark
+    public float fillChunkNewRandom() {
+        Random chunkRandom = new Random(RandomStream.mix(chunkKey++));
+        float sum = 0;
+        for (int i = 0; i < CHUNK_DRAWS; i++) {
+            sum += chunkRandom.nextFloat();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float fillChunkResetStream() {
+        stream.reset(RandomStream.mix(chunkKey++));
+        float sum = 0;
+        for (int i = 0; i < CHUNK_DRAWS; i++) {
+            sum += stream.nextFloat();
+        }
+        return sum;
+    }
+}
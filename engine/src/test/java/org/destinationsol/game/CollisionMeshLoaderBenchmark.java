@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.JsonReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+/**
+ * Measures how many bodies per second can get their collision mesh attached, the way shards and asteroids
+ * (random scale) and ships (fixed scale) are spawned.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CollisionMeshLoaderBenchmark {
+    private static final String MESH_NAME = "rock";
+    // An asteroid-like outline split into four convex parts, plus a circle
+    private static final String MESH = "{name: rock, origin: {x: 0.5, y: 0.5}, "
+            + "polygons: ["
+            + "[{x: 0.5, y: 0.5}, {x: 0.1, y: 0.3}, {x: 0.3, y: 0.05}, {x: 0.6, y: 0.0}, {x: 0.9, y: 0.2}],"
+            + "[{x: 0.5, y: 0.5}, {x: 0.9, y: 0.2}, {x: 1.0, y: 0.5}, {x: 0.9, y: 0.8}],"
+            + "[{x: 0.5, y: 0.5}, {x: 0.9, y: 0.8}, {x: 0.6, y: 1.0}, {x: 0.3, y: 0.95}, {x: 0.1, y: 0.7}],"
+            + "[{x: 0.5, y: 0.5}, {x: 0.1, y: 0.7}, {x: 0.0, y: 0.5}, {x: 0.1, y: 0.3}]"
+            + "], "
+            + "shapes: [], "
+            + "circles: [{cx: 0.5, cy: 0.5, r: 0.2}]}";
+
+    private CollisionMeshLoader loader;
+    private World world;
+    private BodyDef bodyDef;
+    private FixtureDef fixtureDef;
+    private Random random;
+    private int spawnCount;
+
+    @Setup
+    public void setUp() {
+        Box2D.init();
+        loader = new CollisionMeshLoader();
+        loader.readRigidBody(new JsonReader().parse(MESH));
+        world = new World(new Vector2(), true);
+        bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody;
+        fixtureDef = new FixtureDef();
+        fixtureDef.density = 1;
+        random = new Random(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public Body spawnAtRandomScale() {
+        return spawn(.5f + random.nextFloat());
+    }
+
+    @Benchmark
+    public Body spawnAtFixedScale() {
+        return spawn(1.5f);
+    }
+
+    private Body spawn(float scale) {
+        Body body = world.createBody(bodyDef);
+        loader.attachFixture(body, MESH_NAME, fixtureDef, scale);
+        world.destroyBody(body);
+        // like a game frame would, lets the broadphase forget the destroyed proxies
+        if (++spawnCount % 64 == 0) {
+            world.step(0, 1, 1);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.JsonValue;
+import org.destinationsol.assets.Assets;
+import org.destinationsol.assets.json.Json;
+import org.destinationsol.game.particle.EffectConfig;
+import org.destinationsol.game.particle.EffectType;
+import org.destinationsol.game.particle.EffectTypes;
+import org.destinationsol.testingUtilities.InitializationUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.terasology.assets.ResourceUrn;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading every effect definition of the bundled configs and hulls, through one {@link ConfigRegistry}, and
+ * the way they were loaded before the registry: a new config and texture region per definition, and a new
+ * {@link GameColors} and {@link EffectTypes} for every particle emitter slot of a hull.
+ * <p>
+ * After the measurement, each fork also prints the heap the loaded configs keep, see {@link #printRetainedHeap()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConfigRegistryBenchmark {
+    // the textures are only available on the render thread, so the loads are posted there in batches
+    private static final int LOADS_PER_INVOCATION = 20;
+
+    private final List<JsonValue> hullEffects = new ArrayList<>();
+    private final List<JsonValue> otherEffects = new ArrayList<>();
+    // what a game keeps of a load, only reachable while the heap is measured
+    private Object retained;
+
+    @Setup
+    public void setUp() {
+        InitializationUtilities.init();
+        for (ResourceUrn urn : Assets.getAssetHelper().list(Json.class)) {
+            JsonValue rootNode = Assets.getJson(urn.toString()).getJsonValue();
+            collectEffects(rootNode, rootNode.has("particleEmitters") ? hullEffects : otherEffects);
+        }
+    }
+
+    private static void collectEffects(JsonValue node, List<JsonValue> effects) {
+        if (node.isObject() && node.has("effectFile")) {
+            effects.add(node);
+            return;
+        }
+        for (JsonValue child : node) {
+            collectEffects(child, effects);
+        }
+    }
+
+    /**
+     * @return the registry, which the game keeps with all the configs it loaded
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOADS_PER_INVOCATION)
+    public ConfigRegistry registry() throws InterruptedException {
+        return onRenderThread(() -> {
+            ConfigRegistry configRegistry = new ConfigRegistry(null);
+            for (JsonValue node : otherEffects) {
+                EffectConfig.load(node, configRegistry);
+            }
+            for (JsonValue node : hullEffects) {
+                EffectConfig.load(node, configRegistry);
+            }
+            return configRegistry;
+        });
+    }
+
+    /**
+     * @return the configs, and the colors and effect types the game kept next to them
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOADS_PER_INVOCATION)
+    public List<Object> perDefinition() throws InterruptedException {
+        return onRenderThread(() -> {
+            EffectTypes effectTypes = new EffectTypes();
+            GameColors gameColors = new GameColors();
+            List<Object> loaded = new ArrayList<>();
+            loaded.add(effectTypes);
+            loaded.add(gameColors);
+            for (JsonValue node : otherEffects) {
+                loaded.add(loadPerDefinition(node, effectTypes, gameColors));
+            }
+            for (JsonValue node : hullEffects) {
+                loaded.add(loadPerDefinition(node, new EffectTypes(), new GameColors()));
+            }
+            return loaded;
+        });
+    }
+
+    private static EffectConfig loadPerDefinition(JsonValue node, EffectTypes types, GameColors cols) {
+        EffectType effectType = types.forName(node.getString("effectFile"));
+        float size = node.getFloat("size", 0);
+        boolean floatsUp = node.getBoolean("floatsUp", false);
+        Color tint = cols.load(node.getString("tint"));
+        TextureAtlas.AtlasRegion tex = Assets.getAtlasRegion(node.getString("tex") + "Particle");
+        return new EffectConfig(effectType, size, tex, floatsUp, tint);
+    }
+
+    /**
+     * Prints the heap kept by one load of each kind: the used heap after a full collection with the load reachable,
+     * minus the used heap after a full collection without it. The emitter files and textures are cached assets, which
+     * both kinds share, so they are not counted.
+     */
+    @TearDown
+    public void printRetainedHeap() throws InterruptedException {
+        System.out.println("Retained heap per load: registry " + retainedBytes(this::registry) + " B, per definition "
+                + retainedBytes(this::perDefinition) + " B");
+    }
+
+    private long retainedBytes(Load<?> load) throws InterruptedException {
+        retained = load.run();
+        long withLoad = usedHeapAfterGc();
+        retained = null;
+        return withLoad - usedHeapAfterGc();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        // a single request may leave garbage behind, the used heap settles after a few
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static <T> T onRenderThread(RenderThreadLoad<T> load) throws InterruptedException {
+        List<T> loaded = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        Gdx.app.postRunnable(() -> {
+            for (int i = 0; i < LOADS_PER_INVOCATION; i++) {
+                loaded.add(load.run());
+            }
+            done.countDown();
+        });
+        done.await();
+        return loaded.get(LOADS_PER_INVOCATION - 1);
+    }
+
+    private interface RenderThreadLoad<T> {
+        T run();
+    }
+
+    private interface Load<T> {
+        T run() throws InterruptedException;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.Const;
+import org.destinationsol.game.maze.MazeTileObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one tick over ten thousand dormant maze tiles, all too far to be rebuilt, kept in a {@link FarObjectStore}
+ * and as a list of {@link FarObjData} the way {@link ObjectManager} keeps the other far objects. The delays are reset
+ * before every tick, so every object has its distance to the camera computed, like after a camera jump.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FarObjectStoreBenchmark {
+    private static final int OBJECT_COUNT = 10000;
+    private static final float FAR_END_DIST = 20;
+    private static final float TIME_STEP = Const.REAL_TIME_STEP;
+
+    private final Vector2 camPos = new Vector2();
+    private final List<SolObject> nearObjs = new ArrayList<>();
+    private FarObjectStore store;
+    private List<FarObjData> farObjs;
+
+    @Setup
+    public void setUp() {
+        store = new FarObjectStore();
+        farObjs = new ArrayList<>();
+        int side = (int) Math.sqrt(OBJECT_COUNT);
+        for (int i = 0; i < OBJECT_COUNT; i++) {
+            Vector2 position = new Vector2(1000 + (i % side) * 3.5f, 1000 + (i / side) * 3.5f);
+            MazeTileObject.MyFar tile = new MazeTileObject.MyFar(null, i % 4 * 90, position, i % 2 == 0);
+            store.add(tile);
+            farObjs.add(new FarObjData(tile, 1));
+        }
+    }
+
+    @Benchmark
+    public int tickStore() {
+        store.resetDelays();
+        store.update(null, null, camPos, FAR_END_DIST, TIME_STEP, nearObjs);
+        return nearObjs.size();
+    }
+
+    @Benchmark
+    public int tickObjects() {
+        int near = 0;
+        for (FarObjData fod : farObjs) {
+            fod.delay = 0;
+        }
+        for (FarObjData fod : farObjs) {
+            FarObject fo = fod.fo;
+            fo.update(null);
+            if (fo.shouldBeRemoved(null)) {
+                continue;
+            }
+            if (fod.delay > 0) {
+                fod.delay -= TIME_STEP;
+                continue;
+            }
+            float dst = fo.getPosition().dst(camPos) - fo.getRadius() * fod.depth;
+            if (dst < FAR_END_DIST) {
+                near++;
+                continue;
+            }
+            fod.delay = (dst - FAR_END_DIST) / (2 * Const.MAX_MOVE_SPD);
+        }
+        return near;
+    }
+}
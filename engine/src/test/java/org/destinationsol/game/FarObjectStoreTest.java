@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game;
+
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.Const;
+import org.destinationsol.game.maze.MazeTileObject;
+import org.destinationsol.testingUtilities.AllocationBudget;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class FarObjectStoreTest {
+
+    private static final int TILE_COUNT = 10000;
+    private static final float FAR_END_DIST = 20;
+
+    private FarObjectStore store;
+    private List<SolObject> nearObjs;
+
+    @Before
+    public void setUp() {
+        store = new FarObjectStore();
+        nearObjs = new ArrayList<>();
+        for (int i = 0; i < TILE_COUNT; i++) {
+            Vector2 position = new Vector2(1000 + (i % 100) * 3.5f, 1000 + (i / 100) * 3.5f);
+            store.add(new MazeTileObject.MyFar(null, 0, position, false));
+        }
+    }
+
+    @Test
+    public void keepsFarTiles() {
+        assertEquals(TILE_COUNT, store.size());
+        store.update(null, null, new Vector2(), FAR_END_DIST, Const.REAL_TIME_STEP, nearObjs);
+        assertEquals(TILE_COUNT, store.size());
+        assertEquals(0, nearObjs.size());
+    }
+
+    @Test
+    public void dormantTicksDontAllocate() {
+        // the camera flies around, never close enough to rebuild a tile
+        Vector2 camPos = new Vector2();
+        AllocationBudget.assertTickBudget("Far store tick", tick -> {
+            camPos.set(tick % 300, tick % 200);
+            if (tick % 60 == 0) {
+                store.resetDelays();
+            }
+            store.update(null, null, camPos, FAR_END_DIST, Const.REAL_TIME_STEP, nearObjs);
+        }, 1000, 1000, 16);
+    }
+}
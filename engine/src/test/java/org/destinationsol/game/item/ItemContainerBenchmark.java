@@ -0,0 +1,144 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.item;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import org.destinationsol.game.SolGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the item container queries done for every ship and loot on every tick, on an inventory of 30 stacks.
+ * The looked up item is in the stack that was added first, the last one in the iteration order.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemContainerBenchmark {
+    private static final int STACK_COUNT = 30;
+    private static final int STACK_SIZE = 10;
+
+    private ItemContainer container;
+    private SolItem firstStackItem;
+    private SolItem unstackableItem;
+
+    @Setup
+    public void setUp() {
+        container = new ItemContainer();
+        for (int i = 0; i < STACK_COUNT; i++) {
+            for (int j = 0; j < STACK_SIZE; j++) {
+                container.add(new BenchmarkItem("item" + i, true));
+            }
+        }
+        firstStackItem = new BenchmarkItem("item0", true);
+        unstackableItem = new BenchmarkItem("gun", false);
+    }
+
+    @Benchmark
+    public boolean canAdd() {
+        return container.canAdd(firstStackItem);
+    }
+
+    @Benchmark
+    public boolean canAddUnstackable() {
+        return container.canAdd(unstackableItem);
+    }
+
+    @Benchmark
+    public int count() {
+        return container.count(firstStackItem);
+    }
+
+    @Benchmark
+    public boolean addAndRemove() {
+        container.add(firstStackItem);
+        boolean contained = container.contains(firstStackItem);
+        container.remove(firstStackItem);
+        return contained;
+    }
+
+    private static class BenchmarkItem implements SolItem {
+        private final String code;
+        private final boolean stackable;
+
+        BenchmarkItem(String code, boolean stackable) {
+            this.code = code;
+            this.stackable = stackable;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return code;
+        }
+
+        @Override
+        public float getPrice() {
+            return 0;
+        }
+
+        @Override
+        public String getDescription() {
+            return code;
+        }
+
+        @Override
+        public SolItem copy() {
+            return new BenchmarkItem(code, stackable);
+        }
+
+        @Override
+        public boolean isSame(SolItem item) {
+            return stackable && item instanceof BenchmarkItem && ((BenchmarkItem) item).code.equals(code);
+        }
+
+        @Override
+        public TextureAtlas.AtlasRegion getIcon(SolGame game) {
+            return null;
+        }
+
+        @Override
+        public SolItemType getItemType() {
+            return null;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public int isEquipped() {
+            return 0;
+        }
+
+        @Override
+        public void setEquipped(int equipped) {
+        }
+    }
+}
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.item;
+
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import org.destinationsol.Const;
+import org.destinationsol.common.RandomStream;
+import org.destinationsol.game.SolGame;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ItemContainerTest {
+    private static final int MAX_GROUP_COUNT = 4 * Const.ITEM_GROUPS_PER_PAGE;
+    private static final int MAX_STACK_SIZE = 30;
+    private static final int OPERATIONS = 200000;
+
+    @Test
+    public void stacksSameItemsAndPutsNewGroupsFirst() {
+        ItemContainer container = new ItemContainer();
+        TestItem shell = new TestItem("shell", true);
+        TestItem kit = new TestItem("kit", true);
+        TestItem gun = new TestItem("gun", false);
+        TestItem otherGun = new TestItem("gun", false);
+        container.add(shell);
+        container.add(kit);
+        container.add(gun);
+        container.add(otherGun);
+        TestItem secondShell = new TestItem("shell", true);
+        container.add(secondShell);
+
+        assertEquals(4, container.groupCount());
+        assertSame(otherGun, container.getGroup(0).get(0));
+        assertSame(gun, container.getGroup(1).get(0));
+        assertSame(kit, container.getGroup(2).get(0));
+        assertSame(shell, container.getGroup(3).get(0));
+        assertSame(secondShell, container.getGroup(3).get(1));
+        assertEquals(2, container.count(new TestItem("shell", true)));
+        assertEquals(0, container.count(new TestItem("gun", false)));
+        assertTrue(container.isNew(container.getGroup(3)));
+    }
+
+    @Test
+    public void removesItemsAndEmptyGroups() {
+        ItemContainer container = new ItemContainer();
+        TestItem shell = new TestItem("shell", true);
+        TestItem secondShell = new TestItem("shell", true);
+        TestItem kit = new TestItem("kit", true);
+        container.add(shell);
+        container.add(secondShell);
+        container.add(kit);
+        List<SolItem> shells = container.getGroup(1);
+
+        container.remove(shell);
+        assertFalse(container.contains(shell));
+        assertTrue(container.contains(secondShell));
+        assertTrue(container.containsGroup(shells));
+        assertEquals(1, container.count(shell));
+
+        assertTrue(container.tryConsumeItem(new TestItem("shell", true)));
+        assertFalse(container.contains(secondShell));
+        assertFalse(container.containsGroup(shells));
+        assertFalse(container.isNew(shells));
+        assertEquals(0, container.count(shell));
+        assertFalse(container.tryConsumeItem(new TestItem("shell", true)));
+        assertEquals(1, container.groupCount());
+
+        // a stack emptied and filled again is a new group at the front
+        container.add(shell);
+        assertSame(shell, container.getGroup(0).get(0));
+        assertSame(kit, container.getGroup(1).get(0));
+
+        container.remove(new TestItem("kit", true));
+        assertTrue(container.contains(kit));
+        container.clear();
+        assertEquals(0, container.groupCount());
+        assertFalse(container.contains(shell));
+        assertFalse(container.hasNew());
+        assertNull(container.getRandom());
+    }
+
+    @Test
+    public void limitsStackSizeAndGroupCount() {
+        ItemContainer container = new ItemContainer();
+        for (int i = 0; i < MAX_STACK_SIZE + 5; i++) {
+            container.add(new TestItem("shell", true));
+        }
+        assertEquals(MAX_STACK_SIZE, container.count(new TestItem("shell", true)));
+        assertFalse(container.canAdd(new TestItem("shell", true)));
+        for (int i = 1; i < MAX_GROUP_COUNT; i++) {
+            assertTrue(container.canAdd(new TestItem("gun", false)));
+            container.add(new TestItem("gun", false));
+        }
+        assertFalse(container.canAdd(new TestItem("gun", false)));
+        assertFalse(container.canAdd(new TestItem("kit", true)));
+    }
+
+    /**
+     * Runs the same random operations on the container and on a copy of the container as it was before it indexed the
+     * stacks, which searched all the groups for every query, and compares the answers and the groups after each step.
+     */
+    @Test
+    public void behavesLikeListScan() {
+        RandomStream random = new RandomStream(42);
+        ItemContainer container = new ItemContainer();
+        ListScanContainer expected = new ListScanContainer();
+        List<SolItem> added = new ArrayList<>();
+        for (int i = 0; i < OPERATIONS; i++) {
+            SolItem example = randomItem(random);
+            int operation = random.randomInt(8);
+            switch (operation) {
+                case 0:
+                case 1:
+                    container.add(example);
+                    expected.add(example);
+                    added.add(example);
+                    break;
+                case 2:
+                case 3:
+                    if (!added.isEmpty()) {
+                        SolItem item = added.remove(random.randomInt(added.size()));
+                        container.remove(item);
+                        expected.remove(item);
+                    }
+                    break;
+                case 4:
+                    assertEquals(expected.tryConsumeItem(example), container.tryConsumeItem(example));
+                    break;
+                case 5:
+                    if (container.groupCount() > 0) {
+                        int groupIdx = random.randomInt(container.groupCount());
+                        container.seen(container.getGroup(groupIdx));
+                        expected.seen(expected.groups.get(groupIdx));
+                    }
+                    break;
+                case 6:
+                    assertEquals(expected.count(example), container.count(example));
+                    assertEquals(expected.canAdd(example), container.canAdd(example));
+                    break;
+                default:
+                    if (!added.isEmpty()) {
+                        SolItem item = added.get(random.randomInt(added.size()));
+                        assertEquals(expected.contains(item), container.contains(item));
+                    }
+                    assertEquals(expected.contains(example), container.contains(example));
+            }
+            assertSameGroups(expected, container);
+            if (random.test(.0005f)) {
+                container.clear();
+                expected.clear();
+                added.clear();
+            }
+        }
+    }
+
+    private static SolItem randomItem(RandomStream random) {
+        int code = random.randomInt(MAX_GROUP_COUNT + 4);
+        // the last codes are guns, which never stack
+        return new TestItem("item" + code, code < MAX_GROUP_COUNT);
+    }
+
+    private static void assertSameGroups(ListScanContainer expected, ItemContainer container) {
+        assertEquals(expected.groups.size(), container.groupCount());
+        assertEquals(!expected.newGroups.isEmpty(), container.hasNew());
+        for (int i = 0; i < expected.groups.size(); i++) {
+            List<SolItem> expectedGroup = expected.groups.get(i);
+            List<SolItem> group = container.getGroup(i);
+            assertEquals(expectedGroup.size(), group.size());
+            for (int j = 0; j < group.size(); j++) {
+                assertSame(expectedGroup.get(j), group.get(j));
+            }
+            assertEquals(expected.isNew(expectedGroup), container.isNew(group));
+            assertTrue(container.containsGroup(group));
+        }
+    }
+
+    /**
+     * The item container before the stacks were indexed by item code.
+     */
+    private static class ListScanContainer {
+        private final List<List<SolItem>> groups = new ArrayList<>();
+        private final List<List<SolItem>> newGroups = new ArrayList<>();
+
+        boolean tryConsumeItem(SolItem example) {
+            for (List<SolItem> group : groups) {
+                SolItem item = group.get(0);
+                if (!example.isSame(item)) {
+                    continue;
+                }
+                remove(item);
+                return true;
+            }
+            return false;
+        }
+
+        int count(SolItem example) {
+            for (List<SolItem> group : groups) {
+                SolItem item = group.get(0);
+                if (example.isSame(item)) {
+                    return group.size();
+                }
+            }
+            return 0;
+        }
+
+        boolean canAdd(SolItem example) {
+            for (List<SolItem> group : groups) {
+                SolItem item = group.get(0);
+                if (item.isSame(example)) {
+                    return group.size() < MAX_STACK_SIZE;
+                }
+            }
+            return groups.size() < MAX_GROUP_COUNT;
+        }
+
+        void add(SolItem addedItem) {
+            for (List<SolItem> group : groups) {
+                SolItem item = group.get(0);
+                if (item.isSame(addedItem)) {
+                    if (group.size() < MAX_STACK_SIZE) {
+                        group.add(addedItem);
+                    }
+                    return;
+                }
+            }
+            List<SolItem> group = new ArrayList<>();
+            group.add(addedItem);
+            groups.add(0, group);
+            newGroups.add(group);
+        }
+
+        boolean contains(SolItem item) {
+            for (List<SolItem> group : groups) {
+                if (group.contains(item)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void remove(SolItem item) {
+            List<SolItem> remGroup = null;
+            for (List<SolItem> group : groups) {
+                boolean removed = group.remove(item);
+                if (group.isEmpty()) {
+                    remGroup = group;
+                }
+                if (removed) {
+                    break;
+                }
+            }
+            if (remGroup != null) {
+                removeGroup(groups, remGroup);
+                removeGroup(newGroups, remGroup);
+            }
+        }
+
+        // groups are compared by identity, the old container's list equality can't tell two stacks of one item apart
+        private static void removeGroup(List<List<SolItem>> groups, List<SolItem> group) {
+            for (int i = 0; i < groups.size(); i++) {
+                if (groups.get(i) == group) {
+                    groups.remove(i);
+                    return;
+                }
+            }
+        }
+
+        boolean isNew(List<SolItem> group) {
+            for (List<SolItem> newGroup : newGroups) {
+                if (newGroup == group) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void seen(List<SolItem> group) {
+            removeGroup(newGroups, group);
+        }
+
+        void clear() {
+            groups.clear();
+            newGroups.clear();
+        }
+    }
+
+    private static class TestItem implements SolItem {
+        private final String code;
+        private final boolean stackable;
+
+        TestItem(String code, boolean stackable) {
+            this.code = code;
+            this.stackable = stackable;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return code;
+        }
+
+        @Override
+        public float getPrice() {
+            return 0;
+        }
+
+        @Override
+        public String getDescription() {
+            return code;
+        }
+
+        @Override
+        public SolItem copy() {
+            return new TestItem(code, stackable);
+        }
+
+        @Override
+        public boolean isSame(SolItem item) {
+            return stackable && item instanceof TestItem && ((TestItem) item).code.equals(code);
+        }
+
+        @Override
+        public TextureAtlas.AtlasRegion getIcon(SolGame game) {
+            return null;
+        }
+
+        @Override
+        public SolItemType getItemType() {
+            return null;
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public int isEquipped() {
+            return 0;
+        }
+
+        @Override
+        public void setEquipped(int equipped) {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.item;
+
+import org.destinationsol.testingUtilities.InitializationUtilities;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling the inventories of spawned ships, the way {@link org.destinationsol.game.ship.ShipBuilder#buildNewFar}
+ * does for every ship of a chunk or a planet. The specs are ones of the core ship configs, with chances and alternatives.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ItemManagerBenchmark {
+    private static final String[] SPECS = {
+            "core:nailGun core:mediumArmor 0.5|core:shield",
+            "core:rocketLauncher 0.4|core:lightArmor+core:mediumArmor 0.4|core:smallShield+core:shield",
+            "core:nailGun core:missileLauncher core:mediumArmor core:shield+core:bigShield",
+            "core:plasmaGun+core:blaster 0.24|core:smallShield"
+    };
+
+    private ItemManager itemManager;
+    private int spec;
+
+    @Setup
+    public void setUp() {
+        InitializationUtilities.init();
+        itemManager = InitializationUtilities.game.getItemMan();
+    }
+
+    @Benchmark
+    public ItemContainer spawnShip() {
+        ItemContainer container = new ItemContainer();
+        itemManager.fillContainer(container, SPECS[spec]);
+        spec = (spec + 1) % SPECS.length;
+        return container;
+    }
+}
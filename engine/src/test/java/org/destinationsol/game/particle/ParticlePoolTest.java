@@ -0,0 +1,278 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.particle;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.destinationsol.assets.Assets;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.game.drawables.DrawableLevel;
+import org.destinationsol.testingUtilities.InitializationUtilities;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Steps the particles of a {@link DSParticleEmitter} and a libGDX {@link ParticleEmitter} set up the way
+ * DSParticleEmitter set up its own emitter before the particles were pooled, from the same random seed, and compares
+ * the particles after every step. Both draw the same random numbers in the same order, but keep the particles in a
+ * different order, so every value is compared as a sorted column.
+ */
+public class ParticlePoolTest {
+    private static final long SEED = 42;
+    private static final float TIME_STEP = 1 / 60f;
+    private static final int STEPS = 240;
+    private static final float X = 3;
+    private static final float Y = -2;
+    private static final float EPSILON = 1e-4f;
+
+    static {
+        InitializationUtilities.init();
+    }
+
+    @Test
+    public void explosionMatchesParticleEmitter() throws Throwable {
+        compare("core:explFire", "core:fire");
+    }
+
+    @Test
+    public void sparksMatchParticleEmitter() throws Throwable {
+        compare("core:spark", "core:spark");
+    }
+
+    @Test
+    public void ellipseFlameMatchesParticleEmitter() throws Throwable {
+        compare("core:flame", "core:fire");
+    }
+
+    /**
+     * Runs both simulations on the render thread, where the textures are available and nothing else draws from
+     * {@link MathUtils#random} meanwhile.
+     */
+    private static void compare(String effectFile, String texName) throws Throwable {
+        Throwable[] failure = new Throwable[1];
+        CountDownLatch done = new CountDownLatch(1);
+        Gdx.app.postRunnable(() -> {
+            try {
+                EffectConfig config = new EffectConfig(new EffectType(effectFile), 1,
+                        Assets.getAtlasRegion(texName + "Particle"), false, new Color(.3f, .8f, .5f, 1));
+                List<Snapshot> expected = runParticleEmitter(config);
+                List<Snapshot> actual = runPool(config, InitializationUtilities.game);
+                assertEquals(STEPS, actual.size());
+                boolean emitted = false;
+                for (int step = 0; step < STEPS; step++) {
+                    expected.get(step).assertMatches(actual.get(step), step);
+                    emitted |= actual.get(step).count > 0;
+                }
+                assertTrue("no particles emitted", emitted);
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static List<Snapshot> runParticleEmitter(EffectConfig config) {
+        List<TestParticle> drawn = new ArrayList<>();
+        ParticleEmitter emitter = new ParticleEmitter(config.emitter.getEmitter()) {
+            @Override
+            protected Particle newParticle(Sprite sprite) {
+                return new TestParticle(sprite, drawn);
+            }
+        };
+        emitter.setAdditive(false);
+        emitter.setSprite(new Sprite(config.tex));
+        float[] tint = emitter.getTint().getColors();
+        tint[0] = config.tint.r;
+        tint[1] = config.tint.g;
+        tint[2] = config.tint.b;
+        emitter.setPosition(X, Y);
+        if (config.emitter.continuous) {
+            // the speed of a continuous emitter is only set by its first update after it starts working
+            emitter.setContinuous(true);
+            emitter.allowCompletion();
+        } else {
+            setStill(emitter.getWind());
+            setStill(emitter.getGravity());
+        }
+        MathUtils.random.setSeed(SEED);
+        emitter.start();
+
+        // the particles only tell that they are active by being drawn
+        Batch batch = (Batch) Proxy.newProxyInstance(Batch.class.getClassLoader(), new Class<?>[] {Batch.class},
+                (proxy, method, args) -> null);
+        List<Snapshot> snapshots = new ArrayList<>();
+        for (int step = 0; step < STEPS; step++) {
+            emitter.update(TIME_STEP);
+            drawn.clear();
+            emitter.draw(batch);
+            Snapshot snapshot = new Snapshot(drawn.size());
+            for (int i = 0; i < drawn.size(); i++) {
+                drawn.get(i).write(snapshot, i);
+            }
+            snapshots.add(snapshot);
+        }
+        return snapshots;
+    }
+
+    private static void setStill(ParticleEmitter.ScaledNumericValue value) {
+        value.setActive(true);
+        value.setHigh(0);
+        value.setLow(0);
+    }
+
+    private static List<Snapshot> runPool(EffectConfig config, SolGame game) {
+        DrawableLevel level = DrawableLevel.PART_FG_0;
+        if (!config.emitter.continuous) {
+            MathUtils.random.setSeed(SEED);
+        }
+        DSParticleEmitter emitter = new DSParticleEmitter(config, 1, level, new Vector2(), false, game, new Vector2(),
+                new Vector2(), 0);
+        emitter.x = X;
+        emitter.y = Y;
+        if (config.emitter.continuous) {
+            MathUtils.random.setSeed(SEED);
+            emitter.setWorking(true);
+        }
+        ParticlePool pool = game.getParticleEngine().getPool(config, level);
+
+        List<Snapshot> snapshots = new ArrayList<>();
+        float accumulator = 0;
+        for (int step = 0; step < STEPS; step++) {
+            // the same steps as the ParticleEngine, without the other pools of the game
+            emitter.emit(TIME_STEP);
+            accumulator += TIME_STEP * 1000;
+            if (accumulator >= 1) {
+                int deltaMillis = (int) accumulator;
+                accumulator -= deltaMillis;
+                pool.update(TIME_STEP, deltaMillis, step);
+            }
+            Snapshot snapshot = new Snapshot(pool.size());
+            for (int i = 0; i < pool.size(); i++) {
+                snapshot.set(i, pool.getLife(i), pool.getCurrentLife(i), pool.getX(i), pool.getY(i), pool.getSize(i),
+                        pool.getVelocity(i), pool.getVelocityDiff(i), pool.getColor(i));
+            }
+            snapshots.add(snapshot);
+        }
+        pool.removeAll(emitter);
+        return snapshots;
+    }
+
+    private static class TestParticle extends ParticleEmitter.Particle {
+        private final List<TestParticle> drawn;
+
+        TestParticle(Sprite sprite, List<TestParticle> drawn) {
+            super(sprite);
+            this.drawn = drawn;
+        }
+
+        @Override
+        public void draw(Batch batch) {
+            drawn.add(this);
+        }
+
+        void write(Snapshot snapshot, int i) {
+            // the sprite is positioned by its corner and scaled around its center
+            float x = getX() + getOriginX();
+            float y = getY() + getOriginY();
+            snapshot.set(i, life, currentLife, x, y, getWidth() * getScaleX(), velocity, velocityDiff,
+                    getVertices()[SpriteBatch.C1]);
+        }
+    }
+
+    /**
+     * The live particles after a step, each value as a column.
+     */
+    private static class Snapshot {
+        final int count;
+        final int[] lives;
+        final int[] currentLives;
+        final float[] xs;
+        final float[] ys;
+        final float[] sizes;
+        final float[] velocities;
+        final float[] velocityDiffs;
+        final int[] colors;
+
+        Snapshot(int count) {
+            this.count = count;
+            lives = new int[count];
+            currentLives = new int[count];
+            xs = new float[count];
+            ys = new float[count];
+            sizes = new float[count];
+            velocities = new float[count];
+            velocityDiffs = new float[count];
+            colors = new int[count];
+        }
+
+        void set(int i, int life, int currentLife, float x, float y, float size, float velocity, float velocityDiff,
+                 float color) {
+            lives[i] = life;
+            currentLives[i] = currentLife;
+            xs[i] = x;
+            ys[i] = y;
+            sizes[i] = size;
+            velocities[i] = velocity;
+            velocityDiffs[i] = velocityDiff;
+            colors[i] = Float.floatToRawIntBits(color);
+        }
+
+        void assertMatches(Snapshot actual, int step) {
+            String at = " at step " + step;
+            assertEquals("particle count" + at, count, actual.count);
+            assertArrayEquals("life" + at, sorted(lives), sorted(actual.lives));
+            assertArrayEquals("current life" + at, sorted(currentLives), sorted(actual.currentLives));
+            assertArrayEquals("x" + at, sorted(xs), sorted(actual.xs), EPSILON);
+            assertArrayEquals("y" + at, sorted(ys), sorted(actual.ys), EPSILON);
+            assertArrayEquals("size" + at, sorted(sizes), sorted(actual.sizes), EPSILON);
+            assertArrayEquals("velocity" + at, sorted(velocities), sorted(actual.velocities), EPSILON);
+            assertArrayEquals("velocity diff" + at, sorted(velocityDiffs), sorted(actual.velocityDiffs), EPSILON);
+            assertArrayEquals("tint" + at, sorted(colors), sorted(actual.colors));
+        }
+
+        private static int[] sorted(int[] values) {
+            int[] copy = values.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        private static float[] sorted(float[] values) {
+            float[] copy = values.clone();
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
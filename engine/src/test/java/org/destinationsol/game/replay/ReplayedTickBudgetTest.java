@@ -0,0 +1,114 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.game.replay;
+
+import com.badlogic.gdx.Gdx;
+import org.destinationsol.SolApplication;
+import org.destinationsol.game.SolGame;
+import org.destinationsol.testingUtilities.AllocationBudget;
+import org.destinationsol.testingUtilities.InitializationUtilities;
+import org.junit.Test;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Starts a new game steered by a scripted {@link InputLog} and holds its ticks of {@link SolGame#update()} to a budget
+ * of allocated bytes, so that garbage creeping back into the game loop fails a test instead of causing GC pauses.
+ */
+public class ReplayedTickBudgetTest {
+    private static final long SEED = 42;
+    private static final String SHIP_NAME = "Imperial Small";
+    private static final int WARM_UP_TICKS = 600;
+    private static final int MEASURED_TICKS = 600;
+    private static final long BYTES_PER_TICK = 32 * 1024;
+
+    static {
+        InitializationUtilities.init();
+    }
+
+    @Test
+    public void flyingAndShootingStaysInBudget() throws Throwable {
+        File script = File.createTempFile("scripted", InputLog.FILE_EXTENSION);
+        script.deleteOnExit();
+        Throwable[] failure = new Throwable[1];
+        CountDownLatch done = new CountDownLatch(1);
+        Gdx.app.postRunnable(() -> {
+            SolApplication solApplication = InitializationUtilities.solApplication;
+            try {
+                writeScript(script, solApplication);
+                InputReplayer replayer = new InputReplayer(script.getPath());
+                solApplication.startReplayedGame(replayer);
+                SolGame game = solApplication.getGame();
+                try {
+                    AllocationBudget.assertTickBudget("Game tick", tick -> {
+                        try {
+                            if (!replayer.startTick(game)) {
+                                throw new AssertionError("The script ended at tick " + tick);
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        game.update();
+                    }, WARM_UP_TICKS, MEASURED_TICKS, BYTES_PER_TICK);
+                } finally {
+                    solApplication.finishReplayedGame();
+                }
+            } catch (Throwable t) {
+                failure[0] = t;
+            } finally {
+                done.countDown();
+            }
+        });
+        done.await();
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    /**
+     * Flies around and shoots at whatever is in front, for all of the warm up and measured ticks.
+     */
+    private static void writeScript(File script, SolApplication solApplication) throws IOException {
+        InputLog.Header header = InputLog.Header.capture(solApplication.getOptions(), SHIP_NAME, false,
+                Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        header.worldSeed = SEED;
+        header.randomSeed = SEED;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(script)))) {
+            header.write(out);
+            int ticks = 0;
+            while (ticks < WARM_UP_TICKS + MEASURED_TICKS) {
+                writeRun(out, InputLog.UP, 120);
+                writeRun(out, InputLog.UP | InputLog.LEFT | InputLog.SHOOT, 60);
+                writeRun(out, InputLog.SHOOT | InputLog.SHOOT2, 90);
+                writeRun(out, InputLog.UP | InputLog.RIGHT, 30);
+                ticks += 300;
+            }
+            out.writeByte(InputLog.TAG_END);
+        }
+    }
+
+    private static void writeRun(DataOutputStream out, int inputs, int length) throws IOException {
+        out.writeByte(InputLog.TAG_INPUTS);
+        out.writeByte(inputs);
+        InputLog.writeVarInt(out, length);
+    }
+}
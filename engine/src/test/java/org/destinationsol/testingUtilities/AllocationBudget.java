@@ -0,0 +1,68 @@
+/*
+ * Copyright 2018 MovingBlocks
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.destinationsol.testingUtilities;
+
+import org.destinationsol.game.AllocationTracker;
+import org.junit.Assume;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Holds tick based scenarios to a budget of allocated bytes. FarObjectStoreTest budgets the far object store alone,
+ * ReplayedTickBudgetTest the whole {@link org.destinationsol.game.SolGame#update()} of a game steered by a scripted
+ * input log.
+ */
+public final class AllocationBudget {
+
+    private AllocationBudget() { } // empty private constructor for utility class
+
+    /**
+     * Runs a scripted scenario tick by tick and fails if its steady state allocates more than the budget.
+     * The warm up ticks let the scenario fill its pools and the JIT compile it, the budget is then checked against the
+     * mean of the measured ticks. Skips the test on JVMs that can't count the allocated bytes.
+     *
+     * @param scenario      The name of the scenario, for the failure message
+     * @param tick          Runs one tick of the scenario, gets the index of the tick
+     * @param warmUpTicks   The number of ticks run before measuring
+     * @param measuredTicks The number of ticks measured
+     * @param bytesPerTick  The budget, in bytes per tick
+     */
+    public static void assertTickBudget(String scenario, Tick tick, int warmUpTicks, int measuredTicks, long bytesPerTick) {
+        Assume.assumeTrue("Allocated bytes can't be counted on this JVM", AllocationTracker.isSupported());
+        for (int i = 0; i < warmUpTicks; i++) {
+            tick.run(i);
+        }
+        long worstTick = 0;
+        long total = 0;
+        for (int i = 0; i < measuredTicks; i++) {
+            long before = AllocationTracker.getAllocatedBytes();
+            tick.run(warmUpTicks + i);
+            long allocated = AllocationTracker.getAllocatedBytes() - before;
+            total += allocated;
+            worstTick = Math.max(worstTick, allocated);
+        }
+        long mean = total / measuredTicks;
+        if (mean > bytesPerTick) {
+            fail(String.format("%s allocated %d bytes per tick (worst tick %d bytes), the budget is %d bytes per tick",
+                    scenario, mean, worstTick, bytesPerTick));
+        }
+    }
+
+    @FunctionalInterface
+    public interface Tick {
+        void run(int tick);
+    }
+}
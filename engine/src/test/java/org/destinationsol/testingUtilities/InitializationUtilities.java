@@ -22,6 +22,7 @@
 
 public final class InitializationUtilities {
 
+    public static SolApplication solApplication;
     public static SolGame game;
     private static boolean initialized;
 
@@ -39,7 +40,8 @@ public static void init() {
         } catch (InterruptedException e) {
             e.printStackTrace();
         }
-        game = ((SolApplication) application.getApplicationListener()).getGame();
+        solApplication = (SolApplication) application.getApplicationListener();
+        game = solApplication.getGame();
     }
 }
 